@@ -0,0 +1,831 @@
+package com.example.openapi.client;
+
+import com.example.openapi.client.cache.ResponseCache;
+import com.example.openapi.client.cache.SingleFlight;
+import com.example.openapi.client.codec.JsonCodec;
+import com.example.openapi.client.codec.ResponseDecoder;
+import com.example.openapi.client.interceptor.Exchange;
+import com.example.openapi.client.interceptor.InterceptorChain;
+import com.example.openapi.client.interceptor.TimingInterceptor;
+import com.example.openapi.client.resilience.CircuitBreaker;
+import com.example.openapi.client.resilience.Deadline;
+import com.example.openapi.client.resilience.HedgePolicy;
+import com.example.openapi.client.resilience.LaneDispatcher;
+import com.example.openapi.client.resilience.RateLimiter;
+import com.example.openapi.client.resilience.RetryPolicy;
+import com.example.openapi.utils.CanonicalQuery;
+import com.example.openapi.utils.Signer;
+import com.example.openapi.utils.TimestampSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * HashEx API客户端
+ */
+public class ApiClient implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ApiClient.class);
+    private static final BodyReader<String> STRING_BODY = EntityUtils::toString;
+    private final String baseUrl;
+    // 耗时统计、自定义拦截器、错误映射及签名
+    private final TimingInterceptor timing;
+    private final InterceptorChain interceptors;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    // 分道调度器及各通道独立的连接池，未启用时为空
+    private final LaneDispatcher laneDispatcher;
+    private final PoolingHttpClientConnectionManager[] laneConnectionManagers;
+    private final CloseableHttpClient[] laneHttpClients;
+    // HTTP/2模式下的多路复用传输，未启用时为空
+    private final AsyncApiClient http2Client;
+    // 客户端限流器，未配置时为空
+    private final RateLimiter rateLimiter;
+    // 熔断器，未配置时不熔断
+    private final CircuitBreaker circuitBreaker;
+    // 重试策略，未配置时不重试
+    private final RetryPolicy retryPolicy;
+    // 对冲请求策略及执行线程，未配置时为空
+    private final HedgePolicy hedgePolicy;
+    private final ExecutorService hedgeExecutor;
+    // 相同公共GET请求合并，未启用时为空
+    private final SingleFlight<String, String> singleFlight;
+    private final SingleFlight<List<Object>, Object> decodedFlight;
+    // 公共接口响应缓存，未配置时为空
+    private final ResponseCache responseCache;
+    // 各端点预编译的请求模板
+    private final RequestTemplates templates;
+    // 本客户端的请求时间戳来源，由时钟同步写入偏移
+    private final TimestampSource timestampSource;
+    // 服务器时钟同步，未配置时为空
+    private final ClockSync clockSync;
+    private final long clockSyncIntervalMillis;
+
+    public ApiClient(String baseUrl) {
+        this(new HashExApiConfig(baseUrl, null, null));
+    }
+
+
+    /**
+     * 构造函数
+     *
+     * @param baseUrl API基础URL
+     * @param accessKey 访问密钥
+     * @param secretKey 秘密密钥
+     */
+    public ApiClient(String baseUrl, String accessKey, String secretKey) {
+        this(new HashExApiConfig(baseUrl, accessKey, secretKey));
+    }
+
+    /**
+     * 根据配置构造客户端，使用连接池复用TCP/TLS连接
+     * <p>
+     * 启用 {@link HashExApiConfig#setHttp2Enabled(boolean)} 后，请求经由ALPN协商的HTTP/2连接多路复用发送，
+     * 多个调用线程的并发请求共享同一条连接；服务端不支持h2时自动回退HTTP/1.1。
+     * <p>
+     * 配置 {@link HashExApiConfig#setLaneDispatcher(LaneDispatcher)} 后，交易、普通查询、批量历史三个通道
+     * 各用一个连接池，并按通道限制并发、优先放行交易请求。
+     *
+     * <p>
+     * 配置了时钟同步间隔时只创建 {@link ClockSync}，不会在构造期间发出请求；
+     * 需调用 {@link #startClockSync()} 开始同步，或使用 {@link #create(HashExApiConfig)} 构造。
+     *
+     * @param config API配置（基础URL、密钥、连接池及超时参数）
+     */
+    public ApiClient(HashExApiConfig config) {
+        this.baseUrl = config.getBaseUrl();
+        this.timestampSource = new TimestampSource();
+        Signer signer = config.getApiKey() != null && config.getSecretKey() != null
+                ? new Signer(config.getApiKey(), config.getSecretKey(), timestampSource) : null;
+        this.timing = new TimingInterceptor();
+        this.interceptors = InterceptorChain.standard(timing, config.getInterceptors(), config.getCircuitBreaker(), signer);
+        this.rateLimiter = config.getRateLimiter();
+        this.circuitBreaker = config.getCircuitBreaker();
+        this.retryPolicy = config.getRetryPolicy();
+        this.hedgePolicy = config.isHttp2Enabled() ? null : config.getHedgePolicy();
+        this.hedgeExecutor = hedgePolicy != null ? newHedgeExecutor() : null;
+        this.singleFlight = config.isSingleFlightEnabled() ? new SingleFlight<>() : null;
+        this.decodedFlight = config.isSingleFlightEnabled() ? new SingleFlight<>() : null;
+        this.responseCache = config.getResponseCache();
+        this.templates = new RequestTemplates(config);
+        this.laneDispatcher = config.isHttp2Enabled() ? null : config.getLaneDispatcher();
+        if (config.isHttp2Enabled()) {
+            this.connectionManager = null;
+            this.httpClient = null;
+            this.laneConnectionManagers = null;
+            this.laneHttpClients = null;
+            this.http2Client = new AsyncApiClient(config, timestampSource);
+        } else if (laneDispatcher == null) {
+            this.connectionManager = HttpTransports.createConnectionManager(config);
+            this.httpClient = HttpTransports.createHttpClient(config, connectionManager);
+            this.laneConnectionManagers = null;
+            this.laneHttpClients = null;
+            this.http2Client = null;
+        } else {
+            // 每个通道一个连接池，大小等于通道并发上限，批量查询不会占用交易通道的连接
+            this.connectionManager = null;
+            this.httpClient = null;
+            Lane[] lanes = Lane.values();
+            this.laneConnectionManagers = new PoolingHttpClientConnectionManager[lanes.length];
+            this.laneHttpClients = new CloseableHttpClient[lanes.length];
+            for (Lane lane : lanes) {
+                int limit = laneDispatcher.getLimit(lane);
+                laneConnectionManagers[lane.ordinal()] = HttpTransports.createConnectionManager(config, limit, limit);
+                laneHttpClients[lane.ordinal()] = HttpTransports.createHttpClient(config,
+                        laneConnectionManagers[lane.ordinal()]);
+            }
+            this.http2Client = null;
+        }
+        if (config.getClockSyncIntervalMillis() > 0) {
+            this.clockSync = new ClockSync(this, timestampSource);
+            this.clockSyncIntervalMillis = config.getClockSyncIntervalMillis();
+        } else {
+            this.clockSync = null;
+            this.clockSyncIntervalMillis = 0;
+        }
+        logger.debug("初始化连接池: maxTotal={}, maxPerRoute={}, ttl={}ms, http2={}",
+                config.getMaxTotalConnections(), config.getMaxConnectionsPerRoute(),
+                config.getConnectionTimeToLiveMillis(), config.isHttp2Enabled());
+    }
+
+    /**
+     * 构造客户端，配置了时钟同步间隔时在构造完成后立即开始后台同步
+     *
+     * @param config API配置
+     * @return 客户端
+     */
+    public static ApiClient create(HashExApiConfig config) {
+        ApiClient client = new ApiClient(config);
+        client.startClockSync();
+        return client;
+    }
+
+    /**
+     * 开始后台时钟同步：立即同步一次，之后按配置的间隔同步；未配置或已开始时不做任何事
+     */
+    public void startClockSync() {
+        if (clockSync != null) {
+            clockSync.start(clockSyncIntervalMillis);
+        }
+    }
+
+    /**
+     * 获取连接池使用统计
+     *
+     * @return 租用中(leased)、空闲可用(available)、等待中(pending)的连接数及上限
+     */
+    public PoolStats getPoolStats() {
+        if (http2Client != null) {
+            return http2Client.getPoolStats();
+        }
+        if (laneConnectionManagers == null) {
+            return connectionManager.getTotalStats();
+        }
+        int leased = 0;
+        int pending = 0;
+        int available = 0;
+        int max = 0;
+        for (PoolingHttpClientConnectionManager manager : laneConnectionManagers) {
+            PoolStats stats = manager.getTotalStats();
+            leased += stats.getLeased();
+            pending += stats.getPending();
+            available += stats.getAvailable();
+            max += stats.getMax();
+        }
+        return new PoolStats(leased, pending, available, max);
+    }
+
+    /**
+     * 获取指定通道连接池的使用统计，未启用分道调度时返回共用连接池的统计
+     *
+     * @param lane 请求通道
+     * @return 连接池统计
+     */
+    public PoolStats getPoolStats(Lane lane) {
+        if (laneConnectionManagers == null) {
+            return getPoolStats();
+        }
+        return laneConnectionManagers[lane.ordinal()].getTotalStats();
+    }
+
+    /**
+     * 发送GET请求
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @return 响应字符串
+     * @throws HashExApiException 如果API调用失败
+     */
+    public String sendGetRequest(String endpoint, TreeMap<String, String> queryParams,boolean needAuth) throws HashExApiException {
+        if (needAuth || (singleFlight == null && responseCache == null)) {
+            return executeGet(endpoint, queryParams, needAuth, null);
+        }
+        String key = SingleFlight.keyOf(endpoint, queryParams);
+        if (responseCache != null && responseCache.isCacheable(endpoint)) {
+            return responseCache.get(endpoint, key, () -> coalescedGet(key, endpoint, queryParams));
+        }
+        return coalescedGet(key, endpoint, queryParams);
+    }
+
+    /**
+     * 并发的相同公共GET请求只发送一次
+     */
+    private String coalescedGet(String key, String endpoint, TreeMap<String, String> queryParams) throws HashExApiException {
+        if (singleFlight == null) {
+            return executeGet(endpoint, queryParams, false, null);
+        }
+        return singleFlight.call(key, () -> executeGet(endpoint, queryParams, false, null));
+    }
+
+    /**
+     * 发送GET请求并解码为目标类型
+     * <p>
+     * 启用请求合并时，并发的相同公共GET请求共享一次网络请求和一次解码结果，返回对象应视为只读。
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param needAuth 是否需要签名
+     * @param decoder 响应解码函数
+     * @return 解码后的结果
+     * @throws HashExApiException 如果API调用失败
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T sendGetRequest(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                                Function<String, T> decoder) throws HashExApiException {
+        if (decodedFlight != null && !needAuth) {
+            List<Object> key = Arrays.asList(decoder, SingleFlight.keyOf(endpoint, queryParams));
+            return (T) decodedFlight.call(key, () -> decoder.apply(sendGetRequest(endpoint, queryParams, false)));
+        }
+        return decoder.apply(sendGetRequest(endpoint, queryParams, needAuth));
+    }
+
+    /**
+     * 发送GET请求，由调用方控制截止时间
+     * <p>
+     * 同一截止时间覆盖全部重试及对冲请求；其他线程调用 {@link Deadline#cancel()} 时中止进行中的请求，
+     * 本方法随即抛出异常。不经过响应缓存和请求合并。
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param needAuth 是否需要签名
+     * @param deadline 截止时间，取代端点的总超时
+     * @return 响应字符串
+     * @throws HashExApiException 如果API调用失败、到期或被取消
+     */
+    public String sendGetRequest(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                                 Deadline deadline) throws HashExApiException {
+        return executeGet(endpoint, queryParams, needAuth, deadline);
+    }
+
+    /**
+     * @param callerDeadline 调用方传入的截止时间，为空时按端点总超时创建
+     */
+    private String executeGet(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                              Deadline callerDeadline) throws HashExApiException {
+        if (http2Client != null) {
+            return await(http2Client.sendGetRequest(endpoint, queryParams, needAuth, callerDeadline));
+        }
+        Deadline deadline = deadlineFor(endpoint, callerDeadline);
+        if (retryPolicy != null) {
+            return retryPolicy.execute("GET", endpoint, queryParams, deadline,
+                    () -> hedgedGet(endpoint, queryParams, needAuth, deadline));
+        }
+        return hedgedGet(endpoint, queryParams, needAuth, deadline);
+    }
+
+    /**
+     * 对已登记的公共端点发送对冲请求，其余请求直接执行
+     */
+    private String hedgedGet(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                             Deadline deadline) throws HashExApiException {
+        if (hedgePolicy == null || !hedgePolicy.isHedged(endpoint, needAuth)) {
+            return doGet(endpoint, queryParams, needAuth, null, deadline, STRING_BODY);
+        }
+        return await(hedgePolicy.execute(endpoint, () -> startGet(endpoint, queryParams, needAuth, deadline)));
+    }
+
+    /**
+     * 在对冲线程上发送GET请求，返回的future被取消时中止请求并释放连接
+     */
+    private CompletableFuture<String> startGet(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                                               Deadline deadline) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        hedgeExecutor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(doGet(endpoint, queryParams, needAuth, future, deadline, STRING_BODY));
+            } catch (HashExApiException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 执行一次GET请求，每次调用都经过拦截器链重新签名
+     *
+     * @param cancelSignal 被取消时中止请求，可为空
+     * @param deadline 截止时间，可为空
+     * @param reader 响应体读取方式
+     */
+    private <T> T doGet(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                        CompletableFuture<?> cancelSignal, Deadline deadline, BodyReader<T> reader)
+            throws HashExApiException {
+        if (circuitBreaker != null) {
+            // 熔断期间不必等待限流和通道许可
+            circuitBreaker.rejectIfOpen(endpoint);
+        }
+        if (rateLimiter != null) {
+            rateLimiter.acquire(endpoint, deadline);
+        }
+        RequestTemplate template = templates.get(endpoint);
+        Lane lane = acquireLane(template, deadline);
+        try {
+            // 一次遍历参数，同时生成签名原始字符串和查询串
+            CanonicalQuery query = CanonicalQuery.of(queryParams);
+            HttpGet httpGet;
+            try {
+                httpGet = new HttpGet(template.uri(query));
+            } catch (URISyntaxException e) {
+                throw new HashExApiException("执行GET请求时出错: " + e.getMessage(), e);
+            }
+            Exchange exchange = new Exchange("GET", endpoint, queryParams, query, needAuth, httpGet);
+            if (cancelSignal != null) {
+                cancelSignal.whenComplete((body, error) -> {
+                    if (cancelSignal.isCancelled()) {
+                        // 对冲中落败的请求，中止引起的失败不计入熔断和耗时统计
+                        exchange.markCancelled();
+                        httpGet.cancel();
+                    }
+                });
+            }
+            return execute(exchange, template, httpGet, deadline, reader);
+        } finally {
+            releaseLane(lane);
+        }
+    }
+
+    /**
+     * 获取请求合并统计，未启用时返回空
+     */
+    public SingleFlight<String, String> getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * 发送POST请求
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @return 响应字符串
+     * @throws HashExApiException 如果API调用失败
+     */
+    public String sendPostRequest(String endpoint, TreeMap<String, String> queryParams) throws HashExApiException {
+        return sendPostRequest(endpoint, queryParams, (Deadline) null);
+    }
+
+    /**
+     * 发送POST请求，由调用方控制截止时间
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param deadline 截止时间，取代端点的总超时；为空时按端点总超时
+     * @return 响应字符串
+     * @throws HashExApiException 如果API调用失败、到期或被取消
+     * @see #sendGetRequest(String, TreeMap, boolean, Deadline)
+     */
+    public String sendPostRequest(String endpoint, TreeMap<String, String> queryParams,
+                                  Deadline deadline) throws HashExApiException {
+        if (http2Client != null) {
+            return await(http2Client.sendPostRequest(endpoint, queryParams, deadline));
+        }
+        Deadline callDeadline = deadlineFor(endpoint, deadline);
+        if (retryPolicy != null) {
+            return retryPolicy.execute("POST", endpoint, queryParams, callDeadline,
+                    () -> doPost(endpoint, queryParams, callDeadline, STRING_BODY));
+        }
+        return doPost(endpoint, queryParams, callDeadline, STRING_BODY);
+    }
+
+    /**
+     * 执行一次POST请求，每次调用都经过拦截器链重新签名
+     */
+    private <T> T doPost(String endpoint, TreeMap<String, String> queryParams, Deadline deadline,
+                         BodyReader<T> reader) throws HashExApiException {
+        if (circuitBreaker != null) {
+            // 熔断期间不必等待限流和通道许可
+            circuitBreaker.rejectIfOpen(endpoint);
+        }
+        if (rateLimiter != null) {
+            rateLimiter.acquire(endpoint, deadline);
+        }
+        RequestTemplate template = templates.get(endpoint);
+        Lane lane = acquireLane(template, deadline);
+        try {
+            // 一次遍历参数，同时生成签名原始字符串和查询串
+            CanonicalQuery query = CanonicalQuery.of(queryParams);
+            HttpPost httpPost;
+            try {
+                httpPost = new HttpPost(template.uri(query));
+            } catch (URISyntaxException e) {
+                throw new HashExApiException("执行POST请求时出错: " + e.getMessage(), e);
+            }
+            return execute(new Exchange("POST", endpoint, queryParams, query, true, httpPost), template, httpPost,
+                    deadline, reader);
+        } finally {
+            releaseLane(lane);
+        }
+    }
+
+    /**
+     * 启用分道调度时阻塞等待通道许可，交易通道排队的请求优先获得许可
+     *
+     * @return 获得许可的通道，未启用时为空
+     */
+    private Lane acquireLane(RequestTemplate template, Deadline deadline) throws HashExApiException {
+        if (laneDispatcher == null) {
+            return null;
+        }
+        laneDispatcher.acquire(template.getLane(), deadline);
+        return template.getLane();
+    }
+
+    private void releaseLane(Lane lane) {
+        if (lane != null) {
+            laneDispatcher.release(lane);
+        }
+    }
+
+    /**
+     * 中止进行中的请求；请求恰好结束、连接正在归还时httpclient可能抛出异常，此时请求已经结束，忽略即可
+     */
+    private static void abort(HttpUriRequestBase request) {
+        try {
+            request.cancel();
+        } catch (RuntimeException e) {
+            logger.debug("中止请求时出错: {}", e.getMessage());
+        }
+    }
+
+    private Deadline deadlineFor(String endpoint, Deadline callerDeadline) {
+        return callerDeadline != null ? callerDeadline : templates.get(endpoint).newDeadline();
+    }
+
+    /**
+     * 经过拦截器链发送请求：签名、耗时统计及错误映射均由拦截器完成
+     * <p>
+     * 拦截器短路时不发送请求，短路返回的响应文本同样按reader解码。
+     * 连接及响应超时不超过截止时间的剩余时间，到期或取消时中止请求。
+     */
+    private <T> T execute(Exchange exchange, RequestTemplate template, HttpUriRequestBase request,
+                          Deadline deadline, BodyReader<T> reader) throws HashExApiException {
+        request.setConfig(template.requestConfig(deadline));
+        Runnable unregister = null;
+        try {
+            if (deadline != null) {
+                if (deadline.isExpired()) {
+                    // 限流、通道排队或退避期间已经到期，不再签名发送
+                    throw deadline.toException(exchange.getEndpoint());
+                }
+                unregister = deadline.onExpiry(() -> abort(request));
+            }
+            if (interceptors.before(exchange)) {
+                T result = reader.read(new StringEntity(exchange.getResponseBody(), ContentType.APPLICATION_JSON));
+                interceptors.after(exchange, exchange.getStatusCode(), exchange.getResponseBody());
+                return result;
+            }
+            try (CloseableHttpResponse response = httpClientFor(template).execute(request)) {
+                int statusCode = response.getCode();
+                if (statusCode >= 200 && statusCode < 300) {
+                    T result = readBody(reader, response.getEntity(), statusCode);
+                    interceptors.after(exchange, statusCode, result instanceof String ? (String) result : null);
+                    return result;
+                }
+                // 非2xx由错误映射拦截器转换为异常
+                interceptors.after(exchange, statusCode, EntityUtils.toString(response.getEntity()));
+                throw new HashExApiException("API请求失败，状态码: " + statusCode, statusCode);
+            }
+        } catch (Exception e) {
+            // 被截止时间中止的请求表现为连接关闭或取消，统一转换为不可重试的超时异常
+            boolean aborted = deadline != null && deadline.isExpired() && !(e instanceof HashExApiException);
+            if (deadline != null && deadline.isCancelled()) {
+                exchange.markCancelled();
+            }
+            throw interceptors.error(exchange, aborted ? deadline.toException(exchange.getEndpoint()) : e);
+        } finally {
+            if (unregister != null) {
+                unregister.run();
+            }
+        }
+    }
+
+    /**
+     * 读取2xx响应体
+     * <p>
+     * 响应格式错误或与目标类型不符时服务端已经处理了请求（例如下单已被受理），转换为带状态码的异常：
+     * 不会被重试，也不计为熔断失败。读取响应流本身的I/O异常仍按瞬时故障处理。
+     */
+    private static <T> T readBody(BodyReader<T> reader, HttpEntity entity, int statusCode)
+            throws IOException, HashExApiException {
+        try {
+            return reader.read(entity);
+        } catch (JsonProcessingException | ParseException | RuntimeException e) {
+            throw new HashExApiException("解析响应时出错: " + e.getMessage(), statusCode, e);
+        }
+    }
+
+    /**
+     * 发送GET请求，直接从响应流解码为目标类型，响应体不会复制为字符串
+     * <p>
+     * 适用于全量行情、历史订单等大响应；不经过响应缓存和请求合并。
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param needAuth 是否需要签名
+     * @param type 目标类型，例如 {@code new TypeReference<ApiResponse<List<TickerVO>>>() {}}
+     * @return 解码结果
+     * @throws HashExApiException 如果API调用或解码失败
+     */
+    public <T> T getForObject(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                              TypeReference<T> type) throws HashExApiException {
+        return getForObject(endpoint, queryParams, needAuth, JsonCodec.decoder(type));
+    }
+
+    /**
+     * 发送GET请求，由解码函数直接从响应流解码，响应体不会复制为字符串
+     * <p>
+     * 不经过响应缓存和请求合并。
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param needAuth 是否需要签名
+     * @param decoder 响应解码函数
+     * @return 解码结果
+     * @throws HashExApiException 如果API调用或解码失败
+     */
+    public <T> T getForObject(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                              ResponseDecoder<T> decoder) throws HashExApiException {
+        if (http2Client != null) {
+            return decode(await(http2Client.sendGetRequest(endpoint, queryParams, needAuth)), decoder);
+        }
+        BodyReader<T> reader = body(decoder);
+        Deadline deadline = deadlineFor(endpoint, null);
+        if (retryPolicy != null) {
+            return retryPolicy.execute("GET", endpoint, queryParams, deadline,
+                    () -> doGet(endpoint, queryParams, needAuth, null, deadline, reader));
+        }
+        return doGet(endpoint, queryParams, needAuth, null, deadline, reader);
+    }
+
+    /**
+     * 发送POST请求，直接从响应流解码为目标类型，响应体不会复制为字符串
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param type 目标类型
+     * @return 解码结果
+     * @throws HashExApiException 如果API调用或解码失败
+     */
+    public <T> T postForObject(String endpoint, TreeMap<String, String> queryParams,
+                               TypeReference<T> type) throws HashExApiException {
+        return postForObject(endpoint, queryParams, JsonCodec.decoder(type));
+    }
+
+    /**
+     * 发送POST请求，由解码函数直接从响应流解码，响应体不会复制为字符串
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param decoder 响应解码函数
+     * @return 解码结果
+     * @throws HashExApiException 如果API调用或解码失败
+     */
+    public <T> T postForObject(String endpoint, TreeMap<String, String> queryParams,
+                               ResponseDecoder<T> decoder) throws HashExApiException {
+        if (http2Client != null) {
+            return decode(await(http2Client.sendPostRequest(endpoint, queryParams)), decoder);
+        }
+        BodyReader<T> reader = body(decoder);
+        Deadline deadline = deadlineFor(endpoint, null);
+        if (retryPolicy != null) {
+            return retryPolicy.execute("POST", endpoint, queryParams, deadline,
+                    () -> doPost(endpoint, queryParams, deadline, reader));
+        }
+        return doPost(endpoint, queryParams, deadline, reader);
+    }
+
+    /**
+     * 按端点目录发送GET请求，是否签名由端点决定
+     *
+     * @param endpoint 目录中的GET端点
+     * @param queryParams 查询参数
+     * @return 响应字符串
+     * @throws HashExApiException 如果API调用失败
+     */
+    public String sendGetRequest(Endpoint endpoint, TreeMap<String, String> queryParams) throws HashExApiException {
+        return sendGetRequest(endpoint.pathFor(Method.GET), queryParams, endpoint.isAuthRequired());
+    }
+
+    /**
+     * 按端点目录发送GET请求并解码为目标类型
+     *
+     * @see #sendGetRequest(String, TreeMap, boolean, Function)
+     */
+    public <T> T sendGetRequest(Endpoint endpoint, TreeMap<String, String> queryParams,
+                                Function<String, T> decoder) throws HashExApiException {
+        return sendGetRequest(endpoint.pathFor(Method.GET), queryParams, endpoint.isAuthRequired(), decoder);
+    }
+
+    /**
+     * 按端点目录发送GET请求，直接从响应流解码
+     *
+     * @see #getForObject(String, TreeMap, boolean, TypeReference)
+     */
+    public <T> T getForObject(Endpoint endpoint, TreeMap<String, String> queryParams,
+                              TypeReference<T> type) throws HashExApiException {
+        return getForObject(endpoint.pathFor(Method.GET), queryParams, endpoint.isAuthRequired(), type);
+    }
+
+    /**
+     * 按端点目录发送GET请求，由解码函数直接从响应流解码
+     *
+     * @see #getForObject(String, TreeMap, boolean, ResponseDecoder)
+     */
+    public <T> T getForObject(Endpoint endpoint, TreeMap<String, String> queryParams,
+                              ResponseDecoder<T> decoder) throws HashExApiException {
+        return getForObject(endpoint.pathFor(Method.GET), queryParams, endpoint.isAuthRequired(), decoder);
+    }
+
+    /**
+     * 按端点目录发送POST请求
+     *
+     * @param endpoint 目录中的POST端点
+     * @param queryParams 查询参数
+     * @return 响应字符串
+     * @throws HashExApiException 如果API调用失败
+     */
+    public String sendPostRequest(Endpoint endpoint, TreeMap<String, String> queryParams) throws HashExApiException {
+        return sendPostRequest(endpoint.pathFor(Method.POST), queryParams);
+    }
+
+    /**
+     * 按端点目录发送GET请求，由调用方控制截止时间
+     *
+     * @see #sendGetRequest(String, TreeMap, boolean, Deadline)
+     */
+    public String sendGetRequest(Endpoint endpoint, TreeMap<String, String> queryParams,
+                                 Deadline deadline) throws HashExApiException {
+        return sendGetRequest(endpoint.pathFor(Method.GET), queryParams, endpoint.isAuthRequired(), deadline);
+    }
+
+    /**
+     * 按端点目录发送POST请求，由调用方控制截止时间
+     *
+     * @see #sendPostRequest(String, TreeMap, Deadline)
+     */
+    public String sendPostRequest(Endpoint endpoint, TreeMap<String, String> queryParams,
+                                  Deadline deadline) throws HashExApiException {
+        return sendPostRequest(endpoint.pathFor(Method.POST), queryParams, deadline);
+    }
+
+    /**
+     * 按端点目录发送POST请求，直接从响应流解码
+     *
+     * @see #postForObject(String, TreeMap, TypeReference)
+     */
+    public <T> T postForObject(Endpoint endpoint, TreeMap<String, String> queryParams,
+                               TypeReference<T> type) throws HashExApiException {
+        return postForObject(endpoint.pathFor(Method.POST), queryParams, type);
+    }
+
+    /**
+     * 按端点目录发送POST请求，由解码函数直接从响应流解码
+     *
+     * @see #postForObject(String, TreeMap, ResponseDecoder)
+     */
+    public <T> T postForObject(Endpoint endpoint, TreeMap<String, String> queryParams,
+                               ResponseDecoder<T> decoder) throws HashExApiException {
+        return postForObject(endpoint.pathFor(Method.POST), queryParams, decoder);
+    }
+
+    /**
+     * 响应体读取方式
+     */
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(HttpEntity entity) throws IOException, ParseException;
+    }
+
+    private static <T> BodyReader<T> body(ResponseDecoder<T> decoder) {
+        return entity -> decoder.decode(entity.getContent());
+    }
+
+    private static <T> T decode(String body, ResponseDecoder<T> decoder) throws HashExApiException {
+        try {
+            return decoder.decode(body);
+        } catch (IOException e) {
+            throw new HashExApiException("解析响应时出错: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 阻塞等待异步请求结果，异常统一转换为 {@link HashExApiException}
+     */
+    private static String await(CompletableFuture<String> future) throws HashExApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new HashExApiException("请求被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HashExApiException) {
+                throw (HashExApiException) cause;
+            }
+            throw new HashExApiException("执行请求时出错: " + cause.getMessage(), cause);
+        }
+    }
+
+    private CloseableHttpClient httpClientFor(RequestTemplate template) {
+        return laneHttpClients != null ? laneHttpClients[template.getLane().ordinal()] : httpClient;
+    }
+
+    private static ExecutorService newHedgeExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "hashex-hedge-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 获取按端点的请求耗时统计；HTTP/2模式下为底层异步客户端的统计
+     */
+    public TimingInterceptor getTimingInterceptor() {
+        return http2Client != null ? http2Client.getTimingInterceptor() : timing;
+    }
+
+    /**
+     * 获取服务器时钟同步状态，未启用时返回空
+     */
+    public ClockSync getClockSync() {
+        return clockSync;
+    }
+
+    /**
+     * 获取本客户端的请求时间戳来源，时钟同步的偏移写入这里，不影响其他客户端
+     */
+    public TimestampSource getTimestampSource() {
+        return timestampSource;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (clockSync != null) {
+            clockSync.close();
+        }
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdownNow();
+        }
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (laneHttpClients != null) {
+            for (CloseableHttpClient laneHttpClient : laneHttpClients) {
+                laneHttpClient.close();
+            }
+        }
+        if (http2Client != null) {
+            http2Client.close();
+        }
+    }
+}
@@ -0,0 +1,645 @@
+package com.example.openapi.client;
+
+import com.example.openapi.client.cache.ResponseCache;
+import com.example.openapi.client.cache.SingleFlight;
+import com.example.openapi.client.codec.ContentEncodings;
+import com.example.openapi.client.interceptor.Exchange;
+import com.example.openapi.client.interceptor.InterceptorChain;
+import com.example.openapi.client.interceptor.TimingInterceptor;
+import com.example.openapi.client.resilience.CircuitBreaker;
+import com.example.openapi.client.resilience.Deadline;
+import com.example.openapi.client.resilience.HedgePolicy;
+import com.example.openapi.client.resilience.LaneDispatcher;
+import com.example.openapi.client.resilience.RateLimiter;
+import com.example.openapi.client.resilience.RetryPolicy;
+import com.example.openapi.utils.CanonicalQuery;
+import com.example.openapi.utils.Signer;
+import com.example.openapi.utils.TimestampSource;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * HashEx API异步客户端
+ * <p>
+ * 基于非阻塞I/O，请求不占用调用线程，少量I/O线程即可同时挂起数百个行情/下单请求。
+ * 签名、耗时统计及错误映射与 {@link ApiClient} 共用同一套 {@link InterceptorChain}。
+ * <p>
+ * 启用HTTP/2时，构造后在后台线程通过ALPN协商确认服务端支持h2，之后所有请求复用同一条连接的多个流；
+ * 协商完成前、服务端不支持h2或协商失败后的退避期内使用HTTP/1.1连接池，协商不会阻塞调用线程或I/O线程。
+ * <p>
+ * 每次调用受端点总超时限制（见 {@link com.example.openapi.client.resilience.TimeoutPolicy}），
+ * 到期时返回的future以 {@link HashExApiException} 异常完成并中止进行中的请求；取消返回的future同样会中止请求。
+ */
+public class AsyncApiClient implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncApiClient.class);
+    // ALPN协商失败后，经过该时长才重新协商
+    private static final long NEGOTIATION_BACKOFF_MILLIS = 30_000;
+    private final String baseUrl;
+    // 耗时统计、自定义拦截器、错误映射及签名
+    private final TimingInterceptor timing;
+    private final InterceptorChain interceptors;
+    private final HashExApiConfig config;
+    private final PoolingAsyncClientConnectionManager connectionManager;
+    private final CloseableHttpAsyncClient httpClient;
+    // HTTP/2多路复用客户端，未启用HTTP/2时为空
+    private final CloseableHttpAsyncClient http2Client;
+    // ALPN协商后选定的传输，为空表示尚未协商成功
+    private volatile CloseableHttpAsyncClient activeClient;
+    private final AtomicBoolean negotiating = new AtomicBoolean();
+    // 下次允许发起协商的 System.nanoTime()
+    private volatile long nextNegotiationNanos = System.nanoTime();
+    // 客户端限流器，未配置时为空
+    private final RateLimiter rateLimiter;
+    // 熔断器，未配置时不熔断
+    private final CircuitBreaker circuitBreaker;
+    // 重试策略，未配置时不重试
+    private final RetryPolicy retryPolicy;
+    // 对冲请求策略，未配置时为空
+    private final HedgePolicy hedgePolicy;
+    // 分道调度器，未配置时为空
+    private final LaneDispatcher laneDispatcher;
+    // 相同公共GET请求合并，未启用时为空
+    private final SingleFlight<String, String> singleFlight;
+    private final SingleFlight<List<Object>, Object> decodedFlight;
+    // 公共接口响应缓存，未配置时为空
+    private final ResponseCache responseCache;
+    // 各端点预编译的请求模板
+    private final RequestTemplates templates;
+    // 本客户端的请求时间戳来源
+    private final TimestampSource timestampSource;
+
+    public AsyncApiClient(String baseUrl) {
+        this(new HashExApiConfig(baseUrl, null, null));
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param baseUrl API基础URL
+     * @param accessKey 访问密钥
+     * @param secretKey 秘密密钥
+     */
+    public AsyncApiClient(String baseUrl, String accessKey, String secretKey) {
+        this(new HashExApiConfig(baseUrl, accessKey, secretKey));
+    }
+
+    /**
+     * 根据配置构造异步客户端
+     * <p>
+     * 配置分道调度器时按通道限制并发并优先放行交易请求；异步请求排队时不占用线程和连接，
+     * 各通道共用一个连接池，连接池大小应不小于调度器的总并发上限。
+     *
+     * @param config API配置（基础URL、密钥、连接池、I/O线程数及超时参数）
+     */
+    public AsyncApiClient(HashExApiConfig config) {
+        this(config, new TimestampSource());
+    }
+
+    /**
+     * 根据配置构造异步客户端，签名时间戳取自给定的时间戳来源
+     *
+     * @param config API配置
+     * @param timestampSource 请求时间戳来源，HTTP/2模式下与同步客户端的时钟同步共用
+     */
+    AsyncApiClient(HashExApiConfig config, TimestampSource timestampSource) {
+        this.baseUrl = config.getBaseUrl();
+        this.timestampSource = timestampSource;
+        Signer signer = config.getApiKey() != null && config.getSecretKey() != null
+                ? new Signer(config.getApiKey(), config.getSecretKey(), timestampSource) : null;
+        this.timing = new TimingInterceptor();
+        this.interceptors = InterceptorChain.standard(timing, config.getInterceptors(), config.getCircuitBreaker(), signer);
+        this.config = config;
+        this.rateLimiter = config.getRateLimiter();
+        this.circuitBreaker = config.getCircuitBreaker();
+        this.retryPolicy = config.getRetryPolicy();
+        this.hedgePolicy = config.getHedgePolicy();
+        this.laneDispatcher = config.getLaneDispatcher();
+        this.singleFlight = config.isSingleFlightEnabled() ? new SingleFlight<>() : null;
+        this.decodedFlight = config.isSingleFlightEnabled() ? new SingleFlight<>() : null;
+        this.responseCache = config.getResponseCache();
+        this.templates = new RequestTemplates(config);
+        this.connectionManager = HttpTransports.createAsyncConnectionManager(config);
+        this.httpClient = HttpTransports.createHttpAsyncClient(config, connectionManager);
+        this.httpClient.start();
+        if (config.isHttp2Enabled()) {
+            this.http2Client = HttpTransports.createHttp2AsyncClient(config);
+            this.http2Client.start();
+            negotiateAsync();
+        } else {
+            this.http2Client = null;
+            this.activeClient = httpClient;
+        }
+    }
+
+    /**
+     * 异步发送GET请求
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param needAuth 是否需要签名
+     * @return 响应字符串，失败时以 {@link HashExApiException} 异常完成
+     */
+    public CompletableFuture<String> sendGetRequest(String endpoint, TreeMap<String, String> queryParams, boolean needAuth) {
+        if (needAuth || (singleFlight == null && responseCache == null)) {
+            return executeGet(endpoint, queryParams, needAuth, null);
+        }
+        String key = SingleFlight.keyOf(endpoint, queryParams);
+        if (responseCache != null && responseCache.isCacheable(endpoint)) {
+            return responseCache.getAsync(endpoint, key, () -> coalescedGet(key, endpoint, queryParams));
+        }
+        return coalescedGet(key, endpoint, queryParams);
+    }
+
+    /**
+     * 并发的相同公共GET请求只发送一次
+     */
+    private CompletableFuture<String> coalescedGet(String key, String endpoint, TreeMap<String, String> queryParams) {
+        if (singleFlight == null) {
+            return executeGet(endpoint, queryParams, false, null);
+        }
+        return singleFlight.execute(key, () -> executeGet(endpoint, queryParams, false, null));
+    }
+
+    /**
+     * 异步发送GET请求，由调用方控制截止时间
+     * <p>
+     * 调用方持有 {@code deadline}，行情过时后调用 {@link Deadline#cancel()} 即放弃请求：不再重试，
+     * 排队中的请求不再发送，进行中的请求被中止。不经过响应缓存和请求合并。
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param needAuth 是否需要签名
+     * @param deadline 截止时间，取代端点的总超时
+     * @return 响应字符串，失败、到期或取消时以 {@link HashExApiException} 异常完成
+     */
+    public CompletableFuture<String> sendGetRequest(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                                                    Deadline deadline) {
+        return executeGet(endpoint, queryParams, needAuth, deadline);
+    }
+
+    /**
+     * @param callerDeadline 调用方传入的截止时间，为空时按端点总超时创建
+     */
+    private CompletableFuture<String> executeGet(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                                                 Deadline callerDeadline) {
+        CanonicalQuery query = CanonicalQuery.of(queryParams);
+        RequestTemplate template = templates.get(endpoint);
+        URI uri;
+        try {
+            uri = template.uri(query);
+        } catch (Exception e) {
+            return failed(new HashExApiException("执行GET请求时出错: " + e.getMessage(), e));
+        }
+        Deadline deadline = callerDeadline != null ? callerDeadline : template.newDeadline();
+        return bounded(endpoint, deadline, retried("GET", endpoint, queryParams, deadline,
+                () -> hedged(endpoint, needAuth, () -> throttled(endpoint, deadline, () -> dispatched(endpoint,
+                        () -> execute(new Exchange("GET", endpoint, queryParams, query, needAuth,
+                                SimpleRequestBuilder.get(uri).build()), deadline))))));
+    }
+
+    /**
+     * 异步发送GET请求并解码为目标类型
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param needAuth 是否需要签名
+     * @param decoder 响应解码函数
+     * @return 解码后的结果；合并请求时多个调用方共享同一结果对象，应视为只读
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> sendGetRequest(String endpoint, TreeMap<String, String> queryParams, boolean needAuth,
+                                                   Function<String, T> decoder) {
+        if (decodedFlight != null && !needAuth) {
+            List<Object> key = Arrays.asList(decoder, SingleFlight.keyOf(endpoint, queryParams));
+            return (CompletableFuture<T>) decodedFlight.execute(key,
+                    () -> sendGetRequest(endpoint, queryParams, false).thenApply(decoder));
+        }
+        return sendGetRequest(endpoint, queryParams, needAuth).thenApply(decoder);
+    }
+
+    /**
+     * 异步发送POST请求
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @return 响应字符串，失败时以 {@link HashExApiException} 异常完成
+     */
+    public CompletableFuture<String> sendPostRequest(String endpoint, TreeMap<String, String> queryParams) {
+        return sendPostRequest(endpoint, queryParams, (Deadline) null);
+    }
+
+    /**
+     * 异步发送POST请求，由调用方控制截止时间
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param deadline 截止时间，取代端点的总超时；为空时按端点总超时
+     * @return 响应字符串，失败、到期或取消时以 {@link HashExApiException} 异常完成
+     * @see #sendGetRequest(String, TreeMap, boolean, Deadline)
+     */
+    public CompletableFuture<String> sendPostRequest(String endpoint, TreeMap<String, String> queryParams,
+                                                     Deadline deadline) {
+        CanonicalQuery query = CanonicalQuery.of(queryParams);
+        RequestTemplate template = templates.get(endpoint);
+        URI uri;
+        try {
+            uri = template.uri(query);
+        } catch (Exception e) {
+            return failed(new HashExApiException("执行POST请求时出错: " + e.getMessage(), e));
+        }
+        Deadline callDeadline = deadline != null ? deadline : template.newDeadline();
+        return bounded(endpoint, callDeadline, retried("POST", endpoint, queryParams, callDeadline,
+                () -> throttled(endpoint, callDeadline, () -> dispatched(endpoint,
+                        () -> execute(new Exchange("POST", endpoint, queryParams, query, true,
+                                SimpleRequestBuilder.post(uri).build()), callDeadline)))));
+    }
+
+    /**
+     * 异步发送POST请求并解码为目标类型
+     *
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param decoder 响应解码函数
+     * @return 解码后的结果
+     */
+    public <T> CompletableFuture<T> sendPostRequest(String endpoint, TreeMap<String, String> queryParams,
+                                                    Function<String, T> decoder) {
+        return sendPostRequest(endpoint, queryParams).thenApply(decoder);
+    }
+
+    /**
+     * 按端点目录异步发送GET请求，是否签名由端点决定
+     *
+     * @param endpoint 目录中的GET端点
+     * @param queryParams 查询参数
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> sendGetRequest(Endpoint endpoint, TreeMap<String, String> queryParams) {
+        return sendGetRequest(endpoint.pathFor(Method.GET), queryParams, endpoint.isAuthRequired());
+    }
+
+    /**
+     * 按端点目录异步发送GET请求并解码为目标类型
+     *
+     * @see #sendGetRequest(String, TreeMap, boolean, Function)
+     */
+    public <T> CompletableFuture<T> sendGetRequest(Endpoint endpoint, TreeMap<String, String> queryParams,
+                                                   Function<String, T> decoder) {
+        return sendGetRequest(endpoint.pathFor(Method.GET), queryParams, endpoint.isAuthRequired(), decoder);
+    }
+
+    /**
+     * 按端点目录异步发送POST请求
+     *
+     * @param endpoint 目录中的POST端点
+     * @param queryParams 查询参数
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> sendPostRequest(Endpoint endpoint, TreeMap<String, String> queryParams) {
+        return sendPostRequest(endpoint.pathFor(Method.POST), queryParams);
+    }
+
+    /**
+     * 按端点目录异步发送GET请求，由调用方控制截止时间
+     *
+     * @see #sendGetRequest(String, TreeMap, boolean, Deadline)
+     */
+    public CompletableFuture<String> sendGetRequest(Endpoint endpoint, TreeMap<String, String> queryParams,
+                                                    Deadline deadline) {
+        return sendGetRequest(endpoint.pathFor(Method.GET), queryParams, endpoint.isAuthRequired(), deadline);
+    }
+
+    /**
+     * 按端点目录异步发送POST请求，由调用方控制截止时间
+     *
+     * @see #sendPostRequest(String, TreeMap, Deadline)
+     */
+    public CompletableFuture<String> sendPostRequest(Endpoint endpoint, TreeMap<String, String> queryParams,
+                                                     Deadline deadline) {
+        return sendPostRequest(endpoint.pathFor(Method.POST), queryParams, deadline);
+    }
+
+    /**
+     * 获取请求合并统计，未启用时返回空
+     */
+    public SingleFlight<String, String> getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * 获取HTTP/1.1连接池使用统计（HTTP/2连接不经过该连接池）
+     *
+     * @return 租用中(leased)、空闲可用(available)、等待中(pending)的连接数及上限
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * 当前是否通过HTTP/2多路复用发送请求
+     */
+    public boolean isHttp2Active() {
+        return http2Client != null && activeClient == http2Client;
+    }
+
+    /**
+     * 选择传输：协商已完成时使用选定的传输，否则使用HTTP/1.1连接池，退避期已过时在后台重新协商
+     * <p>
+     * 可能在I/O线程上调用（通道许可在响应完成时归还），不做任何阻塞操作。
+     */
+    private CloseableHttpAsyncClient transport() {
+        CloseableHttpAsyncClient client = activeClient;
+        if (client != null) {
+            return client;
+        }
+        if (System.nanoTime() - nextNegotiationNanos >= 0) {
+            negotiateAsync();
+        }
+        return httpClient;
+    }
+
+    /**
+     * 在守护线程上进行ALPN协商，同一时间只有一次协商；失败时记录退避截止时间，期间不再协商
+     */
+    private void negotiateAsync() {
+        if (!negotiating.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                boolean h2 = HttpTransports.negotiateHttp2(baseUrl, config);
+                activeClient = h2 ? http2Client : httpClient;
+                logger.info("ALPN协商完成，baseUrl: {}, 协议: {}", baseUrl, h2 ? "h2" : "http/1.1");
+            } catch (Exception e) {
+                nextNegotiationNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(NEGOTIATION_BACKOFF_MILLIS);
+                logger.warn("ALPN协商失败，{} 毫秒内使用HTTP/1.1: {}", NEGOTIATION_BACKOFF_MILLIS, e.getMessage());
+            } finally {
+                negotiating.set(false);
+            }
+        }, "hashex-alpn");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 按重试策略执行，每次尝试都重新构造请求并签名
+     */
+    private CompletableFuture<String> retried(String method, String endpoint, TreeMap<String, String> queryParams,
+                                              Deadline deadline, Supplier<CompletableFuture<String>> attempt) {
+        if (retryPolicy == null) {
+            return attempt.get();
+        }
+        return retryPolicy.executeAsync(method, endpoint, queryParams, deadline, attempt);
+    }
+
+    /**
+     * 到期时以超时异常完成返回的future，不必等待限流或通道排队结束；调用方取消返回的future时取消整个调用
+     */
+    private static CompletableFuture<String> bounded(String endpoint, Deadline deadline, CompletableFuture<String> call) {
+        if (deadline == null) {
+            return call;
+        }
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Runnable unregister = deadline.onExpiry(() -> result.completeExceptionally(deadline.toException(endpoint)));
+        call.whenComplete((body, error) -> {
+            unregister.run();
+            if (error == null) {
+                result.complete(body);
+            } else {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+        result.whenComplete((body, error) -> {
+            if (result.isCancelled()) {
+                deadline.cancel();
+                call.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 对已登记的公共端点发送对冲请求，其余请求直接执行
+     */
+    private CompletableFuture<String> hedged(String endpoint, boolean needAuth, Supplier<CompletableFuture<String>> attempt) {
+        if (hedgePolicy == null || !hedgePolicy.isHedged(endpoint, needAuth)) {
+            return attempt.get();
+        }
+        return hedgePolicy.execute(endpoint, attempt);
+    }
+
+    /**
+     * 获得限流许可后再签名并发送，保证签名时间戳不因排队等待而过期；熔断期间直接失败，不等待许可
+     * <p>
+     * 等待不超过截止时间的剩余时间；到期、取消调用或取消本次尝试（对冲中落败）时放弃等待并归还令牌。
+     */
+    private CompletableFuture<String> throttled(String endpoint, Deadline deadline,
+                                                Supplier<CompletableFuture<String>> call) {
+        if (circuitBreaker != null) {
+            try {
+                circuitBreaker.rejectIfOpen(endpoint);
+            } catch (HashExApiException e) {
+                return failed(e);
+            }
+        }
+        if (rateLimiter == null) {
+            return call.get();
+        }
+        CompletableFuture<Void> permit = rateLimiter.acquireAsync(endpoint, deadline);
+        CompletableFuture<String> result = permit.thenCompose(ignored -> call.get());
+        result.whenComplete((body, error) -> {
+            if (result.isCancelled()) {
+                permit.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 启用分道调度时先获得通道许可再签名并发送，响应完成后归还许可；排队期间被取消时放弃排队
+     */
+    private CompletableFuture<String> dispatched(String endpoint, Supplier<CompletableFuture<String>> call) {
+        if (laneDispatcher == null) {
+            return call.get();
+        }
+        Lane lane = templates.get(endpoint).getLane();
+        CompletableFuture<Void> permit = laneDispatcher.acquireAsync(lane);
+        CompletableFuture<String> result = permit.thenCompose(ignored -> {
+            CompletableFuture<String> response;
+            try {
+                response = call.get();
+            } catch (RuntimeException e) {
+                laneDispatcher.release(lane);
+                throw e;
+            }
+            response.whenComplete((body, error) -> laneDispatcher.release(lane));
+            return response;
+        });
+        result.whenComplete((body, error) -> {
+            if (result.isCancelled()) {
+                permit.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 经过拦截器链发送请求：签名、耗时统计及错误映射均由拦截器完成，拦截器短路时不发送请求
+     * <p>
+     * 连接及响应超时不超过截止时间的剩余时间，到期或取消时中止请求。
+     */
+    private CompletableFuture<String> execute(Exchange exchange, Deadline deadline) {
+        SimpleHttpRequest request = (SimpleHttpRequest) exchange.getRequest();
+        RequestTemplate template = templates.get(exchange.getEndpoint());
+        Header acceptEncoding = template.getAcceptEncoding();
+        if (acceptEncoding != null) {
+            request.setHeader(acceptEncoding);
+        }
+        request.setConfig(template.requestConfig(deadline));
+        try {
+            if (deadline != null && deadline.isExpired()) {
+                // 排队或退避期间已经到期，不再签名发送
+                throw deadline.toException(exchange.getEndpoint());
+            }
+            if (interceptors.before(exchange)) {
+                interceptors.after(exchange, exchange.getStatusCode(), exchange.getResponseBody());
+                return CompletableFuture.completedFuture(exchange.getResponseBody());
+            }
+        } catch (Exception e) {
+            return failed(interceptors.error(exchange, e));
+        }
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Future<SimpleHttpResponse> future = transport().execute(
+                SimpleRequestProducer.create(request),
+                SimpleResponseConsumer.create(),
+                new FutureCallback<SimpleHttpResponse>() {
+                    @Override
+                    public void completed(SimpleHttpResponse response) {
+                        int statusCode = response.getCode();
+                        try {
+                            String responseBody = bodyText(response);
+                            // 非2xx由错误映射拦截器转换为异常
+                            interceptors.after(exchange, statusCode, responseBody);
+                            if (statusCode >= 200 && statusCode < 300) {
+                                result.complete(responseBody);
+                            } else {
+                                result.completeExceptionally(
+                                        new HashExApiException("API请求失败，状态码: " + statusCode, statusCode));
+                            }
+                        } catch (IOException e) {
+                            result.completeExceptionally(interceptors.error(exchange,
+                                    new IOException("解压响应失败: " + e.getMessage(), e)));
+                        } catch (HashExApiException e) {
+                            result.completeExceptionally(e);
+                        } catch (RuntimeException e) {
+                            // 自定义拦截器或解码抛出运行时异常时同样完成结果，否则调用方一直等待，通道许可也不会归还
+                            result.completeExceptionally(interceptors.error(exchange, e));
+                        }
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        result.completeExceptionally(interceptors.error(exchange, e));
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        // 对冲中落败或调用方取消，不计入熔断和耗时统计
+                        exchange.markCancelled();
+                        interceptors.error(exchange, new CancellationException("请求已取消"));
+                        result.cancel(false);
+                    }
+                });
+        Runnable unregister = deadline == null ? null : deadline.onExpiry(() -> {
+            if (deadline.isCancelled()) {
+                exchange.markCancelled();
+            }
+            result.completeExceptionally(interceptors.error(exchange, deadline.toException(exchange.getEndpoint())));
+            future.cancel(true);
+        });
+        // 调用方取消时同步取消底层请求，释放连接
+        result.whenComplete((body, error) -> {
+            if (unregister != null) {
+                unregister.run();
+            }
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static String bodyText(SimpleHttpResponse response) throws IOException {
+        byte[] body = response.getBodyBytes();
+        if (body == null) {
+            return "";
+        }
+        Header contentEncoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncoding != null) {
+            body = ContentEncodings.decode(contentEncoding.getValue(), body);
+        }
+        ContentType contentType = response.getContentType();
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        // 接口返回JSON，未声明charset时按UTF-8解码
+        return new String(body, charset != null ? charset : StandardCharsets.UTF_8);
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
+    /**
+     * 获取按端点的请求耗时统计
+     */
+    public TimingInterceptor getTimingInterceptor() {
+        return timing;
+    }
+
+    /**
+     * 获取本客户端的请求时间戳来源，可设置与服务器的时钟偏移
+     */
+    public TimestampSource getTimestampSource() {
+        return timestampSource;
+    }
+
+    @Override
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+        if (http2Client != null) {
+            http2Client.close(CloseMode.GRACEFUL);
+        }
+    }
+}
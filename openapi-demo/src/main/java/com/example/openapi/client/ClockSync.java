@@ -0,0 +1,266 @@
+package com.example.openapi.client;
+
+import com.example.openapi.utils.TimestampSource;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 服务器时钟同步
+ * <p>
+ * 后台定期请求服务器时间接口，按NTP方式估算时钟偏移：记录发送前本地时间 t0 和收到响应后本地时间 t3，
+ * 认为服务器时间 ts 对应往返中点，偏移 = ts - (t0 + t3) / 2，误差不超过往返耗时的一半。
+ * 每轮采样多次并取往返耗时最短的样本，再对各轮结果做指数平滑，减少网络抖动带来的跳变。
+ * 估算结果写入所属客户端的 {@link TimestampSource}，该客户端签名请求的 X-Request-Timestamp 随之按服务器时间生成，
+ * 不影响连接其他环境的客户端。
+ */
+public class ClockSync implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ClockSync.class);
+
+    /** 默认采样的服务器时间接口 */
+    public static final List<String> DEFAULT_ENDPOINTS = Arrays.asList(
+            Endpoint.SPOT_TIME.getPath(), Endpoint.FUTURES_TIME.getPath());
+
+    private static final TypeReference<JsonNode> RESPONSE_TYPE = new TypeReference<JsonNode>() {};
+
+    private final ApiClient client;
+    private final TimestampSource timestampSource;
+    private final List<String> endpoints;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile int samplesPerRound = 4;
+    private volatile long maxRttMillis = 1000;
+    private volatile double smoothing = 0.3;
+    private volatile boolean synced;
+    private volatile double offsetMillis;
+    private volatile double rttMillis;
+    private volatile long lastOffsetMillis;
+    private volatile long lastRttMillis;
+    private volatile long lastSyncMillis;
+    private int nextEndpoint;
+
+    /**
+     * 构造函数，采样默认的现货及合约服务器时间接口
+     *
+     * @param client 发送请求的客户端
+     * @param timestampSource 写入偏移的时间戳来源
+     */
+    public ClockSync(ApiClient client, TimestampSource timestampSource) {
+        this(client, timestampSource, DEFAULT_ENDPOINTS);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param client 发送请求的客户端
+     * @param timestampSource 写入偏移的时间戳来源
+     * @param endpoints 服务器时间接口，轮流采样，某个接口失败时使用下一个
+     */
+    public ClockSync(ApiClient client, TimestampSource timestampSource, List<String> endpoints) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("至少需要一个服务器时间接口");
+        }
+        this.client = client;
+        this.timestampSource = timestampSource;
+        this.endpoints = endpoints;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hashex-clock-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 立即同步一次，之后按固定间隔在后台同步；重复调用不做任何事
+     *
+     * @param intervalMillis 同步间隔（毫秒）
+     */
+    public void start(long intervalMillis) {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sync();
+            } catch (Exception e) {
+                // 关闭客户端时正在进行的同步会因连接池关闭而失败，无需告警
+                if (!scheduler.isShutdown()) {
+                    logger.warn("时钟同步失败: {}", e.getMessage());
+                }
+            }
+        }, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 执行一轮同步：采样多次，取往返耗时最短的样本更新平滑后的偏移
+     *
+     * @return 本轮采用的偏移（毫秒）
+     * @throws HashExApiException 本轮没有可用样本
+     */
+    public synchronized long sync() throws HashExApiException {
+        long bestOffset = 0;
+        long bestRtt = Long.MAX_VALUE;
+        HashExApiException lastError = null;
+        for (int i = 0; i < samplesPerRound; i++) {
+            String endpoint = endpoints.get(nextEndpoint);
+            try {
+                long[] sample = sample(endpoint);
+                samples.increment();
+                if (sample[1] < bestRtt) {
+                    bestOffset = sample[0];
+                    bestRtt = sample[1];
+                }
+            } catch (HashExApiException e) {
+                failures.increment();
+                lastError = e;
+                nextEndpoint = (nextEndpoint + 1) % endpoints.size();
+            }
+        }
+        if (bestRtt == Long.MAX_VALUE) {
+            throw lastError != null ? lastError : new HashExApiException("时钟同步没有可用样本");
+        }
+        if (bestRtt > maxRttMillis) {
+            throw new HashExApiException("时钟同步往返耗时过长: " + bestRtt + "ms");
+        }
+        if (synced) {
+            offsetMillis += smoothing * (bestOffset - offsetMillis);
+            rttMillis += smoothing * (bestRtt - rttMillis);
+        } else {
+            offsetMillis = bestOffset;
+            rttMillis = bestRtt;
+            synced = true;
+        }
+        lastOffsetMillis = bestOffset;
+        lastRttMillis = bestRtt;
+        lastSyncMillis = System.currentTimeMillis();
+        timestampSource.setOffsetMillis(Math.round(offsetMillis));
+        logger.debug("时钟同步完成: 本轮偏移={}ms, 往返={}ms, 平滑后偏移={}ms", bestOffset, bestRtt, getOffsetMillis());
+        return bestOffset;
+    }
+
+    /**
+     * 采样一次
+     *
+     * @return {偏移, 往返耗时}（毫秒）
+     */
+    private long[] sample(String endpoint) throws HashExApiException {
+        long t0 = System.currentTimeMillis();
+        long start = System.nanoTime();
+        JsonNode response = client.getForObject(endpoint, new TreeMap<>(), false, RESPONSE_TYPE);
+        long rttNanos = System.nanoTime() - start;
+        if (response == null || response.path("code").asInt(-1) != 0 || !response.path("data").canConvertToLong()) {
+            throw new HashExApiException("服务器时间响应不合法: " + response);
+        }
+        long serverTime = response.path("data").asLong();
+        long midpoint = t0 + TimeUnit.NANOSECONDS.toMillis(rttNanos / 2);
+        return new long[]{serverTime - midpoint, TimeUnit.NANOSECONDS.toMillis(rttNanos)};
+    }
+
+    /**
+     * 按服务器时间校正后的当前时间（毫秒）
+     */
+    public long serverNowMillis() {
+        return timestampSource.currentTimeMillis();
+    }
+
+    /**
+     * 是否已完成至少一次同步
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * 平滑后的时钟偏移（服务器时间减本地时间，毫秒）
+     */
+    public long getOffsetMillis() {
+        return Math.round(offsetMillis);
+    }
+
+    /**
+     * 平滑后的往返耗时（毫秒），偏移估算误差不超过其一半
+     */
+    public long getRttMillis() {
+        return Math.round(rttMillis);
+    }
+
+    /**
+     * 最近一轮采用的偏移（毫秒）
+     */
+    public long getLastOffsetMillis() {
+        return lastOffsetMillis;
+    }
+
+    /**
+     * 最近一轮采用的往返耗时（毫秒）
+     */
+    public long getLastRttMillis() {
+        return lastRttMillis;
+    }
+
+    /**
+     * 最近一次同步成功的本地时间（毫秒），未同步时为0
+     */
+    public long getLastSyncMillis() {
+        return lastSyncMillis;
+    }
+
+    public long getSampleCount() {
+        return samples.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * 每轮采样次数
+     */
+    public void setSamplesPerRound(int samplesPerRound) {
+        if (samplesPerRound <= 0) {
+            throw new IllegalArgumentException("每轮采样次数必须大于0");
+        }
+        this.samplesPerRound = samplesPerRound;
+    }
+
+    /**
+     * 可接受的最长往返耗时（毫秒），超过时丢弃本轮结果
+     */
+    public void setMaxRttMillis(long maxRttMillis) {
+        this.maxRttMillis = maxRttMillis;
+    }
+
+    /**
+     * 平滑系数，取值 (0, 1]，越大越贴近最新一轮结果
+     */
+    public void setSmoothing(double smoothing) {
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("平滑系数必须在 (0, 1] 之间");
+        }
+        this.smoothing = smoothing;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("synced=%s, offset=%dms, rtt=%dms, lastOffset=%dms, lastRtt=%dms, samples=%d, failures=%d",
+                synced, getOffsetMillis(), getRttMillis(), lastOffsetMillis, lastRttMillis,
+                getSampleCount(), getFailureCount());
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.openapi.client;
+
+import org.apache.hc.core5.http.Method;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * API端点目录
+ * <p>
+ * 记录每个端点的HTTP方法、是否需要签名（由所属 {@link EndpointFamily} 决定）、限流权重、超时等级、幂等性和请求通道。
+ * 客户端为目录中的端点预先生成请求模板（基础URI、请求配置），限流、重试等策略的默认配置也由目录生成。
+ */
+public enum Endpoint {
+    // ---------- 现货公共接口 ----------
+    SPOT_TIME(Method.GET, "/spot/v1/p/time", TimeoutClass.FAST),
+    SPOT_SYMBOL_CONFIGS(Method.GET, "/spot/v1/p/symbol/configs"),
+    SPOT_KLINE(Method.GET, "/spot/v1/p/quotation/kline"),
+    SPOT_TICKERS(Method.GET, "/spot/v1/p/quotation/tickers", TimeoutClass.SLOW),
+    SPOT_TREND_TICKER(Method.GET, "/spot/v1/p/quotation/trend/ticker"),
+    SPOT_DEAL(Method.GET, "/spot/v1/p/quotation/deal"),
+    SPOT_DEPTH(Method.GET, "/spot/v1/p/quotation/depth", TimeoutClass.FAST),
+
+    // ---------- 现货交易及账户 ----------
+    SPOT_ORDER_CREATE(Method.POST, "/spot/v1/u/trade/order/create", Idempotency.CLIENT_ORDER_ID, 1, TimeoutClass.FAST),
+    SPOT_ORDER_BATCH_CREATE(Method.POST, "/spot/v1/u/trade/order/batch/create", Idempotency.NON_IDEMPOTENT, 5, TimeoutClass.STANDARD),
+    SPOT_ORDER_CANCEL(Method.POST, "/spot/v1/u/trade/order/cancel", Idempotency.IDEMPOTENT, 1, TimeoutClass.FAST),
+    SPOT_ORDER_BATCH_CANCEL(Method.POST, "/spot/v1/u/trade/order/batch/cancel", Idempotency.IDEMPOTENT, 5, TimeoutClass.STANDARD),
+    SPOT_ORDER_DETAIL(Method.GET, "/spot/v1/u/trade/order/detail", TimeoutClass.FAST),
+    SPOT_ORDER_LIST(Method.GET, "/spot/v1/u/trade/order/list"),
+    SPOT_ORDER_HISTORY(Method.GET, "/spot/v1/u/trade/order/history", TimeoutClass.SLOW),
+    SPOT_ORDER_DEAL(Method.GET, "/spot/v1/u/trade/order/deal", TimeoutClass.SLOW),
+    SPOT_BALANCE(Method.GET, "/spot/v1/u/balance/spot"),
+    SPOT_WS_TOKEN(Method.GET, "/spot/v1/u/ws/token"),
+    SPOT_MAKER_SELF_DEAL(Method.POST, "/spot/v1/u/maker/selfDeal", Idempotency.NON_IDEMPOTENT, 1, TimeoutClass.STANDARD),
+    SPOT_MARKET_MAKER_SELF_DEAL(Method.POST, "/spot/v1/u/market/maker/selfDeal", Idempotency.NON_IDEMPOTENT, 1, TimeoutClass.STANDARD),
+
+    // ---------- 合约公共接口 ----------
+    FUTURES_TIME(Method.GET, "/fut/v1/public/time", TimeoutClass.FAST),
+    FUTURES_SYMBOL_DETAIL(Method.GET, "/fut/v1/public/symbol/detail"),
+    FUTURES_TICKERS(Method.GET, "/fut/v1/public/q/tickers", TimeoutClass.SLOW),
+    FUTURES_TICKER(Method.GET, "/fut/v1/public/q/ticker"),
+    FUTURES_DEPTH(Method.GET, "/fut/v1/public/q/depth", TimeoutClass.FAST),
+    FUTURES_DEAL(Method.GET, "/fut/v1/public/q/deal"),
+    FUTURES_KLINE(Method.GET, "/fut/v1/public/q/kline"),
+
+    // ---------- 合约订单及计划委托 ----------
+    FUTURES_ORDER_CREATE(Method.POST, "/fut/v1/order/create", Idempotency.CLIENT_ORDER_ID, 1, TimeoutClass.FAST),
+    FUTURES_ORDER_CANCEL(Method.POST, "/fut/v1/order/cancel", Idempotency.IDEMPOTENT, 1, TimeoutClass.FAST),
+    FUTURES_ORDER_DETAIL(Method.GET, "/fut/v1/order/detail", TimeoutClass.FAST),
+    FUTURES_ORDER_LIST(Method.GET, "/fut/v1/order/list"),
+    FUTURES_ORDER_LIST_HISTORY(Method.GET, "/fut/v1/order/list-history", TimeoutClass.SLOW),
+    FUTURES_ORDER_TRADE_LIST(Method.GET, "/fut/v1/order/trade-list", TimeoutClass.SLOW),
+    FUTURES_ENTRUST_CREATE_PROFIT(Method.POST, "/fut/v1/entrust/create-profit", Idempotency.NON_IDEMPOTENT, 1, TimeoutClass.STANDARD),
+    FUTURES_ENTRUST_PROFIT_LIST(Method.GET, "/fut/v1/entrust/profit-list"),
+
+    // ---------- 合约仓位 ----------
+    FUTURES_POSITION_LIST(Method.GET, "/fut/v1/position/list"),
+    FUTURES_POSITION_CONFS(Method.GET, "/fut/v1/position/confs"),
+    FUTURES_POSITION_MARGIN(Method.POST, "/fut/v1/position/margin", Idempotency.NON_IDEMPOTENT, 1, TimeoutClass.STANDARD),
+    FUTURES_POSITION_CHANGE_TYPE(Method.POST, "/fut/v1/position/change-type", Idempotency.NON_IDEMPOTENT, 1, TimeoutClass.STANDARD),
+    FUTURES_POSITION_ADJUST_LEVERAGE(Method.POST, "/fut/v1/position/adjust-leverage", Idempotency.NON_IDEMPOTENT, 1, TimeoutClass.STANDARD),
+    FUTURES_POSITION_CLOSE_ALL(Method.POST, "/fut/v1/position/close-all", Idempotency.NON_IDEMPOTENT, 1, TimeoutClass.STANDARD),
+
+    // ---------- 合约账户 ----------
+    FUTURES_BALANCE_LIST(Method.GET, "/fut/v1/balance/list"),
+    FUTURES_BALANCE_BILLS(Method.GET, "/fut/v1/balance/bills", TimeoutClass.SLOW),
+    FUTURES_USER_LISTEN_KEY(Method.GET, "/fut/v1/user/listen-key");
+
+    /**
+     * 幂等性，决定失败后能否安全重试
+     */
+    public enum Idempotency {
+        /** 可安全重复提交 */
+        IDEMPOTENT,
+        /** 携带 clientOrderId 时幂等（服务端按 clientOrderId 去重） */
+        CLIENT_ORDER_ID,
+        /** 重复提交会产生副作用 */
+        NON_IDEMPOTENT
+    }
+
+    /**
+     * 超时等级：FAST 为响应很小、对延迟敏感的接口；SLOW 为全量行情、历史记录等大响应接口
+     */
+    public enum TimeoutClass {
+        FAST,
+        STANDARD,
+        SLOW
+    }
+
+    private static final Map<String, Endpoint> BY_PATH = new HashMap<>();
+
+    static {
+        for (Endpoint endpoint : values()) {
+            BY_PATH.put(endpoint.path, endpoint);
+        }
+    }
+
+    private final Method method;
+    private final String path;
+    private final EndpointFamily family;
+    private final Idempotency idempotency;
+    private final int weight;
+    private final TimeoutClass timeoutClass;
+
+    Endpoint(Method method, String path) {
+        this(method, path, TimeoutClass.STANDARD);
+    }
+
+    /**
+     * GET接口，均为幂等、权重为1
+     */
+    Endpoint(Method method, String path, TimeoutClass timeoutClass) {
+        this(method, path, Idempotency.IDEMPOTENT, 1, timeoutClass);
+    }
+
+    Endpoint(Method method, String path, Idempotency idempotency, int weight, TimeoutClass timeoutClass) {
+        this.method = method;
+        this.path = path;
+        this.family = EndpointFamily.of(path);
+        this.idempotency = idempotency;
+        this.weight = weight;
+        this.timeoutClass = timeoutClass;
+    }
+
+    /**
+     * 按路径查找目录中的端点
+     *
+     * @param path API端点路径
+     * @return 目录中的端点，未登记时返回空
+     */
+    public static Endpoint of(String path) {
+        return BY_PATH.get(path);
+    }
+
+    /**
+     * 校验HTTP方法后返回路径
+     *
+     * @throws IllegalArgumentException 端点不是该方法
+     */
+    String pathFor(Method expected) {
+        if (method != expected) {
+            throw new IllegalArgumentException(name() + " 是 " + method + " 接口，不能以 " + expected + " 方式调用");
+        }
+        return path;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public EndpointFamily getFamily() {
+        return family;
+    }
+
+    /**
+     * 是否需要签名
+     */
+    public boolean isAuthRequired() {
+        return !family.isPublic();
+    }
+
+    public Idempotency getIdempotency() {
+        return idempotency;
+    }
+
+    /**
+     * 限流权重，即每次请求消耗的令牌数
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    public TimeoutClass getTimeoutClass() {
+        return timeoutClass;
+    }
+
+    /**
+     * 请求通道：POST接口为交易通道，需要签名的大响应查询为批量历史通道，其余为普通查询通道
+     */
+    public Lane getLane() {
+        if (method == Method.POST) {
+            return Lane.TRADING;
+        }
+        return timeoutClass == TimeoutClass.SLOW && isAuthRequired() ? Lane.BULK_HISTORY : Lane.ACCOUNT;
+    }
+}
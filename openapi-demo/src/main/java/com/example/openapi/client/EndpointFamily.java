@@ -0,0 +1,70 @@
+package com.example.openapi.client;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * API端点分组，按路径前缀划分，用于限流、熔断等按接口族生效的策略
+ */
+public enum EndpointFamily {
+    /** 现货公共行情：/spot/v1/p/* */
+    SPOT_PUBLIC(true, "/spot/v1/p/"),
+    /** 现货交易：/spot/v1/u/trade/* */
+    SPOT_TRADE(false, "/spot/v1/u/trade/"),
+    /** 现货账户及其他私有接口：/spot/v1/u/* */
+    SPOT_ACCOUNT(false, "/spot/v1/u/"),
+    /** 合约公共行情：/fut/v1/public/* */
+    FUTURES_PUBLIC(true, "/fut/v1/public/"),
+    /** 合约订单及计划委托：/fut/v1/order/*、/fut/v1/entrust/* */
+    FUTURES_ORDER(false, "/fut/v1/order/", "/fut/v1/entrust/"),
+    /** 合约仓位：/fut/v1/position/* */
+    FUTURES_POSITION(false, "/fut/v1/position/"),
+    /** 合约账户及其他私有接口：/fut/v1/balance/*、/fut/v1/user/* */
+    FUTURES_ACCOUNT(false, "/fut/v1/balance/", "/fut/v1/user/"),
+    /** 未归类的端点 */
+    OTHER(false);
+
+    private static final ConcurrentMap<String, EndpointFamily> CACHE = new ConcurrentHashMap<>();
+
+    private final boolean publicApi;
+    private final String[] prefixes;
+
+    EndpointFamily(boolean publicApi, String... prefixes) {
+        this.publicApi = publicApi;
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * 是否为无需签名的公共接口
+     */
+    public boolean isPublic() {
+        return publicApi;
+    }
+
+    /**
+     * 根据端点路径确定所属分组
+     *
+     * @param endpoint API端点，例如 "/fut/v1/order/create"
+     * @return 所属分组，未匹配时返回 {@link #OTHER}
+     */
+    public static EndpointFamily of(String endpoint) {
+        EndpointFamily family = CACHE.get(endpoint);
+        if (family == null) {
+            family = resolve(endpoint);
+            CACHE.putIfAbsent(endpoint, family);
+        }
+        return family;
+    }
+
+    private static EndpointFamily resolve(String endpoint) {
+        // 按声明顺序匹配，更具体的前缀（如 /spot/v1/u/trade/）排在通用前缀之前
+        for (EndpointFamily family : values()) {
+            for (String prefix : family.prefixes) {
+                if (endpoint.startsWith(prefix)) {
+                    return family;
+                }
+            }
+        }
+        return OTHER;
+    }
+}
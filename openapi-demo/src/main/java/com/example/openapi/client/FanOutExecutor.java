@@ -0,0 +1,199 @@
+package com.example.openapi.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 扇出请求执行器
+ * <p>
+ * 用于批量任务中并行调用阻塞式 {@link ApiClient}，例如逐交易对查询配置、逐订单查询详情、逐币种查询余额。
+ * 运行在JDK 21及以上时每个调用使用独立的虚拟线程，阻塞等待响应几乎不占内存；更低版本回退为有界平台线程池。
+ * 并发度由信号量限制（默认等于连接池每路由连接上限），因此负载由连接池大小而不是线程数决定。
+ */
+public class FanOutExecutor implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FanOutExecutor.class);
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final boolean virtualThreads;
+
+    /**
+     * 单次API调用
+     *
+     * @param <T> 输入类型（交易对、订单ID、币种等）
+     * @param <R> 返回类型
+     */
+    @FunctionalInterface
+    public interface ApiCall<T, R> {
+        R call(T input) throws HashExApiException;
+    }
+
+    /**
+     * 按连接池每路由连接上限限制并发
+     *
+     * @param config API配置
+     */
+    public FanOutExecutor(HashExApiConfig config) {
+        this(config.getMaxConnectionsPerRoute());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maxConcurrency 最大并发调用数
+     */
+    public FanOutExecutor(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("最大并发数必须大于0");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newFixedThreadPool(maxConcurrency, new FanOutThreadFactory());
+        logger.debug("初始化扇出执行器: maxConcurrency={}, virtualThreads={}", maxConcurrency, virtualThreads);
+    }
+
+    /**
+     * 并行执行一批调用，返回结果顺序与输入顺序一致
+     * <p>
+     * 任一调用失败时取消尚未完成的调用，并抛出第一个失败原因。
+     *
+     * @param inputs 输入列表
+     * @param call 单次调用
+     * @return 调用结果
+     * @throws HashExApiException 任一调用失败或等待被中断
+     */
+    public <T, R> List<R> invokeAll(Collection<? extends T> inputs, ApiCall<? super T, ? extends R> call)
+            throws HashExApiException {
+        List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            futures.add(submit(input, call));
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new HashExApiException("批量调用被中断", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof HashExApiException) {
+                throw (HashExApiException) cause;
+            }
+            throw new HashExApiException("批量调用时出错: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 提交单个调用，在获得并发许可后执行
+     *
+     * @param input 输入
+     * @param call 单次调用
+     * @return 调用结果，失败时以 {@link HashExApiException} 异常完成
+     */
+    public <T, R> CompletableFuture<R> submit(T input, ApiCall<? super T, ? extends R> call) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            boolean acquired = false;
+            try {
+                permits.acquire();
+                acquired = true;
+                if (!result.isDone()) {
+                    result.complete(call.call(input));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(new CancellationException("调用被中断"));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            } finally {
+                if (acquired) {
+                    permits.release();
+                }
+            }
+        });
+        return result;
+    }
+
+    private static <R> void cancelAll(List<CompletableFuture<R>> futures) {
+        for (CompletableFuture<R> future : futures) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * 是否运行在虚拟线程上
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 当前正在执行的调用数
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * 当前等待并发许可的调用数（估算值）
+     */
+    public int getQueuedCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * JDK 21+ 通过反射创建虚拟线程执行器，保持在JDK 11上可编译运行
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static final class FanOutThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "hashex-fanout-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.example.openapi.client;
+
+import com.example.openapi.client.cache.ResponseCache;
+import com.example.openapi.client.interceptor.Interceptor;
+import com.example.openapi.client.resilience.CircuitBreaker;
+import com.example.openapi.client.resilience.HedgePolicy;
+import com.example.openapi.client.resilience.LaneDispatcher;
+import com.example.openapi.client.resilience.RateLimiter;
+import com.example.openapi.client.resilience.RetryPolicy;
+import com.example.openapi.client.resilience.TimeoutPolicy;
+
+import javax.net.ssl.SSLContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * HashEx API 配置类
+ */
+public class HashExApiConfig {
+    private String baseUrl;
+    private String apiKey;
+    private String secretKey;
+    private int connectionTimeout = 10000; // 默认10秒
+    private int readTimeout = 30000; // 默认30秒
+    private int connectionRequestTimeout = 5000; // 从连接池获取连接的超时，默认5秒
+    
+    // 连接池配置
+    private int maxTotalConnections = 200; // 连接池最大连接数
+    private int maxConnectionsPerRoute = 50; // 每个路由（域名）最大连接数，httpclient默认仅为5
+    private long idleConnectionEvictMillis = 30000; // 空闲连接回收时间，默认30秒
+    private long connectionTimeToLiveMillis = 300000; // 连接最大存活时间，默认5分钟，<=0 表示不限制
+    private long validateAfterInactivityMillis = 2000; // 连接空闲超过该时间后复用前先校验，默认2秒
+    
+    // Socket配置
+    private boolean tcpNoDelay = true; // 关闭Nagle算法，降低小包延迟
+    private int socketSendBufferSize = 0; // 发送缓冲区大小，0 表示使用系统默认值
+    private int socketReceiveBufferSize = 0; // 接收缓冲区大小，0 表示使用系统默认值
+    
+    // 异步客户端配置
+    private int ioThreadCount = Runtime.getRuntime().availableProcessors(); // I/O线程数，默认CPU核数
+    
+    // 传输协议配置
+    private boolean http2Enabled = false; // 是否启用HTTP/2（TLS ALPN协商，服务端不支持时回退HTTP/1.1）
+    private int http2MaxConcurrentStreams = 100; // 单条HTTP/2连接上允许的最大并发流
+    private SSLContext sslContext; // 自定义TLS上下文，为空时使用系统默认
+    private long clockSyncIntervalMillis; // 服务器时钟同步间隔（毫秒），大于0时由 ApiClient.create 或 startClockSync 开始后台同步，并按服务器时间生成签名时间戳
+    private boolean compressionEnabled = true; // 声明Accept-Encoding: gzip, deflate并透明解压响应
+    // 不请求压缩的端点：响应很小且对延迟敏感，压缩收益抵不过解压开销
+    private Set<String> uncompressedEndpoints = new HashSet<>(Arrays.asList(
+            Endpoint.SPOT_TIME.getPath(), Endpoint.FUTURES_TIME.getPath(),
+            Endpoint.SPOT_ORDER_CREATE.getPath(), Endpoint.SPOT_ORDER_CANCEL.getPath(),
+            Endpoint.FUTURES_ORDER_CREATE.getPath(), Endpoint.FUTURES_ORDER_CANCEL.getPath()));
+    
+    // 流量控制配置
+    private RateLimiter rateLimiter; // 客户端限流器，为空时不限流
+    private CircuitBreaker circuitBreaker; // 按接口族的熔断器，为空时不熔断
+    private RetryPolicy retryPolicy; // 重试策略，为空时不重试
+    private HedgePolicy hedgePolicy; // 对冲请求策略，为空时不对冲
+    private TimeoutPolicy timeoutPolicy = TimeoutPolicy.defaults(); // 按端点的连接、响应及总超时，为空时只使用上面的全局超时
+    private LaneDispatcher laneDispatcher; // 分道调度，为空时所有请求共用一个连接池、不区分优先级
+    private boolean singleFlightEnabled = true; // 合并并发的相同公共GET请求
+    private ResponseCache responseCache; // 公共接口响应缓存，为空时不缓存
+    private List<Interceptor> interceptors = new ArrayList<>(); // 自定义拦截器，位于耗时统计之后、错误映射和签名之前
+    
+    public HashExApiConfig(String baseUrl, String apiKey) {
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+    }
+    
+    public HashExApiConfig(String baseUrl, String apiKey, String secretKey) {
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.secretKey = secretKey;
+    }
+    
+    // Getters and Setters
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+    
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+    
+    public String getApiKey() {
+        return apiKey;
+    }
+    
+    public void setApiKey(String apiKey) {
+        this.apiKey = apiKey;
+    }
+    
+    public String getSecretKey() {
+        return secretKey;
+    }
+    
+    public void setSecretKey(String secretKey) {
+        this.secretKey = secretKey;
+    }
+    
+    public int getConnectionTimeout() {
+        return connectionTimeout;
+    }
+    
+    public void setConnectionTimeout(int connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+    
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+    
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+    
+    public int getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+    
+    public void setConnectionRequestTimeout(int connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+    
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+    
+    public void setMaxTotalConnections(int maxTotalConnections) {
+        this.maxTotalConnections = maxTotalConnections;
+    }
+    
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+    
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+    
+    public long getIdleConnectionEvictMillis() {
+        return idleConnectionEvictMillis;
+    }
+    
+    public void setIdleConnectionEvictMillis(long idleConnectionEvictMillis) {
+        this.idleConnectionEvictMillis = idleConnectionEvictMillis;
+    }
+    
+    public long getConnectionTimeToLiveMillis() {
+        return connectionTimeToLiveMillis;
+    }
+    
+    public void setConnectionTimeToLiveMillis(long connectionTimeToLiveMillis) {
+        this.connectionTimeToLiveMillis = connectionTimeToLiveMillis;
+    }
+    
+    public long getValidateAfterInactivityMillis() {
+        return validateAfterInactivityMillis;
+    }
+    
+    public void setValidateAfterInactivityMillis(long validateAfterInactivityMillis) {
+        this.validateAfterInactivityMillis = validateAfterInactivityMillis;
+    }
+    
+    public boolean isTcpNoDelay() {
+        return tcpNoDelay;
+    }
+    
+    public void setTcpNoDelay(boolean tcpNoDelay) {
+        this.tcpNoDelay = tcpNoDelay;
+    }
+    
+    public int getSocketSendBufferSize() {
+        return socketSendBufferSize;
+    }
+    
+    public void setSocketSendBufferSize(int socketSendBufferSize) {
+        this.socketSendBufferSize = socketSendBufferSize;
+    }
+    
+    public int getSocketReceiveBufferSize() {
+        return socketReceiveBufferSize;
+    }
+    
+    public void setSocketReceiveBufferSize(int socketReceiveBufferSize) {
+        this.socketReceiveBufferSize = socketReceiveBufferSize;
+    }
+    
+    public int getIoThreadCount() {
+        return ioThreadCount;
+    }
+    
+    public void setIoThreadCount(int ioThreadCount) {
+        this.ioThreadCount = ioThreadCount;
+    }
+    
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+    
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+    
+    public int getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+    
+    public void setHttp2MaxConcurrentStreams(int http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+    }
+    
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+    
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+    
+    public Set<String> getUncompressedEndpoints() {
+        return uncompressedEndpoints;
+    }
+    
+    public void setUncompressedEndpoints(Set<String> uncompressedEndpoints) {
+        this.uncompressedEndpoints = uncompressedEndpoints;
+    }
+    
+    public SSLContext getSslContext() {
+        return sslContext;
+    }
+    
+    public void setSslContext(SSLContext sslContext) {
+        this.sslContext = sslContext;
+    }
+    
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+    
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+    
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+    
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+    
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+    
+    public void setHedgePolicy(HedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+    }
+    
+    public boolean isSingleFlightEnabled() {
+        return singleFlightEnabled;
+    }
+    
+    public void setSingleFlightEnabled(boolean singleFlightEnabled) {
+        this.singleFlightEnabled = singleFlightEnabled;
+    }
+    
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+    
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+    
+    public long getClockSyncIntervalMillis() {
+        return clockSyncIntervalMillis;
+    }
+    
+    public void setClockSyncIntervalMillis(long clockSyncIntervalMillis) {
+        this.clockSyncIntervalMillis = clockSyncIntervalMillis;
+    }
+    
+    public List<Interceptor> getInterceptors() {
+        return interceptors;
+    }
+    
+    public void setInterceptors(List<Interceptor> interceptors) {
+        this.interceptors = interceptors;
+    }
+    
+    public LaneDispatcher getLaneDispatcher() {
+        return laneDispatcher;
+    }
+    
+    public void setLaneDispatcher(LaneDispatcher laneDispatcher) {
+        this.laneDispatcher = laneDispatcher;
+    }
+    
+    public TimeoutPolicy getTimeoutPolicy() {
+        return timeoutPolicy;
+    }
+    
+    public void setTimeoutPolicy(TimeoutPolicy timeoutPolicy) {
+        this.timeoutPolicy = timeoutPolicy;
+    }
+    
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+    
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.openapi.client;
+
+/**
+ * HashEx API 异常类
+ */
+public class HashExApiException extends Exception {
+    
+    private final int statusCode;
+    
+    public HashExApiException(String message) {
+        super(message);
+        this.statusCode = -1;
+    }
+    
+    public HashExApiException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = -1;
+    }
+    
+    public HashExApiException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+    
+    public HashExApiException(String message, int statusCode, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+    }
+    
+    /**
+     * HTTP状态码，非HTTP响应错误时返回 -1
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.openapi.client;
+
+import com.example.openapi.client.resilience.TimeoutPolicy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 根据 {@link HashExApiConfig} 构建底层HTTP传输（连接池、超时、Socket参数）
+ */
+final class HttpTransports {
+
+    private HttpTransports() {
+    }
+
+    /**
+     * 创建带连接池的阻塞式连接管理器
+     *
+     * @param config API配置
+     * @return 连接池管理器
+     */
+    static PoolingHttpClientConnectionManager createConnectionManager(HashExApiConfig config) {
+        return createConnectionManager(config, config.getMaxTotalConnections(), config.getMaxConnectionsPerRoute());
+    }
+
+    /**
+     * 创建指定大小的阻塞式连接池，用于分道调度时为每个通道创建独立连接池
+     *
+     * @param config API配置
+     * @param maxTotal 最大连接数
+     * @param maxPerRoute 每个路由最大连接数
+     * @return 连接池管理器
+     */
+    static PoolingHttpClientConnectionManager createConnectionManager(HashExApiConfig config, int maxTotal,
+                                                                      int maxPerRoute) {
+        PoolingHttpClientConnectionManagerBuilder builder = PoolingHttpClientConnectionManagerBuilder.create();
+        if (config.getSslContext() != null) {
+            builder.setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create()
+                    .setSslContext(config.getSslContext())
+                    .build());
+        }
+        return builder
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                // LIFO复用最近使用过的连接，使空闲连接尽快过期回收
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setDefaultSocketConfig(createSocketConfig(config))
+                .setDefaultConnectionConfig(createConnectionConfig(config))
+                .build();
+    }
+
+    /**
+     * 创建阻塞式HTTP客户端，连接池由调用方持有以便查询统计信息
+     *
+     * @param config API配置
+     * @param connectionManager 连接池管理器
+     * @return HTTP客户端
+     */
+    static CloseableHttpClient createHttpClient(HashExApiConfig config,
+                                                PoolingHttpClientConnectionManager connectionManager) {
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(createRequestConfig(config))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(config.getIdleConnectionEvictMillis()));
+        if (config.getRetryPolicy() != null) {
+            // 由RetryPolicy统一重试（每次重新签名），关闭httpclient内置的自动重试
+            builder.disableAutomaticRetries();
+        }
+        if (!config.isCompressionEnabled()) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
+    /**
+     * 创建非阻塞连接池管理器
+     *
+     * @param config API配置
+     * @return 异步连接池管理器
+     */
+    static PoolingAsyncClientConnectionManager createAsyncConnectionManager(HashExApiConfig config) {
+        PoolingAsyncClientConnectionManagerBuilder builder = PoolingAsyncClientConnectionManagerBuilder.create();
+        if (config.getSslContext() != null) {
+            builder.setTlsStrategy(ClientTlsStrategyBuilder.create()
+                    .setSslContext(config.getSslContext())
+                    .build());
+        }
+        return builder
+                .setMaxConnTotal(config.getMaxTotalConnections())
+                .setMaxConnPerRoute(config.getMaxConnectionsPerRoute())
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setDefaultConnectionConfig(createConnectionConfig(config))
+                .setDefaultTlsConfig(createTlsConfig(config))
+                .build();
+    }
+
+    /**
+     * 创建非阻塞HTTP客户端，少量I/O线程即可承载大量并发请求
+     *
+     * @param config API配置
+     * @param connectionManager 异步连接池管理器
+     * @return 异步HTTP客户端（未启动）
+     */
+    static CloseableHttpAsyncClient createHttpAsyncClient(HashExApiConfig config,
+                                                          PoolingAsyncClientConnectionManager connectionManager) {
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setIOReactorConfig(createIOReactorConfig(config))
+                .setDefaultRequestConfig(createRequestConfig(config))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(config.getIdleConnectionEvictMillis()));
+        if (config.getRetryPolicy() != null) {
+            builder.disableAutomaticRetries();
+        }
+        return builder.build();
+    }
+
+    /**
+     * 创建HTTP/2多路复用客户端：每个路由仅维持一条连接，并发请求作为该连接上的独立流发送
+     *
+     * @param config API配置
+     * @return HTTP/2异步客户端（未启动）
+     */
+    static CloseableHttpAsyncClient createHttp2AsyncClient(HashExApiConfig config) {
+        H2AsyncClientBuilder builder = HttpAsyncClients.customHttp2();
+        if (config.getSslContext() != null) {
+            builder.setTlsStrategy(ClientTlsStrategyBuilder.create()
+                    .setSslContext(config.getSslContext())
+                    .build());
+        }
+        if (config.getRetryPolicy() != null) {
+            builder.disableAutomaticRetries();
+        }
+        return builder
+                .setIOReactorConfig(createIOReactorConfig(config))
+                .setH2Config(H2Config.custom()
+                        .setPushEnabled(false)
+                        .setMaxConcurrentStreams(config.getHttp2MaxConcurrentStreams())
+                        .build())
+                .setDefaultConnectionConfig(createConnectionConfig(config))
+                .setDefaultRequestConfig(createRequestConfig(config))
+                .evictIdleConnections(TimeValue.ofMilliseconds(config.getIdleConnectionEvictMillis()))
+                .build();
+    }
+
+    /**
+     * 通过一次TLS握手的ALPN协商探测服务端是否支持h2
+     *
+     * @param baseUrl API基础URL
+     * @param config API配置
+     * @return 服务端选择了h2时返回true；非TLS地址或服务端仅支持http/1.1时返回false
+     * @throws IOException 连接或握手失败
+     */
+    static boolean negotiateHttp2(String baseUrl, HashExApiConfig config) throws IOException {
+        URI uri = URI.create(baseUrl);
+        if (!"https".equalsIgnoreCase(uri.getScheme())) {
+            return false;
+        }
+        SSLContext sslContext;
+        try {
+            sslContext = config.getSslContext() != null ? config.getSslContext() : SSLContext.getDefault();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("无法获取默认TLS上下文", e);
+        }
+        int port = uri.getPort() > 0 ? uri.getPort() : 443;
+        try (SSLSocket socket = (SSLSocket) sslContext.getSocketFactory().createSocket()) {
+            socket.connect(new InetSocketAddress(uri.getHost(), port), config.getConnectionTimeout());
+            socket.setSoTimeout(config.getConnectionTimeout());
+            SSLParameters parameters = socket.getSSLParameters();
+            parameters.setApplicationProtocols(new String[]{"h2", "http/1.1"});
+            parameters.setEndpointIdentificationAlgorithm("HTTPS");
+            socket.setSSLParameters(parameters);
+            socket.startHandshake();
+            return "h2".equals(socket.getApplicationProtocol());
+        }
+    }
+
+    static TlsConfig createTlsConfig(HashExApiConfig config) {
+        return TlsConfig.custom()
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                .setHandshakeTimeout(Timeout.ofMilliseconds(config.getConnectionTimeout()))
+                .build();
+    }
+
+    static IOReactorConfig createIOReactorConfig(HashExApiConfig config) {
+        IOReactorConfig.Builder builder = IOReactorConfig.custom()
+                .setIoThreadCount(config.getIoThreadCount())
+                .setTcpNoDelay(config.isTcpNoDelay())
+                .setSoKeepAlive(true)
+                .setSoTimeout(Timeout.ofMilliseconds(config.getReadTimeout()));
+        if (config.getSocketSendBufferSize() > 0) {
+            builder.setSndBufSize(config.getSocketSendBufferSize());
+        }
+        if (config.getSocketReceiveBufferSize() > 0) {
+            builder.setRcvBufSize(config.getSocketReceiveBufferSize());
+        }
+        return builder.build();
+    }
+
+    static SocketConfig createSocketConfig(HashExApiConfig config) {
+        SocketConfig.Builder builder = SocketConfig.custom()
+                .setTcpNoDelay(config.isTcpNoDelay())
+                .setSoKeepAlive(true)
+                .setSoTimeout(Timeout.ofMilliseconds(config.getReadTimeout()));
+        if (config.getSocketSendBufferSize() > 0) {
+            builder.setSndBufSize(config.getSocketSendBufferSize());
+        }
+        if (config.getSocketReceiveBufferSize() > 0) {
+            builder.setRcvBufSize(config.getSocketReceiveBufferSize());
+        }
+        return builder.build();
+    }
+
+    static ConnectionConfig createConnectionConfig(HashExApiConfig config) {
+        ConnectionConfig.Builder builder = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(config.getConnectionTimeout()))
+                .setSocketTimeout(Timeout.ofMilliseconds(config.getReadTimeout()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(config.getValidateAfterInactivityMillis()));
+        if (config.getConnectionTimeToLiveMillis() > 0) {
+            builder.setTimeToLive(TimeValue.ofMilliseconds(config.getConnectionTimeToLiveMillis()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 单个端点的请求配置
+     * <p>
+     * 连接超时在httpclient 5.2起推荐通过连接池级的 {@link ConnectionConfig} 设置，但那样无法按端点区分；
+     * 请求级的连接超时仍然生效，且优先于连接池级配置。
+     *
+     * @param config API配置
+     * @param uncompressed 是否不请求压缩（httpclient不再添加Accept-Encoding请求头）
+     * @param timeouts 端点超时，为空时使用全局超时
+     * @return 请求配置
+     */
+    @SuppressWarnings("deprecation")
+    static RequestConfig createEndpointRequestConfig(HashExApiConfig config, boolean uncompressed,
+                                                     TimeoutPolicy.Timeouts timeouts) {
+        RequestConfig.Builder builder = RequestConfig.copy(createRequestConfig(config));
+        if (uncompressed) {
+            builder.setContentCompressionEnabled(false);
+        }
+        if (timeouts != null) {
+            builder.setConnectTimeout(Timeout.ofMilliseconds(timeouts.getConnectMillis()))
+                    .setResponseTimeout(Timeout.ofMilliseconds(timeouts.getResponseMillis()));
+        }
+        return builder.build();
+    }
+
+    static RequestConfig createRequestConfig(HashExApiConfig config) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(config.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.ofMilliseconds(config.getReadTimeout()))
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.openapi.client;
+
+/**
+ * 请求通道，按优先级从高到低声明
+ * <p>
+ * 启用分道调度后，各通道使用独立的连接池和并发上限，排队的请求按通道优先级获得许可，
+ * 对账任务批量翻页查询历史记录时不会占满连接，下单、撤单不必排在其后。
+ */
+public enum Lane {
+    /** 下单、撤单、仓位调整等写操作 */
+    TRADING,
+    /** 账户、订单查询及公共行情等普通查询 */
+    ACCOUNT,
+    /** 历史订单、成交、资金流水等大批量翻页查询 */
+    BULK_HISTORY;
+
+    /**
+     * 根据端点路径确定所属通道
+     *
+     * @param endpoint API端点
+     * @return 目录中端点所属的通道，未登记的端点归入 {@link #ACCOUNT}
+     */
+    public static Lane of(String endpoint) {
+        Endpoint catalogued = Endpoint.of(endpoint);
+        return catalogued != null ? catalogued.getLane() : ACCOUNT;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.openapi.client;
+
+import com.example.openapi.client.codec.ContentEncodings;
+import com.example.openapi.client.resilience.Deadline;
+import com.example.openapi.client.resilience.TimeoutPolicy;
+import com.example.openapi.utils.CanonicalQuery;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.util.Timeout;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+/**
+ * 单个端点的预编译请求模板
+ * <p>
+ * 创建客户端时为每个端点拼好基础URI、选好请求配置和固定请求头，发送请求时只需追加查询参数。
+ */
+final class RequestTemplate {
+    private static final Header ACCEPT_ENCODING = new BasicHeader(HttpHeaders.ACCEPT_ENCODING, ContentEncodings.ACCEPT_ENCODING);
+
+    private final String baseUrl;
+    private final String path;
+    private final String prefix;
+    private final URI bareUri;
+    private final RequestConfig requestConfig;
+    private final boolean compressed;
+    private final Lane lane;
+    // 端点超时，未配置超时策略时为空
+    private final TimeoutPolicy.Timeouts timeouts;
+    private final long responseTimeoutMillis;
+    private final long connectTimeoutMillis;
+
+    /**
+     * 构造函数
+     *
+     * @param baseUrl API基础URL
+     * @param path API端点
+     * @param requestConfig 该端点的请求配置
+     * @param compressed 是否声明接受压缩响应（仅异步客户端需要手动添加请求头）
+     * @param timeouts 端点超时，为空时没有总超时
+     */
+    @SuppressWarnings("deprecation")
+    RequestTemplate(String baseUrl, String path, RequestConfig requestConfig, boolean compressed,
+                    TimeoutPolicy.Timeouts timeouts) {
+        this.baseUrl = baseUrl;
+        this.path = path;
+        this.requestConfig = requestConfig;
+        this.compressed = compressed;
+        this.lane = Lane.of(path);
+        this.timeouts = timeouts;
+        this.responseTimeoutMillis = millis(requestConfig.getResponseTimeout());
+        this.connectTimeoutMillis = millis(requestConfig.getConnectTimeout());
+        URI uri = null;
+        if (CanonicalQuery.isPlainPath(path)) {
+            try {
+                uri = new URI(baseUrl + path);
+            } catch (URISyntaxException e) {
+                // 基础URL不合法时留到发送请求时报错
+            }
+        }
+        this.bareUri = uri;
+        this.prefix = uri != null ? baseUrl + path + '?' : null;
+    }
+
+    /**
+     * 拼接请求URI
+     *
+     * @param query 规范化查询参数
+     * @return 请求URI
+     * @throws URISyntaxException URI不合法
+     */
+    URI uri(CanonicalQuery query) throws URISyntaxException {
+        if (bareUri == null) {
+            return query.toUri(baseUrl, path);
+        }
+        String rawQuery = query.getQuery();
+        return rawQuery.isEmpty() ? bareUri : new URI(prefix.concat(rawQuery));
+    }
+
+    /**
+     * 本次尝试的请求配置：剩余时间不足时，连接及响应超时缩短为剩余时间
+     *
+     * @param deadline 调用的截止时间，可为空
+     * @return 请求配置
+     */
+    @SuppressWarnings("deprecation")
+    RequestConfig requestConfig(Deadline deadline) {
+        if (deadline == null) {
+            return requestConfig;
+        }
+        long remaining = Math.max(1, deadline.remainingMillis());
+        boolean clampResponse = responseTimeoutMillis <= 0 || remaining < responseTimeoutMillis;
+        boolean clampConnect = connectTimeoutMillis <= 0 || remaining < connectTimeoutMillis;
+        if (!clampResponse && !clampConnect) {
+            return requestConfig;
+        }
+        RequestConfig.Builder builder = RequestConfig.copy(requestConfig);
+        if (clampResponse) {
+            builder.setResponseTimeout(Timeout.ofMilliseconds(remaining));
+        }
+        if (clampConnect) {
+            builder.setConnectTimeout(Timeout.ofMilliseconds(remaining));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 按端点总超时创建本次调用的截止时间，未配置超时策略时返回空
+     */
+    Deadline newDeadline() {
+        return timeouts != null ? Deadline.after(timeouts.getTotalMillis()) : null;
+    }
+
+    /**
+     * 需要附加的 Accept-Encoding 请求头，不需要时为空
+     */
+    Header getAcceptEncoding() {
+        return compressed ? ACCEPT_ENCODING : null;
+    }
+
+    /**
+     * 端点所属的请求通道
+     */
+    Lane getLane() {
+        return lane;
+    }
+
+    private static long millis(Timeout timeout) {
+        return timeout != null && !timeout.isDisabled() ? timeout.toMilliseconds() : 0;
+    }
+}
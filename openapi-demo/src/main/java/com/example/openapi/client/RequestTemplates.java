@@ -0,0 +1,51 @@
+package com.example.openapi.client;
+
+import com.example.openapi.client.resilience.TimeoutPolicy;
+import org.apache.hc.client5.http.config.RequestConfig;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 客户端内的请求模板表
+ * <p>
+ * 创建时为 {@link Endpoint} 目录中的全部端点生成模板，其他端点在首次请求时生成并缓存。
+ */
+final class RequestTemplates {
+    private final String baseUrl;
+    private final boolean compressionEnabled;
+    private final Set<String> uncompressedEndpoints;
+    private final HashExApiConfig config;
+    private final TimeoutPolicy timeoutPolicy;
+    private final ConcurrentMap<String, RequestTemplate> templates = new ConcurrentHashMap<>();
+
+    RequestTemplates(HashExApiConfig config) {
+        this.baseUrl = config.getBaseUrl();
+        this.compressionEnabled = config.isCompressionEnabled();
+        this.uncompressedEndpoints = config.getUncompressedEndpoints();
+        this.config = config;
+        this.timeoutPolicy = config.getTimeoutPolicy();
+        for (Endpoint endpoint : Endpoint.values()) {
+            templates.put(endpoint.getPath(), create(endpoint.getPath()));
+        }
+    }
+
+    /**
+     * 获取端点的请求模板
+     *
+     * @param path API端点
+     * @return 请求模板
+     */
+    RequestTemplate get(String path) {
+        RequestTemplate template = templates.get(path);
+        return template != null ? template : templates.computeIfAbsent(path, this::create);
+    }
+
+    private RequestTemplate create(String path) {
+        boolean uncompressed = uncompressedEndpoints.contains(path);
+        TimeoutPolicy.Timeouts timeouts = timeoutPolicy != null ? timeoutPolicy.getTimeouts(path) : null;
+        RequestConfig requestConfig = HttpTransports.createEndpointRequestConfig(config, uncompressed, timeouts);
+        return new RequestTemplate(baseUrl, path, requestConfig, compressionEnabled && !uncompressed, timeouts);
+    }
+}
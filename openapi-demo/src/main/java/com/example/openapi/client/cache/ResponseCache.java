@@ -0,0 +1,54 @@
+package com.example.openapi.client.cache;
+
+import com.example.openapi.client.HashExApiException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 公共接口响应缓存
+ * <p>
+ * 由 {@link com.example.openapi.client.ApiClient} 和 {@link com.example.openapi.client.AsyncApiClient}
+ * 在发送无需签名的GET请求前查询，实现方决定哪些端点可缓存及缓存时长。
+ */
+public interface ResponseCache {
+
+    /**
+     * 端点是否可缓存
+     *
+     * @param endpoint API端点
+     * @return 可缓存返回true
+     */
+    boolean isCacheable(String endpoint);
+
+    /**
+     * 读取缓存，未命中时通过loader加载并写入缓存
+     *
+     * @param endpoint API端点
+     * @param key 请求key（端点 + 排序后的参数）
+     * @param loader 发送请求
+     * @return 响应字符串
+     * @throws HashExApiException 加载失败
+     */
+    String get(String endpoint, String key, SingleFlight.Loader<String> loader) throws HashExApiException;
+
+    /**
+     * 异步读取缓存，未命中时通过loader加载并写入缓存
+     *
+     * @param endpoint API端点
+     * @param key 请求key（端点 + 排序后的参数）
+     * @param loader 发送请求
+     * @return 响应字符串
+     */
+    CompletableFuture<String> getAsync(String endpoint, String key, Supplier<CompletableFuture<String>> loader);
+
+    /**
+     * 移除指定请求的缓存
+     */
+    void invalidate(String key);
+
+    /**
+     * 清空缓存
+     */
+    void clear();
+}
@@ -0,0 +1,183 @@
+package com.example.openapi.client.cache;
+
+import com.example.openapi.client.HashExApiException;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 相同请求合并（single-flight）
+ * <p>
+ * 同一个key同时只执行一次加载，期间到达的相同请求等待并共享该次结果（包括异常）；
+ * 加载完成后立即移除，不做缓存。共享的结果会被多个调用方同时持有，调用方应将其视为只读。
+ *
+ * @param <K> 请求key类型
+ * @param <V> 结果类型
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private volatile long maxWaitMillis = 30000;
+
+    /**
+     * 同步加载
+     *
+     * @param <V> 结果类型
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws HashExApiException;
+    }
+
+    /**
+     * 等待他人加载结果的最长时间（毫秒），超过时等待方失败，不影响执行加载的调用方
+     */
+    public void setMaxWaitMillis(long maxWaitMillis) {
+        if (maxWaitMillis <= 0) {
+            throw new IllegalArgumentException("最长等待时间必须大于0");
+        }
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * 生成请求key：端点 + 按参数名排序的参数
+     *
+     * @param endpoint API端点
+     * @param params 请求参数
+     * @return 请求key
+     */
+    public static String keyOf(String endpoint, Map<String, String> params) {
+        if (params == null || params.isEmpty()) {
+            return endpoint;
+        }
+        Map<String, String> sorted = params instanceof SortedMap && ((SortedMap<String, String>) params).comparator() == null
+                ? params : new TreeMap<>(params);
+        StringBuilder key = new StringBuilder(endpoint.length() + sorted.size() * 16).append(endpoint).append('?');
+        for (Map.Entry<String, String> entry : sorted.entrySet()) {
+            key.append(entry.getKey()).append('=').append(entry.getValue()).append('&');
+        }
+        key.setLength(key.length() - 1);
+        return key.toString();
+    }
+
+    /**
+     * 同步执行：首个调用方在当前线程加载，其余调用方阻塞等待共享结果
+     *
+     * @param key 请求key
+     * @param loader 加载逻辑
+     * @return 加载结果
+     * @throws HashExApiException 加载失败、等待超时或等待被中断
+     */
+    public V call(K key, Loader<V> loader) throws HashExApiException {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            shared.increment();
+            return await(existing, maxWaitMillis);
+        }
+        leaders.increment();
+        try {
+            V value = loader.load();
+            created.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // 包括 Error：不完成共享结果时等待方会一直阻塞
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 异步执行：首个调用方触发加载，其余调用方共享同一结果
+     * <p>
+     * 每个调用方拿到的是独立副本，取消自己的future不会影响其他调用方。
+     *
+     * @param key 请求key
+     * @param loader 加载逻辑
+     * @return 加载结果
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            shared.increment();
+            return existing.copy();
+        }
+        leaders.increment();
+        CompletableFuture<V> source;
+        try {
+            source = loader.get();
+        } catch (Throwable e) {
+            source = new CompletableFuture<>();
+            source.completeExceptionally(e);
+        }
+        source.whenComplete((value, error) -> {
+            if (error != null) {
+                created.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                created.complete(value);
+            }
+            inFlight.remove(key, created);
+        });
+        return created.copy();
+    }
+
+    private static <V> V await(CompletableFuture<V> future, long maxWaitMillis) throws HashExApiException {
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HashExApiException("等待合并请求结果时被中断", e);
+        } catch (TimeoutException e) {
+            throw new HashExApiException("等待合并请求结果超时: " + maxWaitMillis + "ms", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HashExApiException) {
+                throw (HashExApiException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new HashExApiException("执行合并请求时出错: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 当前执行中的请求数
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 实际执行加载的次数
+     */
+    public long getLeaderCount() {
+        return leaders.sum();
+    }
+
+    /**
+     * 共享他人结果、未发起网络请求的次数
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+}
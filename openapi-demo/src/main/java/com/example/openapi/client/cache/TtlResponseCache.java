@@ -0,0 +1,279 @@
+package com.example.openapi.client.cache;
+
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.codec.JsonStreams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 按端点设置TTL的LRU响应缓存
+ * <p>
+ * 每个端点配置新鲜期（TTL）和过期后仍可使用的宽限期：新鲜期内直接返回缓存；宽限期内返回旧值，
+ * 同时在后台刷新（stale-while-revalidate），调用方不必等待网络请求；超过宽限期视为未命中，同步加载。
+ * 缓存条目数有上限，超出时淘汰最久未访问的条目。只缓存 code 为 0 的成功响应。
+ */
+public class TtlResponseCache implements ResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(TtlResponseCache.class);
+
+
+    private final ConcurrentMap<String, long[]> policies = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final LinkedHashMap<String, Entry> entries;
+    private final ExecutorService refreshExecutor;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static final class Entry {
+        final String body;
+        final long freshUntil;
+        final long staleUntil;
+
+        Entry(String body, long freshUntil, long staleUntil) {
+            this.body = body;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maxEntries 最大缓存条目数
+     */
+    public TtlResponseCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("最大缓存条目数必须大于0");
+        }
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "hashex-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        this.refreshExecutor = executor;
+    }
+
+    /**
+     * 按默认配置创建缓存：币种配置、合约币对详情缓存60秒（之后5分钟内后台刷新）
+     * <p>
+     * 服务器时间接口不缓存，缓存的时间会使 {@link com.example.openapi.client.ClockSync} 估算出错误的偏移；
+     * 需要服务器时间时使用客户端的 {@link com.example.openapi.client.ClockSync#serverNowMillis()}。
+     */
+    public static TtlResponseCache defaults() {
+        TtlResponseCache cache = new TtlResponseCache(1024);
+        cache.setTtl(Endpoint.SPOT_SYMBOL_CONFIGS.getPath(), 60000, 300000);
+        cache.setTtl(Endpoint.FUTURES_SYMBOL_DETAIL.getPath(), 60000, 300000);
+        return cache;
+    }
+
+    /**
+     * 设置端点缓存时长
+     *
+     * @param endpoint API端点
+     * @param ttlMillis 新鲜期（毫秒）
+     * @param staleWhileRevalidateMillis 新鲜期结束后仍返回旧值并后台刷新的时长（毫秒），0 表示不启用
+     */
+    public void setTtl(String endpoint, long ttlMillis, long staleWhileRevalidateMillis) {
+        if (ttlMillis <= 0 || staleWhileRevalidateMillis < 0) {
+            throw new IllegalArgumentException("缓存时长不合法");
+        }
+        policies.put(endpoint, new long[]{TimeUnit.MILLISECONDS.toNanos(ttlMillis),
+                TimeUnit.MILLISECONDS.toNanos(staleWhileRevalidateMillis)});
+    }
+
+    @Override
+    public boolean isCacheable(String endpoint) {
+        return policies.containsKey(endpoint);
+    }
+
+    @Override
+    public String get(String endpoint, String key, SingleFlight.Loader<String> loader) throws HashExApiException {
+        long now = System.nanoTime();
+        Entry entry = lookup(key);
+        if (entry != null && now - entry.freshUntil < 0) {
+            hits.increment();
+            return entry.body;
+        }
+        if (entry != null && now - entry.staleUntil < 0) {
+            staleHits.increment();
+            if (refreshing.add(key)) {
+                refreshExecutor.execute(() -> {
+                    try {
+                        refreshes.increment();
+                        store(endpoint, key, loader.load());
+                    } catch (Exception e) {
+                        refreshFailures.increment();
+                        logger.warn("后台刷新缓存失败，key: {}, 原因: {}", key, e.getMessage());
+                    } finally {
+                        refreshing.remove(key);
+                    }
+                });
+            }
+            return entry.body;
+        }
+        misses.increment();
+        String body = loader.load();
+        store(endpoint, key, body);
+        return body;
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(String endpoint, String key, Supplier<CompletableFuture<String>> loader) {
+        long now = System.nanoTime();
+        Entry entry = lookup(key);
+        if (entry != null && now - entry.freshUntil < 0) {
+            hits.increment();
+            return CompletableFuture.completedFuture(entry.body);
+        }
+        if (entry != null && now - entry.staleUntil < 0) {
+            staleHits.increment();
+            if (refreshing.add(key)) {
+                refreshes.increment();
+                loader.get().whenComplete((body, error) -> {
+                    if (error == null) {
+                        store(endpoint, key, body);
+                    } else {
+                        refreshFailures.increment();
+                        logger.warn("后台刷新缓存失败，key: {}, 原因: {}", key, error.getMessage());
+                    }
+                    refreshing.remove(key);
+                });
+            }
+            return CompletableFuture.completedFuture(entry.body);
+        }
+        misses.increment();
+        return loader.get().thenApply(body -> {
+            store(endpoint, key, body);
+            return body;
+        });
+    }
+
+    private Entry lookup(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void store(String endpoint, String key, String body) {
+        long[] policy = policies.get(endpoint);
+        if (policy == null || body == null || !isSuccess(body)) {
+            return;
+        }
+        long now = System.nanoTime();
+        Entry entry = new Entry(body, now + policy[0], now + policy[0] + policy[1]);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * 只有顶层 code 为0的响应才缓存；data 中嵌套的 code 字段不参与判断
+     */
+    private static boolean isSuccess(String body) {
+        try {
+            Integer code = JsonStreams.topLevelInt(body, "code");
+            return code != null && code == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 新鲜期内命中次数
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 返回旧值并触发后台刷新的次数
+     */
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    /**
+     * 未命中（同步加载）次数
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 命中率（含宽限期内命中）
+     */
+    public double getHitRate() {
+        long hit = hits.sum() + staleHits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("size=%d, hits=%d, staleHits=%d, misses=%d, hitRate=%.2f%%, refreshes=%d, evictions=%d",
+                size(), getHitCount(), getStaleHitCount(), getMissCount(), getHitRate() * 100,
+                getRefreshCount(), getEvictionCount());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.openapi.client.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP响应内容编码（gzip/deflate）解压
+ * <p>
+ * 经典阻塞客户端由httpclient内置的解压处理；异步及HTTP/2客户端没有内置解压，由本类在读取响应时流式解压。
+ */
+public final class ContentEncodings {
+
+    /** 请求时声明支持的编码 */
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private ContentEncodings() {
+    }
+
+    /**
+     * 是否为需要解压的编码
+     */
+    public static boolean isCompressed(String contentEncoding) {
+        if (contentEncoding == null) {
+            return false;
+        }
+        String encoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        return encoding.equals("gzip") || encoding.equals("x-gzip") || encoding.equals("deflate");
+    }
+
+    /**
+     * 按内容编码包装解压流，未压缩时原样返回
+     *
+     * @param contentEncoding 响应头 Content-Encoding，可为空
+     * @param in 原始响应流
+     * @return 解压后的流
+     * @throws IOException 压缩格式错误
+     */
+    public static InputStream decode(String contentEncoding, InputStream in) throws IOException {
+        if (!isCompressed(contentEncoding)) {
+            return in;
+        }
+        String encoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        if (encoding.equals("deflate")) {
+            // 规范要求zlib格式，部分服务端发送不带头的原始deflate，按首字节判断
+            if (!in.markSupported()) {
+                in = new java.io.BufferedInputStream(in);
+            }
+            in.mark(2);
+            int b0 = in.read();
+            int b1 = in.read();
+            in.reset();
+            boolean zlib = b0 >= 0 && b1 >= 0 && (b0 & 0x0F) == 8 && ((b0 << 8) | b1) % 31 == 0;
+            return new InflaterInputStream(in, new Inflater(!zlib));
+        }
+        return new GZIPInputStream(in);
+    }
+
+    /**
+     * 解压已缓冲的响应体
+     *
+     * @param contentEncoding 响应头 Content-Encoding，可为空
+     * @param body 原始响应体
+     * @return 解压后的字节
+     * @throws IOException 压缩格式错误
+     */
+    public static byte[] decode(String contentEncoding, byte[] body) throws IOException {
+        if (!isCompressed(contentEncoding) || body.length == 0) {
+            return body;
+        }
+        try (InputStream in = decode(contentEncoding, new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
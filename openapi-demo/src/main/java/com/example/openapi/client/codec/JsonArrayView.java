@@ -0,0 +1,187 @@
+package com.example.openapi.client.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 响应字节上的JSON对象数组视图
+ * <p>
+ * 第一次访问时扫描一遍数组，只记录每个元素的起止位置（每个元素2个int），元素视图在访问时创建，
+ * 其字段索引在访问元素字段时才建立。内存占用与响应体大小成正比，未访问的元素不会创建对象或字符串。
+ * <p>
+ * 按字段值查找元素（{@link #indexOf}）直接比较字节，既不解码也不为被扫描的元素建立索引；
+ * 需要反复按同一字段查找时用 {@link #indexBy} 一次建立映射。
+ * <p>
+ * 可在多线程间共享：偏移索引并发首次建立时可能重复扫描，结果相同；元素视图以CAS发布，同一元素只保留一个视图。
+ *
+ * @see JsonObjectView
+ */
+public final class JsonArrayView {
+
+    private final byte[] bytes;
+    private final int start;
+    private final int end;
+    // 每个元素依次为 起始、结束
+    private volatile int[] offsets;
+    private volatile AtomicReferenceArray<JsonObjectView> elements;
+
+    JsonArrayView(byte[] bytes, int start, int end) {
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+    }
+
+    private int[] index() {
+        int[] index = offsets;
+        if (index != null) {
+            return index;
+        }
+        int[] found = new int[64];
+        int count = 0;
+        int pos = JsonBytes.skipWhitespace(bytes, start + 1, end);
+        if (bytes[pos] == ']') {
+            pos = -1;
+        }
+        while (pos >= 0) {
+            int valueEnd = JsonBytes.skipValue(bytes, pos, end);
+            if (count + 2 > found.length) {
+                found = Arrays.copyOf(found, found.length * 2);
+            }
+            found[count++] = pos;
+            found[count++] = valueEnd;
+            pos = JsonBytes.nextMember(bytes, valueEnd, end, (byte) ']');
+        }
+        index = count == found.length ? found : Arrays.copyOf(found, count);
+        offsets = index;
+        return index;
+    }
+
+    /**
+     * 元素数量
+     */
+    public int size() {
+        return index().length / 2;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 第 i 个元素的视图，同一元素重复访问返回同一视图，字段索引只建立一次
+     *
+     * @param i 下标
+     * @return 元素视图，元素为 null 时返回空
+     * @throws IndexOutOfBoundsException 下标越界
+     * @throws IllegalArgumentException 元素不是JSON对象
+     */
+    public JsonObjectView get(int i) {
+        int[] index = index();
+        int count = index.length / 2;
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("下标 " + i + " 超出范围, 元素数量: " + count);
+        }
+        AtomicReferenceArray<JsonObjectView> views = views(count);
+        JsonObjectView view = views.get(i);
+        if (view == null) {
+            int valueStart = index[i * 2];
+            int valueEnd = index[i * 2 + 1];
+            if (JsonBytes.isNull(bytes, valueStart, valueEnd)) {
+                return null;
+            }
+            if (bytes[valueStart] != '{') {
+                throw JsonBytes.malformed(valueStart, "第 " + i + " 个元素不是JSON对象");
+            }
+            view = new JsonObjectView(bytes, valueStart, valueEnd);
+            if (!views.compareAndSet(i, null, view)) {
+                view = views.get(i);
+            }
+        }
+        return view;
+    }
+
+    private AtomicReferenceArray<JsonObjectView> views(int count) {
+        AtomicReferenceArray<JsonObjectView> views = elements;
+        if (views == null) {
+            synchronized (this) {
+                views = elements;
+                if (views == null) {
+                    views = new AtomicReferenceArray<>(count);
+                    elements = views;
+                }
+            }
+        }
+        return views;
+    }
+
+    /**
+     * 查找字符串字段等于 value 的第一个元素
+     *
+     * @param field 字段名
+     * @param value 字段值
+     * @return 元素下标，未找到返回 -1
+     */
+    public int indexOf(String field, String value) {
+        int[] index = index();
+        for (int i = 0; i < index.length; i += 2) {
+            int elementStart = index[i];
+            int elementEnd = index[i + 1];
+            if (bytes[elementStart] != '{') {
+                continue;
+            }
+            int valueStart = JsonBytes.findField(bytes, elementStart, elementEnd, field);
+            if (valueStart >= 0 && JsonBytes.stringEquals(bytes, valueStart,
+                    JsonBytes.skipValue(bytes, valueStart, elementEnd), value)) {
+                return i / 2;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 扫描一遍数组，建立字符串字段值到元素下标的映射，不为元素建立字段索引
+     * <p>
+     * 值相同的元素保留第一个，与 {@link #indexOf} 一致；字段不存在、不是字符串或元素不是对象的不计入。
+     *
+     * @param field 字段名
+     * @return 字段值到元素下标的映射
+     */
+    public Map<String, Integer> indexBy(String field) {
+        int[] index = index();
+        Map<String, Integer> positions = new HashMap<>(index.length);
+        for (int i = 0; i < index.length; i += 2) {
+            int elementStart = index[i];
+            int elementEnd = index[i + 1];
+            if (bytes[elementStart] != '{') {
+                continue;
+            }
+            int valueStart = JsonBytes.findField(bytes, elementStart, elementEnd, field);
+            if (valueStart >= 0 && bytes[valueStart] == '"') {
+                String value = JsonBytes.text(bytes, valueStart, JsonBytes.skipValue(bytes, valueStart, elementEnd));
+                positions.putIfAbsent(value, i / 2);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * 查找字符串字段等于 value 的第一个元素
+     *
+     * @return 元素视图，未找到返回空
+     */
+    public JsonObjectView find(String field, String value) {
+        int i = indexOf(field, value);
+        return i < 0 ? null : get(i);
+    }
+
+    /**
+     * 数组的JSON原文
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.openapi.client.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 JSON字节的定位与按需解码
+ * <p>
+ * 只识别结构（字符串、对象、数组的边界），不创建任何对象；值的解码由调用方在访问时进行。
+ * 位置参数均为字节下标，区间为左闭右开。
+ */
+final class JsonBytes {
+
+    private JsonBytes() {
+    }
+
+    static int skipWhitespace(byte[] b, int pos, int end) {
+        while (pos < end) {
+            byte c = b[pos];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * 跳过 pos 处的一个值
+     *
+     * @return 值之后的位置
+     */
+    static int skipValue(byte[] b, int pos, int end) {
+        if (pos >= end) {
+            throw malformed(pos, "缺少值");
+        }
+        byte c = b[pos];
+        if (c == '"') {
+            return skipString(b, pos, end);
+        }
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            while (pos < end) {
+                c = b[pos];
+                if (c == '"') {
+                    pos = skipString(b, pos, end);
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    if (--depth == 0) {
+                        return pos + 1;
+                    }
+                }
+                pos++;
+            }
+            throw malformed(pos, "对象或数组未结束");
+        }
+        int start = pos;
+        while (pos < end) {
+            c = b[pos];
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                break;
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw malformed(pos, "非法字符 '" + (char) c + "'");
+        }
+        return pos;
+    }
+
+    /**
+     * 跳过 pos 处以引号开始的字符串
+     *
+     * @return 结束引号之后的位置
+     */
+    static int skipString(byte[] b, int pos, int end) {
+        pos++;
+        while (pos < end) {
+            byte c = b[pos];
+            if (c == '"') {
+                return pos + 1;
+            }
+            pos += c == '\\' ? 2 : 1;
+        }
+        throw malformed(pos, "字符串未结束");
+    }
+
+    /**
+     * 读取对象或数组中下一个逗号或结束符之后的位置
+     *
+     * @return 下一个成员的起始位置，遇到结束符时返回 -1
+     */
+    static int nextMember(byte[] b, int pos, int end, byte close) {
+        pos = skipWhitespace(b, pos, end);
+        if (pos < end && b[pos] == ',') {
+            return skipWhitespace(b, pos + 1, end);
+        }
+        if (pos < end && b[pos] == close) {
+            return -1;
+        }
+        throw malformed(pos, "期望 ',' 或 '" + (char) close + "'");
+    }
+
+    /**
+     * 在对象 [start, end) 中查找字段，不建立索引
+     *
+     * @return 值的起始位置，未找到返回 -1
+     */
+    static int findField(byte[] b, int start, int end, String name) {
+        int pos = skipWhitespace(b, start + 1, end);
+        if (pos < end && b[pos] == '}') {
+            return -1;
+        }
+        while (pos >= 0) {
+            if (b[pos] != '"') {
+                throw malformed(pos, "期望字段名");
+            }
+            int nameEnd = skipString(b, pos, end);
+            int valueStart = skipWhitespace(b, skipColon(b, skipWhitespace(b, nameEnd, end), end), end);
+            if (stringEquals(b, pos, nameEnd, name)) {
+                return valueStart;
+            }
+            pos = nextMember(b, skipValue(b, valueStart, end), end, (byte) '}');
+        }
+        return -1;
+    }
+
+    static int skipColon(byte[] b, int pos, int end) {
+        if (pos >= end || b[pos] != ':') {
+            throw malformed(pos, "期望 ':'");
+        }
+        return pos + 1;
+    }
+
+    static boolean isNull(byte[] b, int start, int end) {
+        return end - start == 4 && b[start] == 'n' && b[start + 1] == 'u' && b[start + 2] == 'l' && b[start + 3] == 'l';
+    }
+
+    /**
+     * 比较带引号的字符串值与 value，没有转义和非ASCII字符时逐字节比较，不解码
+     */
+    static boolean stringEquals(byte[] b, int start, int end, String value) {
+        if (b[start] != '"') {
+            return false;
+        }
+        int length = end - start - 2;
+        for (int i = 0; i < length; i++) {
+            byte c = b[start + 1 + i];
+            if (c < 0 || c == '\\') {
+                return value.equals(text(b, start, end));
+            }
+            if (i >= value.length() || value.charAt(i) != c) {
+                return false;
+            }
+        }
+        return length == value.length();
+    }
+
+    /**
+     * 解码值为字符串：字符串去掉引号并处理转义，null 返回空，数字和布尔值返回原文
+     */
+    static String text(byte[] b, int start, int end) {
+        if (isNull(b, start, end)) {
+            return null;
+        }
+        if (b[start] != '"') {
+            return new String(b, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            if (b[i] == '\\') {
+                return unescape(b, start, end);
+            }
+        }
+        return new String(b, start + 1, end - start - 2, StandardCharsets.UTF_8);
+    }
+
+    private static String unescape(byte[] b, int start, int end) {
+        try (JsonParser parser = JsonCodec.mapper().getFactory().createParser(b, start, end - start)) {
+            parser.nextToken();
+            return parser.getText();
+        } catch (IOException e) {
+            throw new UncheckedIOException("解码字符串时出错: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 解析整数，数字字符串同样可读；调用方需先用 {@link #isBlank} 排除 null 和空字符串
+     */
+    static long parseLong(byte[] b, int start, int end) {
+        if (b[start] == '"') {
+            start++;
+            end--;
+        }
+        int pos = start;
+        boolean negative = pos < end && b[pos] == '-';
+        if (negative) {
+            pos++;
+        }
+        if (pos == end || end - pos > 18) {
+            return new BigDecimal(new String(b, start, end - start, StandardCharsets.ISO_8859_1)).longValueExact();
+        }
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = b[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                return new BigDecimal(new String(b, start, end - start, StandardCharsets.ISO_8859_1)).longValueExact();
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 值是否为 null 或空字符串
+     */
+    static boolean isBlank(byte[] b, int start, int end) {
+        return isNull(b, start, end) || (end - start == 2 && b[start] == '"');
+    }
+
+    static IllegalArgumentException malformed(int pos, String message) {
+        return new IllegalArgumentException("JSON格式错误, 位置 " + pos + ": " + message);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.openapi.client.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JSON编解码工具
+ * <p>
+ * 共享一个线程安全的 {@link ObjectMapper}，支持直接从响应流解码，避免先把响应体复制为字符串再解析。
+ * 泛型类型的解析结果及对应的 {@link ObjectReader} 按类型缓存，每次调用不再反射泛型参数。
+ */
+public final class JsonCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    // TypeReference 通常是每次调用新建的匿名类实例，按其表示的泛型类型缓存
+    private static final ConcurrentMap<Type, JavaType> TYPES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private JsonCodec() {
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * 将类型引用转换为 {@link JavaType}，结果按泛型类型缓存
+     */
+    public static JavaType type(TypeReference<?> typeReference) {
+        return type(typeReference.getType());
+    }
+
+    /**
+     * 将反射类型转换为 {@link JavaType}，结果按类型缓存
+     */
+    public static JavaType type(Type type) {
+        JavaType javaType = TYPES.get(type);
+        return javaType != null ? javaType : TYPES.computeIfAbsent(type, MAPPER.getTypeFactory()::constructType);
+    }
+
+    /**
+     * 获取目标类型的 {@link ObjectReader}，按类型缓存，可在多线程间共享
+     */
+    public static ObjectReader reader(JavaType type) {
+        ObjectReader reader = READERS.get(type);
+        return reader != null ? reader : READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    /**
+     * 创建按目标类型解码的响应解码函数
+     *
+     * @param typeReference 目标类型
+     * @return 解码函数
+     */
+    public static <T> ResponseDecoder<T> decoder(TypeReference<T> typeReference) {
+        ObjectReader reader = reader(type(typeReference));
+        return new ResponseDecoder<T>() {
+            @Override
+            public T decode(InputStream in) throws IOException {
+                try (InputStream body = in) {
+                    return reader.readValue(body);
+                }
+            }
+
+            @Override
+            public T decode(String body) throws IOException {
+                return reader.readValue(body);
+            }
+        };
+    }
+
+    /**
+     * 从输入流解码，读取完成后关闭输入流
+     *
+     * @param in 输入流（JSON编码自动识别）
+     * @param type 目标类型
+     * @return 解码结果
+     * @throws IOException 读取或解析失败
+     */
+    public static <T> T read(InputStream in, JavaType type) throws IOException {
+        try (InputStream body = in) {
+            return reader(type).readValue(body);
+        }
+    }
+
+    /**
+     * 从字符串解码
+     *
+     * @param json JSON字符串
+     * @param type 目标类型
+     * @return 解码结果
+     * @throws IOException 解析失败
+     */
+    public static <T> T read(String json, JavaType type) throws IOException {
+        return reader(type).readValue(json);
+    }
+}
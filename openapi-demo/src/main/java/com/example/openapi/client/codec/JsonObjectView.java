@@ -0,0 +1,300 @@
+package com.example.openapi.client.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 响应字节上的JSON对象视图
+ * <p>
+ * 不复制、不解码：只持有原始UTF-8字节和对象的起止位置，第一次访问字段时扫描一遍对象，
+ * 记录每个字段名和值的位置（每个字段4个int），之后按位置直接解码被访问的字段。
+ * 未访问的字段不会创建字符串，嵌套的对象和数组同样返回视图。
+ * <p>
+ * 字段索引惰性建立后不再变化，多线程并发首次访问时可能重复扫描，结果相同。
+ * 嵌套的视图按字段缓存，同一字段重复访问返回同一视图，其字段索引只建立一次。
+ *
+ * @see JsonArrayView
+ */
+public final class JsonObjectView {
+
+    private final byte[] bytes;
+    private final int start;
+    private final int end;
+    // 每个字段依次为 名称起始、名称结束、值起始、值结束
+    private volatile int[] fields;
+    // 按字段顺序缓存的嵌套对象或数组视图
+    private volatile AtomicReferenceArray<Object> children;
+
+    JsonObjectView(byte[] bytes, int start, int end) {
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * 在完整的JSON字节上建立视图，立即扫描顶层字段并校验整体结构
+     *
+     * @param json UTF-8编码的JSON对象，调用方之后不应修改
+     * @return 视图
+     * @throws IllegalArgumentException 不是JSON对象或格式错误
+     */
+    public static JsonObjectView of(byte[] json) {
+        int start = JsonBytes.skipWhitespace(json, 0, json.length);
+        if (start >= json.length || json[start] != '{') {
+            throw JsonBytes.malformed(start, "期望JSON对象");
+        }
+        int end = JsonBytes.skipValue(json, start, json.length);
+        if (JsonBytes.skipWhitespace(json, end, json.length) != json.length) {
+            throw JsonBytes.malformed(end, "对象之后有多余内容");
+        }
+        JsonObjectView view = new JsonObjectView(json, start, end);
+        view.index();
+        return view;
+    }
+
+    /**
+     * 读取整个输入流并建立视图，可直接作为 {@link ResponseDecoder} 使用：{@code JsonObjectView::read}
+     *
+     * @param in 响应流，读取完成后关闭
+     * @return 视图
+     * @throws IOException 读取失败或格式错误
+     */
+    public static JsonObjectView read(InputStream in) throws IOException {
+        byte[] json;
+        try (InputStream input = in) {
+            json = input.readAllBytes();
+        }
+        try {
+            return of(json);
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(null, e.getMessage(), e);
+        }
+    }
+
+    private int[] index() {
+        int[] index = fields;
+        if (index != null) {
+            return index;
+        }
+        int[] found = new int[16];
+        int count = 0;
+        int pos = JsonBytes.skipWhitespace(bytes, start + 1, end);
+        if (bytes[pos] == '}') {
+            pos = -1;
+        }
+        while (pos >= 0) {
+            if (bytes[pos] != '"') {
+                throw JsonBytes.malformed(pos, "期望字段名");
+            }
+            int nameEnd = JsonBytes.skipString(bytes, pos, end);
+            int valueStart = JsonBytes.skipWhitespace(bytes,
+                    JsonBytes.skipColon(bytes, JsonBytes.skipWhitespace(bytes, nameEnd, end), end), end);
+            int valueEnd = JsonBytes.skipValue(bytes, valueStart, end);
+            if (count + 4 > found.length) {
+                found = Arrays.copyOf(found, found.length * 2);
+            }
+            found[count++] = pos;
+            found[count++] = nameEnd;
+            found[count++] = valueStart;
+            found[count++] = valueEnd;
+            pos = JsonBytes.nextMember(bytes, valueEnd, end, (byte) '}');
+        }
+        index = count == found.length ? found : Arrays.copyOf(found, count);
+        fields = index;
+        return index;
+    }
+
+    /**
+     * 查找字段在索引中的位置
+     *
+     * @return 值起始在索引数组中的下标，未找到返回 -1
+     */
+    private int slot(String name) {
+        int[] index = index();
+        for (int i = 0; i < index.length; i += 4) {
+            if (JsonBytes.stringEquals(bytes, index[i], index[i + 1], name)) {
+                return i + 2;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 字段数量
+     */
+    public int size() {
+        return index().length / 4;
+    }
+
+    /**
+     * 是否包含字段（值为 null 也算包含）
+     */
+    public boolean has(String name) {
+        return slot(name) >= 0;
+    }
+
+    /**
+     * 字段不存在或值为 null
+     */
+    public boolean isNull(String name) {
+        int slot = slot(name);
+        return slot < 0 || JsonBytes.isNull(bytes, fields[slot], fields[slot + 1]);
+    }
+
+    /**
+     * 读取字符串字段，数字和布尔值返回原文
+     *
+     * @return 字段值，不存在或为 null 时返回空
+     */
+    public String text(String name) {
+        int slot = slot(name);
+        return slot < 0 ? null : JsonBytes.text(bytes, fields[slot], fields[slot + 1]);
+    }
+
+    /**
+     * 比较字符串字段与 value，不解码字段值
+     */
+    public boolean textEquals(String name, String value) {
+        int slot = slot(name);
+        return slot >= 0 && JsonBytes.stringEquals(bytes, fields[slot], fields[slot + 1], value);
+    }
+
+    /**
+     * 读取长整数字段，数字字符串同样可读
+     *
+     * @return 字段值，不存在、为 null 或空字符串时返回空
+     */
+    public Long longValue(String name) {
+        int slot = slot(name);
+        if (slot < 0 || JsonBytes.isBlank(bytes, fields[slot], fields[slot + 1])) {
+            return null;
+        }
+        return JsonBytes.parseLong(bytes, fields[slot], fields[slot + 1]);
+    }
+
+    /**
+     * 读取整数字段，数字字符串同样可读
+     *
+     * @return 字段值，不存在、为 null 或空字符串时返回空
+     */
+    public Integer intValue(String name) {
+        Long value = longValue(name);
+        return value == null ? null : Math.toIntExact(value);
+    }
+
+    /**
+     * 读取十进制数字段，按原文精确转换，数字字符串同样可读
+     *
+     * @return 字段值，不存在、为 null 或空字符串时返回空
+     */
+    public BigDecimal decimalValue(String name) {
+        int slot = slot(name);
+        if (slot < 0 || JsonBytes.isBlank(bytes, fields[slot], fields[slot + 1])) {
+            return null;
+        }
+        return new BigDecimal(JsonBytes.text(bytes, fields[slot], fields[slot + 1]));
+    }
+
+    /**
+     * 读取布尔字段
+     *
+     * @return 字段值，不存在或为 null 时返回空
+     */
+    public Boolean boolValue(String name) {
+        String value = text(name);
+        return value == null ? null : Boolean.valueOf(value);
+    }
+
+    /**
+     * 嵌套对象字段的视图
+     *
+     * @return 视图，不存在或为 null 时返回空
+     * @throws IllegalArgumentException 字段值不是对象
+     */
+    public JsonObjectView object(String name) {
+        int slot = slot(name);
+        if (slot < 0 || JsonBytes.isNull(bytes, fields[slot], fields[slot + 1])) {
+            return null;
+        }
+        if (bytes[fields[slot]] != '{') {
+            throw JsonBytes.malformed(fields[slot], "字段 " + name + " 不是JSON对象");
+        }
+        return (JsonObjectView) child(slot);
+    }
+
+    /**
+     * 数组字段的视图
+     *
+     * @return 视图，不存在或为 null 时返回空
+     * @throws IllegalArgumentException 字段值不是数组
+     */
+    public JsonArrayView array(String name) {
+        int slot = slot(name);
+        if (slot < 0 || JsonBytes.isNull(bytes, fields[slot], fields[slot + 1])) {
+            return null;
+        }
+        if (bytes[fields[slot]] != '[') {
+            throw JsonBytes.malformed(fields[slot], "字段 " + name + " 不是JSON数组");
+        }
+        return (JsonArrayView) child(slot);
+    }
+
+    /**
+     * 字段值的嵌套视图，第一次访问时创建并以CAS发布，调用方已确认值是对象或数组
+     */
+    private Object child(int slot) {
+        int[] index = fields;
+        AtomicReferenceArray<Object> cache = children;
+        if (cache == null) {
+            synchronized (this) {
+                cache = children;
+                if (cache == null) {
+                    cache = new AtomicReferenceArray<>(index.length / 4);
+                    children = cache;
+                }
+            }
+        }
+        int i = slot / 4;
+        Object child = cache.get(i);
+        if (child == null) {
+            int valueStart = index[slot];
+            int valueEnd = index[slot + 1];
+            child = bytes[valueStart] == '{'
+                    ? new JsonObjectView(bytes, valueStart, valueEnd)
+                    : new JsonArrayView(bytes, valueStart, valueEnd);
+            if (!cache.compareAndSet(i, null, child)) {
+                child = cache.get(i);
+            }
+        }
+        return child;
+    }
+
+    /**
+     * 用生成的编解码器把整个对象解码为VO，只解析该对象所在的字节区间
+     *
+     * @param codec 编解码器
+     * @return VO
+     * @throws IOException 解析失败
+     */
+    public <T> T read(VoCodec<T> codec) throws IOException {
+        try (JsonParser parser = JsonCodec.mapper().getFactory().createParser(bytes, start, end - start)) {
+            parser.nextToken();
+            return codec.read(parser);
+        }
+    }
+
+    /**
+     * 对象的JSON原文
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,327 @@
+package com.example.openapi.client.codec;
+
+import com.example.openapi.client.HashExApiException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 基于 {@link JsonParser} 的流式解码工具
+ * <p>
+ * 逐个读取JSON记号直接填充VO，不构建中间的JSON树，也不通过反射查找属性。字段名由Jackson的符号表规范化，
+ * 按字段名 switch 分派即可，读取字段名本身不产生分配。
+ * <p>
+ * 标量读取与Hutool的 getStr/getInt/getLong/getBool 语义一致：数字可读为字符串，数字字符串可读为数字，null读为空。
+ * 值无法转换时抛出带解析位置的 {@link JsonParseException}，不会抛出 {@link NumberFormatException}。
+ */
+public final class JsonStreams {
+
+    private static final JsonFactory FACTORY = JsonCodec.mapper().getFactory();
+
+    private JsonStreams() {
+    }
+
+    /**
+     * 对象字段读取函数
+     *
+     * @param <T> 填充的目标类型
+     */
+    @FunctionalInterface
+    public interface FieldReader<T> {
+        /**
+         * 读取一个字段的值，解析器位于值的第一个记号
+         *
+         * @return 已读取返回true；返回false时跳过该字段的值
+         */
+        boolean read(T target, String field, JsonParser parser) throws IOException;
+    }
+
+    /**
+     * 流式解码 {"code":0,"msg":"...","data":{...}} 响应，data 的各字段交给 dataReader
+     *
+     * @param json 响应文本
+     * @param action 操作名称，用于错误信息，例如 "查询订单列表"
+     * @param factory 创建 data 对应的结果对象
+     * @param dataReader data 的字段读取函数
+     * @return 解码结果；data 为null时返回空
+     * @throws HashExApiException code 不为0（"{action}失败: msg"）或响应格式错误（"{action}时出错: ..."）
+     */
+    public static <T> T readData(String json, String action, Supplier<T> factory, FieldReader<T> dataReader)
+            throws HashExApiException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return readData(parser, action, factory, dataReader);
+        } catch (IOException e) {
+            throw new HashExApiException(action + "时出错: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 从响应流解码，读取完成后关闭输入流
+     *
+     * @see #readData(String, String, Supplier, FieldReader)
+     */
+    public static <T> T readData(InputStream in, String action, Supplier<T> factory, FieldReader<T> dataReader)
+            throws HashExApiException {
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            return readData(parser, action, factory, dataReader);
+        } catch (IOException e) {
+            throw new HashExApiException(action + "时出错: " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> T readData(JsonParser parser, String action, Supplier<T> factory, FieldReader<T> dataReader)
+            throws IOException, HashExApiException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new HashExApiException(action + "时出错: 响应不是JSON对象");
+        }
+        Integer code = null;
+        String msg = null;
+        T data = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "code":
+                    code = intValue(parser);
+                    break;
+                case "msg":
+                    msg = text(parser);
+                    break;
+                case "data":
+                    if (token == JsonToken.START_OBJECT) {
+                        data = factory.get();
+                        readFields(parser, data, dataReader);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        // code 可能出现在 data 之后，读完整个对象后再判断
+        if (code == null || code != 0) {
+            throw new HashExApiException(action + "失败: " + msg);
+        }
+        return data;
+    }
+
+    /**
+     * 读取一个对象的全部字段，解析器位于 START_OBJECT，返回时位于对应的 END_OBJECT
+     *
+     * @param parser 解析器
+     * @param target 填充的目标对象
+     * @param reader 字段读取函数，未读取的字段被跳过
+     * @return 由 reader 读取的字段数，可用于检查必需字段
+     */
+    public static <T> int readFields(JsonParser parser, T target, FieldReader<T> reader) throws IOException {
+        int handled = 0;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            if (reader.read(target, field, parser)) {
+                handled++;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return handled;
+    }
+
+    /**
+     * 读取对象数组，解析器位于 START_ARRAY 或 null 值
+     *
+     * @param parser 解析器
+     * @param factory 为每个元素创建目标对象
+     * @param reader 元素的字段读取函数
+     * @return 元素列表，null 时返回空列表
+     */
+    public static <T> List<T> readList(JsonParser parser, Supplier<T> factory, FieldReader<T> reader) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return new ArrayList<>(0);
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IOException("期望JSON数组，实际为: " + token);
+        }
+        List<T> list = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                T item = factory.get();
+                readFields(parser, item, reader);
+                list.add(item);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 读取顶层对象中的整数字段，只遍历第一层字段，嵌套对象中的同名字段不会被误读
+     *
+     * @param json JSON文本
+     * @param field 字段名
+     * @return 字段值；不是JSON对象、字段不存在或为 null 时返回空
+     * @throws IOException JSON格式错误或字段值不是数字
+     */
+    public static Integer topLevelInt(String json, String field) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String name;
+            while ((name = parser.nextFieldName()) != null) {
+                parser.nextToken();
+                if (field.equals(name)) {
+                    return intValue(parser);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 读取字符串；数字和布尔值按原文返回，null 返回空，对象和数组被跳过并返回空
+     */
+    public static String text(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    /**
+     * 读取整数，数字字符串同样可读；null 或空字符串返回空
+     */
+    public static Integer intValue(JsonParser parser) throws IOException {
+        Long value = longValue(parser);
+        return value != null ? value.intValue() : null;
+    }
+
+    /**
+     * 读取长整数，数字字符串同样可读；null 或空字符串返回空
+     *
+     * @throws JsonParseException 值不是数字或数字字符串
+     */
+    public static Long longValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT:
+                return parser.getLongValue();
+            case VALUE_NUMBER_FLOAT:
+                return (long) parser.getDoubleValue();
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return Long.parseLong(text);
+                } catch (NumberFormatException e) {
+                    return (long) parseDouble(parser, text);
+                }
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new JsonParseException(parser, "字段 " + parser.currentName() + " 不是数字: " + parser.currentToken());
+        }
+    }
+
+    /**
+     * 读取浮点数，数字字符串同样可读；null 或空字符串返回空
+     *
+     * @throws JsonParseException 值不是数字或数字字符串
+     */
+    public static Double doubleValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                return text.isEmpty() ? null : parseDouble(parser, text);
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new JsonParseException(parser, "字段 " + parser.currentName() + " 不是数字: " + parser.currentToken());
+        }
+    }
+
+    /**
+     * 读取十进制数，按原文精确转换，数字字符串同样可读；null 或空字符串返回空
+     *
+     * @throws JsonParseException 值不是数字或数字字符串
+     */
+    public static BigDecimal decimalValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDecimalValue();
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return new BigDecimal(text);
+                } catch (NumberFormatException e) {
+                    throw notNumber(parser, text, e);
+                }
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new JsonParseException(parser, "字段 " + parser.currentName() + " 不是数字: " + parser.currentToken());
+        }
+    }
+
+    private static double parseDouble(JsonParser parser, String text) throws IOException {
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw notNumber(parser, text, e);
+        }
+    }
+
+    private static JsonParseException notNumber(JsonParser parser, String text, NumberFormatException cause)
+            throws IOException {
+        return new JsonParseException(parser, "字段 " + parser.currentName() + " 不是数字: \"" + text + "\"", cause);
+    }
+
+    /**
+     * 读取布尔值，字符串 "true"/"false"、"1"/"0" 及非零数字同样可读；null 返回空
+     */
+    public static Boolean boolValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NUMBER_INT:
+                return parser.getLongValue() != 0;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                return "true".equalsIgnoreCase(text) || "1".equals(text) || "yes".equalsIgnoreCase(text);
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new JsonParseException(parser, "字段 " + parser.currentName() + " 不是布尔值: " + parser.currentToken());
+        }
+    }
+}
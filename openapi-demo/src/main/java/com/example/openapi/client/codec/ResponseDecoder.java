@@ -0,0 +1,37 @@
+package com.example.openapi.client.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 响应体解码函数
+ * <p>
+ * 客户端直接把响应流交给解码函数，响应体不会复制为字符串；HTTP/2等只能得到字符串响应的路径调用 {@link #decode(String)}。
+ *
+ * @param <T> 解码结果类型
+ */
+@FunctionalInterface
+public interface ResponseDecoder<T> {
+
+    /**
+     * 从响应流解码，读取完成后由实现关闭输入流
+     *
+     * @param in 响应流
+     * @return 解码结果
+     * @throws IOException 读取或解析失败
+     */
+    T decode(InputStream in) throws IOException;
+
+    /**
+     * 从响应字符串解码，默认按UTF-8编码后从字节流解码
+     *
+     * @param body 响应字符串
+     * @return 解码结果
+     * @throws IOException 解析失败
+     */
+    default T decode(String body) throws IOException {
+        return decode(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.openapi.client.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * VO的JSON编解码器
+ * <p>
+ * 由 vo-codec-processor 模块在编译期为标记了 {@code @GenerateCodec} 的VO生成，通过 {@link VoCodecs} 按类型查找。
+ *
+ * @param <T> VO类型
+ */
+public interface VoCodec<T> {
+
+    /**
+     * 编解码的VO类型
+     */
+    Class<T> type();
+
+    /**
+     * 读取一个对象，解析器位于 START_OBJECT 或 null 值，返回时位于对应的 END_OBJECT
+     *
+     * @param parser 解析器
+     * @return VO，null 值返回空
+     * @throws IOException 读取失败或不是JSON对象
+     */
+    T read(JsonParser parser) throws IOException;
+
+    /**
+     * 写出一个对象，VO为空时写出 null
+     *
+     * @param generator 输出
+     * @param value VO
+     * @throws IOException 写出失败
+     */
+    void write(JsonGenerator generator, T value) throws IOException;
+}
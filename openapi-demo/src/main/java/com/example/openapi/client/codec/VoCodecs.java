@@ -0,0 +1,123 @@
+package com.example.openapi.client.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 编译期生成的VO编解码器索引
+ * <p>
+ * 索引在类加载时由生成的编解码器列表一次建立，之后只读；查找和编解码都不经过反射。
+ */
+public final class VoCodecs {
+
+    private static final JsonFactory FACTORY = JsonCodec.mapper().getFactory();
+    private static final Map<Class<?>, VoCodec<?>> CODECS = new HashMap<>();
+
+    static {
+        for (VoCodec<?> codec : GeneratedVoCodecs.CODECS) {
+            CODECS.put(codec.type(), codec);
+        }
+    }
+
+    private VoCodecs() {
+    }
+
+    /**
+     * 查找编解码器
+     *
+     * @param type VO类型
+     * @return 编解码器，未生成时返回空
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> VoCodec<T> find(Class<T> type) {
+        return (VoCodec<T>) CODECS.get(type);
+    }
+
+    /**
+     * 获取编解码器
+     *
+     * @throws IllegalArgumentException 该类型未标记 {@code @GenerateCodec}
+     */
+    public static <T> VoCodec<T> get(Class<T> type) {
+        VoCodec<T> codec = find(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("未生成编解码器: " + type.getName());
+        }
+        return codec;
+    }
+
+    /**
+     * 已生成的编解码器数量
+     */
+    public static int size() {
+        return CODECS.size();
+    }
+
+    /**
+     * 读取对象数组，解析器位于 START_ARRAY 或 null 值
+     *
+     * @param parser 解析器
+     * @param codec 元素编解码器
+     * @return 元素列表，null 时返回空
+     */
+    public static <T> List<T> readList(JsonParser parser, VoCodec<T> codec) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "期望JSON数组, 实际为: " + token);
+        }
+        List<T> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(codec.read(parser));
+        }
+        return list;
+    }
+
+    /**
+     * 从JSON字符串解码一个对象
+     */
+    public static <T> T read(String json, Class<T> type) throws IOException {
+        VoCodec<T> codec = get(type);
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.nextToken();
+            return codec.read(parser);
+        }
+    }
+
+    /**
+     * 从JSON字符串解码对象数组
+     */
+    public static <T> List<T> readList(String json, Class<T> type) throws IOException {
+        VoCodec<T> codec = get(type);
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.nextToken();
+            return readList(parser, codec);
+        }
+    }
+
+    /**
+     * 编码为JSON字符串
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> String write(T value) throws IOException {
+        VoCodec<T> codec = get((Class<T>) value.getClass());
+        SegmentedStringWriter writer = new SegmentedStringWriter(new BufferRecycler());
+        try (JsonGenerator generator = FACTORY.createGenerator(writer)) {
+            codec.write(generator, value);
+        }
+        return writer.getAndClear();
+    }
+}
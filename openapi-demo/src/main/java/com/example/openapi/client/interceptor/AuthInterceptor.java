@@ -0,0 +1,32 @@
+package com.example.openapi.client.interceptor;
+
+import com.example.openapi.utils.Signer;
+
+/**
+ * 签名：为需要认证的请求添加访问密钥、时间戳、随机数和签名请求头
+ * <p>
+ * 每次尝试都重新签名，重试和对冲请求不会复用过期的时间戳。
+ */
+public class AuthInterceptor implements Interceptor {
+    private final Signer signer;
+
+    /**
+     * 构造函数
+     *
+     * @param signer 签名器，未配置密钥时为空，此时发送需要签名的请求会失败
+     */
+    public AuthInterceptor(Signer signer) {
+        this.signer = signer;
+    }
+
+    @Override
+    public void beforeRequest(Exchange exchange) {
+        if (!exchange.isNeedAuth()) {
+            return;
+        }
+        if (signer == null) {
+            throw new IllegalStateException("未配置API密钥，无法签名");
+        }
+        signer.addAuthHeaders(exchange.getRequest(), exchange.getQuery());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.openapi.client.interceptor;
+
+import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.resilience.CircuitBreaker;
+
+/**
+ * 熔断：发送前检查接口族的熔断器，并把每次尝试的结果和耗时记入熔断窗口
+ * <p>
+ * 位于自定义拦截器之后、错误映射之前：被自定义拦截器短路的请求不计入窗口，
+ * 而非2xx响应在到达本拦截器前已映射为带状态码的异常，可以区分瞬时故障和业务错误。
+ * 被放弃的尝试（对冲中落败、调用方取消）既不计为失败也不计为成功，只归还占用的探测名额。
+ * 许可的代数保存在 {@link Exchange} 上，熔断器据此忽略状态变化前发出的请求的结果。
+ */
+public class CircuitBreakerInterceptor implements Interceptor {
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerInterceptor(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void beforeRequest(Exchange exchange) throws HashExApiException {
+        exchange.setCircuitGeneration(circuitBreaker.acquirePermission(exchange.getEndpoint()));
+    }
+
+    @Override
+    public void afterResponse(Exchange exchange) {
+        circuitBreaker.onSuccess(exchange.getEndpoint(), exchange.getCircuitGeneration(),
+                System.nanoTime() - exchange.getStartNanos());
+    }
+
+    @Override
+    public Exception onError(Exchange exchange, Exception error) {
+        if (exchange.isCancelled()) {
+            circuitBreaker.onCancelled(exchange.getEndpoint(), exchange.getCircuitGeneration());
+            return error;
+        }
+        circuitBreaker.onError(exchange.getEndpoint(), exchange.getCircuitGeneration(),
+                System.nanoTime() - exchange.getStartNanos(), error);
+        return error;
+    }
+}
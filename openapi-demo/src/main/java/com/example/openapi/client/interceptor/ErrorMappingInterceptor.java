@@ -0,0 +1,28 @@
+package com.example.openapi.client.interceptor;
+
+import com.example.openapi.client.HashExApiException;
+
+/**
+ * 错误映射：非2xx响应转换为携带状态码的 {@link HashExApiException}，网络及解码异常统一包装为 HashExApiException
+ * <p>
+ * 重试策略按异常中的状态码判断是否可重试，外层拦截器看到的都是映射后的异常。
+ */
+public class ErrorMappingInterceptor implements Interceptor {
+
+    @Override
+    public void afterResponse(Exchange exchange) throws HashExApiException {
+        int statusCode = exchange.getStatusCode();
+        if (statusCode < 200 || statusCode >= 300) {
+            throw new HashExApiException("API请求失败，状态码: " + statusCode + ", 响应: " + exchange.getResponseBody(),
+                    statusCode);
+        }
+    }
+
+    @Override
+    public Exception onError(Exchange exchange, Exception error) {
+        if (error instanceof HashExApiException) {
+            return error;
+        }
+        return new HashExApiException("执行" + exchange.getMethod() + "请求时出错: " + error.getMessage(), error);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.openapi.client.interceptor;
+
+import com.example.openapi.utils.CanonicalQuery;
+import org.apache.hc.core5.http.HttpRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 一次请求尝试的上下文，在拦截器之间传递
+ * <p>
+ * 每次尝试创建一个实例，只在一个线程上按顺序访问（异步请求先在发送线程、后在I/O线程），无需同步。
+ * 拦截器之间需要传递的数据可通过 {@link #setAttribute} 保存，属性表在首次写入时才创建。
+ * 唯一的例外是取消标记，可能由对冲或调用方线程设置。
+ */
+public final class Exchange {
+    private final String method;
+    private final String endpoint;
+    private final TreeMap<String, String> queryParams;
+    private final CanonicalQuery query;
+    private final boolean needAuth;
+    private final HttpRequest request;
+    private final long startNanos;
+    // 已执行过 beforeRequest 的拦截器数量
+    int entered;
+    private boolean shortCircuited;
+    private volatile boolean cancelled;
+    private long circuitGeneration;
+    private int statusCode;
+    private String responseBody;
+    private Map<String, Object> attributes;
+
+    /**
+     * 构造函数
+     *
+     * @param method HTTP方法
+     * @param endpoint API端点
+     * @param queryParams 查询参数
+     * @param query 规范化查询参数
+     * @param needAuth 是否需要签名
+     * @param request 待发送的请求
+     */
+    public Exchange(String method, String endpoint, TreeMap<String, String> queryParams, CanonicalQuery query,
+                    boolean needAuth, HttpRequest request) {
+        this.method = method;
+        this.endpoint = endpoint;
+        this.queryParams = queryParams;
+        this.query = query;
+        this.needAuth = needAuth;
+        this.request = request;
+        this.startNanos = System.nanoTime();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public TreeMap<String, String> getQueryParams() {
+        return queryParams;
+    }
+
+    public CanonicalQuery getQuery() {
+        return query;
+    }
+
+    public boolean isNeedAuth() {
+        return needAuth;
+    }
+
+    /**
+     * 待发送的请求，beforeRequest 中可添加请求头
+     */
+    public HttpRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * 创建上下文时的 {@link System#nanoTime()}
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * 短路请求：跳过其后的拦截器和网络请求，以该响应文本作为成功响应
+     *
+     * @param body 响应文本
+     */
+    public void respond(String body) {
+        this.shortCircuited = true;
+        this.statusCode = 200;
+        this.responseBody = body;
+    }
+
+    /**
+     * 是否被拦截器短路
+     */
+    public boolean isShortCircuited() {
+        return shortCircuited;
+    }
+
+    /**
+     * 标记本次尝试已被放弃，例如对冲请求中落败的一方或调用方取消的请求
+     */
+    public void markCancelled() {
+        this.cancelled = true;
+    }
+
+    /**
+     * 本次尝试是否已被放弃；此时的失败由中止请求引起，不反映服务端状况，不应计入熔断窗口和耗时统计
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 发放熔断许可时熔断器的代数，由 {@link CircuitBreakerInterceptor} 在 beforeRequest 中设置
+     */
+    public long getCircuitGeneration() {
+        return circuitGeneration;
+    }
+
+    void setCircuitGeneration(long circuitGeneration) {
+        this.circuitGeneration = circuitGeneration;
+    }
+
+    /**
+     * HTTP状态码，尚未收到响应时为0
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * 响应文本；直接从响应流解码为对象的请求成功时为空
+     */
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    void setResponse(int statusCode, String responseBody) {
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+
+    public Object getAttribute(String name) {
+        return attributes != null ? attributes.get(name) : null;
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<>(4);
+        }
+        attributes.put(name, value);
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + endpoint + (query.getQuery().isEmpty() ? "" : "?" + query.getQuery());
+    }
+}
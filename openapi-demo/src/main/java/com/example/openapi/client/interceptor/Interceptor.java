@@ -0,0 +1,48 @@
+package com.example.openapi.client.interceptor;
+
+import com.example.openapi.client.HashExApiException;
+
+/**
+ * 请求拦截器
+ * <p>
+ * 由 {@link com.example.openapi.client.ApiClient} 和 {@link com.example.openapi.client.AsyncApiClient}
+ * 在每次尝试（每次重试、每个对冲请求）获得限流许可后调用，同步和异步客户端共用同一组拦截器：
+ * <ul>
+ *     <li>{@link #beforeRequest} 按注册顺序调用，可修改请求头，或调用 {@link Exchange#respond(String)} 短路，
+ *     此时跳过其后的拦截器和网络请求</li>
+ *     <li>{@link #afterResponse} 按相反顺序调用，只调用已执行过 beforeRequest 的拦截器</li>
+ *     <li>{@link #onError} 在请求失败或内层拦截器抛出异常时按相反顺序调用，可替换异常</li>
+ * </ul>
+ * 异步客户端的 afterResponse 和 onError 在I/O线程上执行，实现中不应阻塞。
+ */
+public interface Interceptor {
+
+    /**
+     * 发送请求前调用
+     *
+     * @param exchange 本次请求
+     * @throws HashExApiException 中止请求，外层拦截器的 onError 随后被调用
+     */
+    default void beforeRequest(Exchange exchange) throws HashExApiException {
+    }
+
+    /**
+     * 收到响应（或被短路）后调用，状态码和响应文本见 {@link Exchange}
+     *
+     * @param exchange 本次请求
+     * @throws HashExApiException 将本次请求视为失败，外层拦截器的 onError 随后被调用
+     */
+    default void afterResponse(Exchange exchange) throws HashExApiException {
+    }
+
+    /**
+     * 请求失败时调用
+     *
+     * @param exchange 本次请求
+     * @param error 网络异常、内层拦截器抛出或映射后的异常
+     * @return 传递给外层拦截器的异常，默认原样返回
+     */
+    default Exception onError(Exchange exchange, Exception error) {
+        return error;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.openapi.client.interceptor;
+
+import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.resilience.CircuitBreaker;
+import com.example.openapi.utils.Signer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 有序的拦截器链
+ * <p>
+ * 拦截器保存在数组中，按下标遍历，执行过程不创建迭代器或链节点，每次尝试只分配一个 {@link Exchange}。
+ * 已执行过 beforeRequest 的拦截器数量记录在 Exchange 中，短路或失败时只回调这些拦截器。
+ */
+public final class InterceptorChain {
+    private final Interceptor[] interceptors;
+
+    /**
+     * 构造函数
+     *
+     * @param interceptors 拦截器，beforeRequest 按列表顺序执行
+     */
+    public InterceptorChain(List<Interceptor> interceptors) {
+        this.interceptors = interceptors.toArray(new Interceptor[0]);
+    }
+
+    /**
+     * 客户端默认的拦截器链：耗时统计 → 自定义拦截器 → 熔断 → 错误映射 → 签名
+     * <p>
+     * 耗时统计在最外层，计入自定义拦截器的耗时并能看到映射后的异常；签名在最内层，
+     * 时间戳尽量贴近实际发送时间。
+     *
+     * @param timing 耗时统计
+     * @param custom 自定义拦截器
+     * @param circuitBreaker 熔断器，为空时不熔断
+     * @param signer 签名器，未配置密钥时为空
+     * @return 拦截器链
+     */
+    public static InterceptorChain standard(TimingInterceptor timing, List<Interceptor> custom,
+                                            CircuitBreaker circuitBreaker, Signer signer) {
+        List<Interceptor> interceptors = new ArrayList<>(custom.size() + 4);
+        interceptors.add(timing);
+        interceptors.addAll(custom);
+        if (circuitBreaker != null) {
+            interceptors.add(new CircuitBreakerInterceptor(circuitBreaker));
+        }
+        interceptors.add(new ErrorMappingInterceptor());
+        interceptors.add(new AuthInterceptor(signer));
+        return new InterceptorChain(interceptors);
+    }
+
+    /**
+     * 按顺序执行 beforeRequest
+     *
+     * @param exchange 本次请求
+     * @return 被短路时返回true，响应文本见 {@link Exchange#getResponseBody()}
+     * @throws Exception 拦截器抛出的异常，调用方应交给 {@link #error} 处理
+     */
+    public boolean before(Exchange exchange) throws Exception {
+        for (int i = 0; i < interceptors.length; i++) {
+            interceptors[i].beforeRequest(exchange);
+            exchange.entered = i + 1;
+            if (exchange.isShortCircuited()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 记录响应并按相反顺序执行 afterResponse；某个拦截器抛出异常时，其外层拦截器改为执行 onError
+     *
+     * @param exchange 本次请求
+     * @param statusCode HTTP状态码
+     * @param responseBody 响应文本，直接解码为对象时为空
+     * @throws HashExApiException 拦截器认定请求失败（例如非2xx状态码）
+     */
+    public void after(Exchange exchange, int statusCode, String responseBody) throws HashExApiException {
+        if (!exchange.isShortCircuited()) {
+            exchange.setResponse(statusCode, responseBody);
+        }
+        for (int i = exchange.entered - 1; i >= 0; i--) {
+            try {
+                interceptors[i].afterResponse(exchange);
+            } catch (Exception e) {
+                exchange.entered = i;
+                throw error(exchange, e);
+            }
+        }
+    }
+
+    /**
+     * 按相反顺序执行 onError；某个拦截器的 onError 抛出运行时异常时，该异常附加到当前异常上，其余拦截器照常执行
+     *
+     * @param exchange 本次请求
+     * @param error 原始异常
+     * @return 映射后的异常
+     */
+    public HashExApiException error(Exchange exchange, Exception error) {
+        Exception current = error;
+        for (int i = exchange.entered - 1; i >= 0; i--) {
+            Exception mapped;
+            try {
+                mapped = interceptors[i].onError(exchange, current);
+            } catch (RuntimeException e) {
+                current.addSuppressed(e);
+                continue;
+            }
+            if (mapped != null) {
+                current = mapped;
+            }
+        }
+        exchange.entered = 0;
+        if (current instanceof HashExApiException) {
+            return (HashExApiException) current;
+        }
+        return new HashExApiException("执行" + exchange.getMethod() + "请求时出错: " + current.getMessage(), current);
+    }
+}
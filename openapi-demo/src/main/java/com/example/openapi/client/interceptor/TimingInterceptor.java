@@ -0,0 +1,126 @@
+package com.example.openapi.client.interceptor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 请求耗时统计及日志
+ * <p>
+ * 按端点统计每次尝试的次数、失败次数、总耗时和最大耗时（从获得限流许可到响应解码完成），
+ * 并记录请求成功日志。计数使用 {@link LongAdder}，多线程并发记录时竞争很低。被放弃的尝试（对冲中落败、调用方取消）不计入。
+ */
+public class TimingInterceptor implements Interceptor {
+    private static final Logger logger = LoggerFactory.getLogger(TimingInterceptor.class);
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeRequest(Exchange exchange) {
+        if ("POST".equals(exchange.getMethod())) {
+            logger.info("查询参数: {}", exchange.getQuery().getCanonical());
+        }
+    }
+
+    @Override
+    public void afterResponse(Exchange exchange) {
+        long elapsedNanos = System.nanoTime() - exchange.getStartNanos();
+        statsFor(exchange.getEndpoint()).record(elapsedNanos, false);
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (exchange.getResponseBody() != null) {
+            logger.info("{}请求成功，endpoint: {}, 耗时: {}ms, 响应: {}", exchange.getMethod(), exchange.getEndpoint(),
+                    elapsedMillis, exchange.getResponseBody());
+        } else {
+            logger.info("{}请求成功，endpoint: {}, 耗时: {}ms", exchange.getMethod(), exchange.getEndpoint(), elapsedMillis);
+        }
+    }
+
+    @Override
+    public Exception onError(Exchange exchange, Exception error) {
+        if (exchange.isCancelled()) {
+            return error;
+        }
+        statsFor(exchange.getEndpoint()).record(System.nanoTime() - exchange.getStartNanos(), true);
+        return error;
+    }
+
+    private Stats statsFor(String endpoint) {
+        Stats endpointStats = stats.get(endpoint);
+        if (endpointStats == null) {
+            endpointStats = stats.computeIfAbsent(endpoint, key -> new Stats());
+        }
+        return endpointStats;
+    }
+
+    /**
+     * 获取指定端点的统计，尚无请求时返回空
+     */
+    public Stats getStats(String endpoint) {
+        return stats.get(endpoint);
+    }
+
+    /**
+     * 获取全部端点的统计
+     */
+    public Map<String, Stats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * 单个端点的耗时统计
+     */
+    public static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos, boolean error) {
+            count.increment();
+            if (error) {
+                errors.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getErrorCount() {
+            return errors.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        /**
+         * 平均耗时（毫秒）
+         */
+        public double getMeanMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / n;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, errors=%d, mean=%.3fms, max=%.3fms",
+                    getCount(), getErrorCount(), getMeanMillis(), getMaxNanos() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,504 @@
+package com.example.openapi.client.resilience;
+
+import com.example.openapi.client.EndpointFamily;
+import com.example.openapi.client.HashExApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按接口族的熔断器
+ * <p>
+ * 每个 {@link EndpointFamily} 有独立的状态和滑动时间窗口，窗口按时间分桶统计调用数、失败数（瞬时故障，
+ * 见 {@link RetryPolicy#isTransient(Throwable)}）和慢调用数：
+ * <ul>
+ *     <li>CLOSED：正常放行；窗口内调用数达到下限且失败率或慢调用率超过阈值时打开</li>
+ *     <li>OPEN：直接拒绝，不占用线程和连接；经过打开时长后进入半开</li>
+ *     <li>HALF_OPEN：只放行少量探测请求，全部成功则关闭，任一失败或过慢则重新打开</li>
+ * </ul>
+ * 状态变化时通知 {@link StateListener} 并记录日志。某个接口族熔断不影响其他接口族。
+ * <p>
+ * 每次状态变化递增接口族的代数，{@link #acquirePermission} 返回发放许可时的代数，记录结果时一并传回：
+ * 代数不是当前代数的结果（例如打开前发出、半开后才返回的请求）不计入窗口，也不占用或归还探测名额。
+ */
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final int BUCKETS = 10;
+
+    /**
+     * 熔断器状态
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 状态变化监听器，在触发状态变化的线程上调用，不应阻塞
+     */
+    @FunctionalInterface
+    public interface StateListener {
+        void onStateChange(EndpointFamily family, State from, State to);
+    }
+
+    private final Map<EndpointFamily, Breaker> breakers = new EnumMap<>(EndpointFamily.class);
+    private final Map<EndpointFamily, Long> slowCallNanos = new EnumMap<>(EndpointFamily.class);
+    private final List<StateListener> listeners = new CopyOnWriteArrayList<>();
+    private final long windowMillis;
+    private volatile int minimumCalls = 20;
+    private volatile double failureRateThreshold = 0.5;
+    private volatile double slowCallRateThreshold = 0.5;
+    private volatile long defaultSlowCallNanos = TimeUnit.SECONDS.toNanos(2);
+    private volatile long openMillis = 5000;
+    private volatile int halfOpenProbes = 3;
+
+    /**
+     * 构造函数
+     *
+     * @param windowMillis 滑动窗口时长（毫秒），按10个桶滚动
+     */
+    public CircuitBreaker(long windowMillis) {
+        if (windowMillis < BUCKETS) {
+            throw new IllegalArgumentException("熔断窗口过短");
+        }
+        this.windowMillis = windowMillis;
+        for (EndpointFamily family : EndpointFamily.values()) {
+            breakers.put(family, new Breaker(family));
+        }
+    }
+
+    /**
+     * 按默认配置创建熔断器：10秒窗口内至少20次调用，失败率或慢调用率达到50%时打开，5秒后半开探测3次
+     * <p>
+     * 慢调用阈值：交易及公共行情1秒，仓位及账户2秒，其余按默认2秒。
+     */
+    public static CircuitBreaker defaults() {
+        CircuitBreaker breaker = new CircuitBreaker(10000);
+        breaker.setSlowCallMillis(EndpointFamily.SPOT_PUBLIC, 1000);
+        breaker.setSlowCallMillis(EndpointFamily.SPOT_TRADE, 1000);
+        breaker.setSlowCallMillis(EndpointFamily.FUTURES_PUBLIC, 1000);
+        breaker.setSlowCallMillis(EndpointFamily.FUTURES_ORDER, 1000);
+        return breaker;
+    }
+
+    /**
+     * 窗口内调用数达到该值后才计算失败率，避免少量请求失败即打开
+     */
+    public void setMinimumCalls(int minimumCalls) {
+        if (minimumCalls <= 0) {
+            throw new IllegalArgumentException("最少调用数必须大于0");
+        }
+        this.minimumCalls = minimumCalls;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    /**
+     * 失败率阈值，取值 (0, 1]
+     */
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("失败率阈值必须在(0, 1]内");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * 慢调用率阈值，取值 (0, 1]
+     */
+    public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+        if (slowCallRateThreshold <= 0 || slowCallRateThreshold > 1) {
+            throw new IllegalArgumentException("慢调用率阈值必须在(0, 1]内");
+        }
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * 未单独设置的接口族的慢调用阈值（毫秒）
+     */
+    public void setDefaultSlowCallMillis(long slowCallMillis) {
+        this.defaultSlowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+    }
+
+    /**
+     * 设置接口族的慢调用阈值（毫秒），耗时不小于该值的调用记为慢调用
+     */
+    public synchronized void setSlowCallMillis(EndpointFamily family, long slowCallMillis) {
+        slowCallNanos.put(family, TimeUnit.MILLISECONDS.toNanos(slowCallMillis));
+    }
+
+    public synchronized long getSlowCallMillis(EndpointFamily family) {
+        return TimeUnit.NANOSECONDS.toMillis(slowCallNanos.getOrDefault(family, defaultSlowCallNanos));
+    }
+
+    /**
+     * 打开后经过该时长（毫秒）进入半开状态
+     */
+    public void setOpenMillis(long openMillis) {
+        this.openMillis = openMillis;
+    }
+
+    public long getOpenMillis() {
+        return openMillis;
+    }
+
+    /**
+     * 半开状态放行的探测请求数
+     */
+    public void setHalfOpenProbes(int halfOpenProbes) {
+        if (halfOpenProbes <= 0) {
+            throw new IllegalArgumentException("探测请求数必须大于0");
+        }
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    public void addListener(StateListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(StateListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 获取发送请求的许可；半开状态下占用一个探测名额，之后必须以返回的代数调用
+     * {@link #onSuccess}、{@link #onError} 或 {@link #onCancelled}
+     *
+     * @param endpoint API端点
+     * @return 发放许可时的代数
+     * @throws HashExApiException 熔断器打开或半开探测名额已用完
+     */
+    public long acquirePermission(String endpoint) throws HashExApiException {
+        Breaker breaker = breakers.get(EndpointFamily.of(endpoint));
+        long generation = breaker.tryAcquire();
+        if (generation < 0) {
+            breaker.rejected.increment();
+            throw rejection(endpoint, breaker);
+        }
+        return generation;
+    }
+
+    /**
+     * 熔断器打开时立即失败，不占用探测名额
+     * <p>
+     * 客户端在限流和通道排队之前调用，熔断期间的请求不必等待许可就能失败。
+     *
+     * @param endpoint API端点
+     * @throws HashExApiException 熔断器打开且尚未到半开时间
+     */
+    public void rejectIfOpen(String endpoint) throws HashExApiException {
+        Breaker breaker = breakers.get(EndpointFamily.of(endpoint));
+        if (breaker.isRejecting()) {
+            breaker.rejected.increment();
+            throw rejection(endpoint, breaker);
+        }
+    }
+
+    /**
+     * 记录一次成功调用
+     *
+     * @param endpoint API端点
+     * @param generation {@link #acquirePermission} 返回的代数
+     * @param elapsedNanos 调用耗时（纳秒）
+     */
+    public void onSuccess(String endpoint, long generation, long elapsedNanos) {
+        record(endpoint, generation, elapsedNanos, false);
+    }
+
+    /**
+     * 记录一次失败调用，只有瞬时故障计为失败，业务错误（4xx）计为成功
+     *
+     * @param endpoint API端点
+     * @param generation {@link #acquirePermission} 返回的代数
+     * @param elapsedNanos 调用耗时（纳秒）
+     * @param error 失败原因
+     */
+    public void onError(String endpoint, long generation, long elapsedNanos, Throwable error) {
+        record(endpoint, generation, elapsedNanos, RetryPolicy.isTransient(error));
+    }
+
+    /**
+     * 记录一次被放弃的调用（对冲中落败、调用方取消）：不计入窗口，半开状态下归还该调用占用的探测名额
+     *
+     * @param endpoint API端点
+     * @param generation {@link #acquirePermission} 返回的代数
+     */
+    public void onCancelled(String endpoint, long generation) {
+        breakers.get(EndpointFamily.of(endpoint)).releaseProbe(generation);
+    }
+
+    private void record(String endpoint, long generation, long elapsedNanos, boolean failed) {
+        EndpointFamily family = EndpointFamily.of(endpoint);
+        boolean slow = elapsedNanos >= slowCallNanosFor(family);
+        breakers.get(family).record(generation, failed, slow);
+    }
+
+    private synchronized long slowCallNanosFor(EndpointFamily family) {
+        Long nanos = slowCallNanos.get(family);
+        return nanos != null ? nanos : defaultSlowCallNanos;
+    }
+
+    private static HashExApiException rejection(String endpoint, Breaker breaker) {
+        return new HashExApiException("熔断器已打开，快速失败: " + endpoint + ", 接口族: " + breaker.family);
+    }
+
+    /**
+     * 获取接口族当前状态
+     */
+    public State getState(EndpointFamily family) {
+        return breakers.get(family).currentState();
+    }
+
+    /**
+     * 接口族被拒绝的请求数
+     */
+    public long getRejectedCount(EndpointFamily family) {
+        return breakers.get(family).rejected.sum();
+    }
+
+    /**
+     * 手动关闭熔断器并清空窗口，例如确认交易所恢复后
+     */
+    public void reset(EndpointFamily family) {
+        breakers.get(family).transition(State.CLOSED, "手动重置");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Breaker breaker : breakers.values()) {
+            if (sb.length() > 0) {
+                sb.append('\n');
+            }
+            sb.append(breaker);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 单个接口族的状态及滑动窗口，所有操作在对象锁内完成，状态变化的通知在锁外执行
+     */
+    private final class Breaker {
+        private final EndpointFamily family;
+        private final LongAdder rejected = new LongAdder();
+        // 各时间桶的起始时间及计数，按 (当前时间 / 桶时长) % 桶数 定位
+        private final long[] bucketEpochs = new long[BUCKETS];
+        private final int[] bucketCalls = new int[BUCKETS];
+        private final int[] bucketFailures = new int[BUCKETS];
+        private final int[] bucketSlow = new int[BUCKETS];
+        private int calls;
+        private int failures;
+        private int slowCalls;
+        private State state = State.CLOSED;
+        private long stateSinceNanos = System.nanoTime();
+        // 每次状态变化或重新发放探测名额时递增
+        private long generation;
+        private int probesIssued;
+        private int probesSucceeded;
+
+        Breaker(EndpointFamily family) {
+            this.family = family;
+        }
+
+        synchronized boolean isRejecting() {
+            return state == State.OPEN && System.nanoTime() - stateSinceNanos < TimeUnit.MILLISECONDS.toNanos(openMillis);
+        }
+
+        synchronized State currentState() {
+            return state;
+        }
+
+        /**
+         * @return 许可的代数，拒绝时返回 -1
+         */
+        long tryAcquire() {
+            boolean halfOpened = false;
+            long granted;
+            synchronized (this) {
+                long now = System.nanoTime();
+                if (state == State.CLOSED) {
+                    return generation;
+                }
+                if (state == State.OPEN) {
+                    if (now - stateSinceNanos < TimeUnit.MILLISECONDS.toNanos(openMillis)) {
+                        return -1;
+                    }
+                    enter(State.HALF_OPEN, now);
+                    halfOpened = true;
+                } else if (probesIssued >= halfOpenProbes
+                        && now - stateSinceNanos >= TimeUnit.MILLISECONDS.toNanos(openMillis)) {
+                    // 探测请求长时间没有结果（例如调用方未回调），重新发放探测名额，避免一直停留在半开；
+                    // 递增代数，未返回的旧探测之后返回时不再计入
+                    probesIssued = probesSucceeded;
+                    stateSinceNanos = now;
+                    generation++;
+                }
+                if (probesIssued >= halfOpenProbes) {
+                    return -1;
+                }
+                probesIssued++;
+                granted = generation;
+            }
+            if (halfOpened) {
+                notifyChange(State.OPEN, State.HALF_OPEN, "打开时长已到，开始探测");
+            }
+            return granted;
+        }
+
+        synchronized void releaseProbe(long permitGeneration) {
+            if (state == State.HALF_OPEN && permitGeneration == generation && probesIssued > probesSucceeded) {
+                probesIssued--;
+            }
+        }
+
+        void record(long permitGeneration, boolean failed, boolean slow) {
+            State from;
+            State to;
+            String reason;
+            synchronized (this) {
+                long now = System.nanoTime();
+                from = state;
+                if (state == State.OPEN || permitGeneration != generation) {
+                    // 打开前或上一个状态发出的请求陆续返回，不再计入，也不算作探测结果
+                    return;
+                }
+                if (state == State.HALF_OPEN) {
+                    if (failed || slow) {
+                        to = State.OPEN;
+                        reason = failed ? "探测请求失败" : "探测请求过慢";
+                    } else if (++probesSucceeded >= halfOpenProbes) {
+                        to = State.CLOSED;
+                        reason = "探测请求全部成功";
+                    } else {
+                        return;
+                    }
+                } else {
+                    add(now, failed, slow);
+                    if (calls < minimumCalls) {
+                        return;
+                    }
+                    double failureRate = (double) failures / calls;
+                    double slowRate = (double) slowCalls / calls;
+                    if (failureRate < failureRateThreshold && slowRate < slowCallRateThreshold) {
+                        return;
+                    }
+                    to = State.OPEN;
+                    reason = String.format("失败率 %.1f%%, 慢调用率 %.1f%%, 调用数 %d",
+                            failureRate * 100, slowRate * 100, calls);
+                }
+                enter(to, now);
+            }
+            notifyChange(from, to, reason);
+        }
+
+        void transition(State to, String reason) {
+            State from;
+            synchronized (this) {
+                from = state;
+                enter(to, System.nanoTime());
+            }
+            if (from != to) {
+                notifyChange(from, to, reason);
+            }
+        }
+
+        /**
+         * 切换状态并清空窗口，调用方持有锁
+         */
+        private void enter(State to, long now) {
+            state = to;
+            stateSinceNanos = now;
+            generation++;
+            probesIssued = 0;
+            probesSucceeded = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                bucketEpochs[i] = 0;
+                bucketCalls[i] = 0;
+                bucketFailures[i] = 0;
+                bucketSlow[i] = 0;
+            }
+            calls = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+
+        /**
+         * 记入当前时间桶，先淘汰已滑出窗口的桶，调用方持有锁
+         */
+        private void add(long now, boolean failed, boolean slow) {
+            long bucketNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis) / BUCKETS;
+            long epoch = now / bucketNanos;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (bucketCalls[i] > 0 && epoch - bucketEpochs[i] >= BUCKETS) {
+                    calls -= bucketCalls[i];
+                    failures -= bucketFailures[i];
+                    slowCalls -= bucketSlow[i];
+                    bucketCalls[i] = 0;
+                    bucketFailures[i] = 0;
+                    bucketSlow[i] = 0;
+                }
+            }
+            int index = (int) Math.floorMod(epoch, (long) BUCKETS);
+            if (bucketEpochs[index] != epoch) {
+                calls -= bucketCalls[index];
+                failures -= bucketFailures[index];
+                slowCalls -= bucketSlow[index];
+                bucketEpochs[index] = epoch;
+                bucketCalls[index] = 0;
+                bucketFailures[index] = 0;
+                bucketSlow[index] = 0;
+            }
+            bucketCalls[index]++;
+            calls++;
+            if (failed) {
+                bucketFailures[index]++;
+                failures++;
+            }
+            if (slow) {
+                bucketSlow[index]++;
+                slowCalls++;
+            }
+        }
+
+        private void notifyChange(State from, State to, String reason) {
+            if (to == State.OPEN) {
+                logger.warn("熔断器打开，接口族: {}, {} -> {}, 原因: {}", family, from, to, reason);
+            } else {
+                logger.info("熔断器状态变化，接口族: {}, {} -> {}, 原因: {}", family, from, to, reason);
+            }
+            for (StateListener listener : listeners) {
+                try {
+                    listener.onStateChange(family, from, to);
+                } catch (RuntimeException e) {
+                    logger.warn("熔断器状态监听器出错: {}", e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public synchronized String toString() {
+            return family + ": state=" + state + ", calls=" + calls + ", failures=" + failures
+                    + ", slowCalls=" + slowCalls + ", rejected=" + rejected.sum();
+        }
+    }
+}
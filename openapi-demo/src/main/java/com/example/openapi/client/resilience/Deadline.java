@@ -0,0 +1,180 @@
+package com.example.openapi.client.resilience;
+
+import com.example.openapi.client.HashExApiException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一次调用的截止时间及取消信号
+ * <p>
+ * 客户端在调用开始时按端点的总超时创建，或由调用方传入；同一次调用的所有重试、对冲请求共用一个截止时间，
+ * 重试前剩余时间不足以完成退避时放弃重试，每次尝试的连接及响应超时也不超过剩余时间。
+ * <p>
+ * 截止时间到达或调用 {@link #cancel()} 时，通过 {@link #onExpiry(Runnable)} 登记的动作被执行，
+ * 客户端借此中止进行中的请求。异步调用方可以持有该对象，在行情过时后主动取消请求。
+ */
+public final class Deadline {
+    private static final ScheduledThreadPoolExecutor TIMER = newTimer();
+
+    private final long deadlineNanos;
+    private final long timeoutMillis;
+    private volatile boolean cancelled;
+    // 取消时需要执行的动作，只在登记后、调用结束前保存
+    private List<Runnable> cancelActions;
+
+    private Deadline(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * 从现在起指定毫秒数后到期
+     *
+     * @param timeoutMillis 总超时（毫秒）
+     * @return 截止时间
+     */
+    public static Deadline after(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("总超时必须大于0");
+        }
+        return new Deadline(timeoutMillis);
+    }
+
+    /**
+     * 创建时指定的总超时（毫秒）
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * 剩余时间（毫秒），已到期或已取消时为0
+     */
+    public long remainingMillis() {
+        if (cancelled) {
+            return 0;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * 是否已到期或已取消
+     */
+    public boolean isExpired() {
+        return cancelled || deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 取消调用：不再重试，并中止进行中的请求
+     */
+    public void cancel() {
+        List<Runnable> actions;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            actions = cancelActions;
+            cancelActions = null;
+        }
+        if (actions != null) {
+            for (Runnable action : actions) {
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * 登记到期或取消时执行的动作，已到期时立即执行
+     * <p>
+     * 动作最多执行一次，可能在计时线程或调用 {@link #cancel()} 的线程上执行，不应阻塞。
+     *
+     * @param action 到期动作，例如中止HTTP请求
+     * @return 注销函数，请求结束后调用以撤销登记
+     */
+    public Runnable onExpiry(Runnable action) {
+        Runnable once = new Runnable() {
+            private boolean done;
+
+            @Override
+            public void run() {
+                synchronized (this) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                }
+                action.run();
+            }
+        };
+        synchronized (this) {
+            if (!cancelled) {
+                if (cancelActions == null) {
+                    cancelActions = new ArrayList<>(2);
+                }
+                cancelActions.add(once);
+            }
+        }
+        if (isExpired()) {
+            once.run();
+            return () -> { };
+        }
+        ScheduledFuture<?> timer = TIMER.schedule(once, deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        return () -> {
+            timer.cancel(false);
+            synchronized (this) {
+                if (cancelActions != null) {
+                    cancelActions.remove(once);
+                }
+            }
+        };
+    }
+
+    /**
+     * 创建到期或取消对应的异常
+     *
+     * @param endpoint API端点
+     * @return 不可重试的 {@link HashExApiException}
+     */
+    public HashExApiException toException(String endpoint) {
+        if (cancelled) {
+            return new HashExApiException("请求已取消: " + endpoint);
+        }
+        return new HashExApiException("请求超过总超时" + timeoutMillis + "ms: " + endpoint);
+    }
+
+    /**
+     * 在计时线程上延迟执行任务，供等待期间不占用线程的组件使用（例如异步限流等待）
+     *
+     * @param task 到时执行的任务，不应阻塞
+     * @param delayNanos 延迟（纳秒）
+     * @return 可撤销的计时任务
+     */
+    static ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        return TIMER.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static ScheduledThreadPoolExecutor newTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "hashex-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 请求多在到期前完成，撤销的计时任务立即移出队列，避免堆积
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    @Override
+    public String toString() {
+        return cancelled ? "cancelled" : "timeout=" + timeoutMillis + "ms, remaining=" + remainingMillis() + "ms";
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.openapi.client.resilience;
+
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.EndpointFamily;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 对冲请求策略
+ * <p>
+ * 首个请求在对冲延迟内未返回时，再发送一个相同请求（占用另一条连接），取先返回的结果并取消另一个。
+ * 对冲延迟取该端点最近请求耗时的分位数（默认p95），因此只有落在长尾中的请求才会触发对冲，额外请求量约为5%。
+ * <p>
+ * 只允许登记无需签名的公共GET端点，避免对非幂等接口重复提交。
+ */
+public class HedgePolicy {
+    private static final Logger logger = LoggerFactory.getLogger(HedgePolicy.class);
+
+    private final Set<String> endpoints = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, LatencyTracker> trackers = new ConcurrentHashMap<>();
+    private final LongAdder hedgesSent = new LongAdder();
+    private final LongAdder hedgesWon = new LongAdder();
+    private volatile double percentile = 0.95;
+    private volatile int windowSize = 512;
+    private volatile long initialDelayMillis = 50;
+    private volatile long minDelayMillis = 5;
+
+    /**
+     * 按默认配置创建对冲策略，对现货及合约深度接口启用
+     */
+    public static HedgePolicy defaults() {
+        HedgePolicy policy = new HedgePolicy();
+        policy.addEndpoint(Endpoint.SPOT_DEPTH.getPath());
+        policy.addEndpoint(Endpoint.FUTURES_DEPTH.getPath());
+        return policy;
+    }
+
+    /**
+     * 登记需要对冲的端点
+     *
+     * @param endpoint 公共接口端点
+     * @throws IllegalArgumentException 端点不属于公共接口
+     */
+    public void addEndpoint(String endpoint) {
+        if (!EndpointFamily.of(endpoint).isPublic()) {
+            throw new IllegalArgumentException("仅支持对公共接口启用对冲: " + endpoint);
+        }
+        endpoints.add(endpoint);
+    }
+
+    /**
+     * 判断请求是否启用对冲：仅限已登记且无需签名的GET请求
+     */
+    public boolean isHedged(String endpoint, boolean needAuth) {
+        return !needAuth && endpoints.contains(endpoint);
+    }
+
+    /**
+     * 当前对冲延迟（毫秒），样本不足时使用初始延迟
+     */
+    public long getHedgeDelayMillis(String endpoint) {
+        LatencyTracker tracker = trackers.get(endpoint);
+        long nanos = tracker != null ? tracker.getPercentileNanos() : -1;
+        if (nanos < 0) {
+            return initialDelayMillis;
+        }
+        return Math.max(minDelayMillis, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * 执行对冲请求
+     *
+     * @param endpoint API端点
+     * @param attempt 发送一次请求；返回的future被取消时应中止底层请求
+     * @return 先成功返回的结果；两个请求均失败时以后失败者的异常完成
+     */
+    public <T> CompletableFuture<T> execute(String endpoint, Supplier<CompletableFuture<T>> attempt) {
+        LatencyTracker tracker = trackers.computeIfAbsent(endpoint, key -> new LatencyTracker(windowSize, percentile));
+        long delayMillis = getHedgeDelayMillis(endpoint);
+        long start = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+
+        CompletableFuture<T> primary = attempt.get();
+        primary.whenComplete((value, error) -> {
+            if (error == null) {
+                tracker.record(System.nanoTime() - start);
+                if (result.complete(value)) {
+                    cancel(hedge.get());
+                }
+            } else if (outstanding.decrementAndGet() == 0) {
+                // 只按未结束的请求数判断：对冲请求已决定发送时计数已增加，首个请求失败后等待对冲请求的结果
+                result.completeExceptionally(unwrap(error));
+            }
+        });
+
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (outstanding.getAndIncrement() == 0) {
+                // 首个请求已失败，调用已以其异常完成，不再发送对冲请求
+                outstanding.decrementAndGet();
+                return;
+            }
+            hedgesSent.increment();
+            logger.debug("请求超过对冲延迟{}ms未返回，发送对冲请求，endpoint: {}", delayMillis, endpoint);
+            CompletableFuture<T> second = attempt.get();
+            hedge.set(second);
+            second.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (result.complete(value)) {
+                        hedgesWon.increment();
+                        // 首个请求被取消，按当前耗时记录，避免长尾样本丢失导致对冲延迟持续下降
+                        tracker.record(System.nanoTime() - start);
+                        cancel(primary);
+                    }
+                } else if (outstanding.decrementAndGet() == 0) {
+                    result.completeExceptionally(unwrap(error));
+                }
+            });
+            if (result.isDone()) {
+                cancel(second);
+            }
+        });
+
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                cancel(primary);
+                cancel(hedge.get());
+            }
+        });
+        return result;
+    }
+
+    private static void cancel(CompletableFuture<?> future) {
+        if (future != null && !future.isDone()) {
+            future.cancel(true);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * 已发送的对冲请求数
+     */
+    public long getHedgesSent() {
+        return hedgesSent.sum();
+    }
+
+    /**
+     * 对冲请求先于首个请求返回的次数
+     */
+    public long getHedgesWon() {
+        return hedgesWon.sum();
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * 对冲延迟使用的分位数，需在发送请求前设置
+     */
+    public void setPercentile(double percentile) {
+        this.percentile = percentile;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * 计算分位数的样本窗口大小，需在发送请求前设置
+     */
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public long getInitialDelayMillis() {
+        return initialDelayMillis;
+    }
+
+    /**
+     * 样本不足时使用的对冲延迟
+     */
+    public void setInitialDelayMillis(long initialDelayMillis) {
+        this.initialDelayMillis = initialDelayMillis;
+    }
+
+    public long getMinDelayMillis() {
+        return minDelayMillis;
+    }
+
+    /**
+     * 对冲延迟下限，避免响应普遍很快时几乎每个请求都被对冲
+     */
+    public void setMinDelayMillis(long minDelayMillis) {
+        this.minDelayMillis = minDelayMillis;
+    }
+}
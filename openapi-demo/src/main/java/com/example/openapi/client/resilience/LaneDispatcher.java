@@ -0,0 +1,328 @@
+package com.example.openapi.client.resilience;
+
+import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.Lane;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 分道调度器：按通道限制并发请求数，排队的请求严格按通道优先级获得许可
+ * <p>
+ * 每个 {@link Lane} 有独立的并发上限和等待队列，所有通道另有一个总并发上限。请求结束释放许可时，
+ * 依次检查交易、普通查询、批量历史通道的队列，只要高优先级通道还有请求在排队且未达到通道上限，
+ * 低优先级通道就拿不到许可；同一通道内先到先得。
+ * <p>
+ * 提供阻塞等待 {@link #acquire(Lane, Deadline)} 和异步等待 {@link #acquireAsync(Lane)}，并按通道记录
+ * 排队长度和等待时间。每次获得许可后必须调用 {@link #release(Lane)}。
+ */
+public class LaneDispatcher {
+    private static final Lane[] LANES = Lane.values();
+
+    private final int[] limits = new int[LANES.length];
+    private final int[] inFlight = new int[LANES.length];
+    private final int[] maxQueueDepth = new int[LANES.length];
+    private final List<ArrayDeque<Waiter>> queues = new ArrayList<>(LANES.length);
+    private final WaitTimeStats[] stats = new WaitTimeStats[LANES.length];
+    private int maxInFlight;
+    private int totalInFlight;
+    private volatile long maxWaitMillis = 30000;
+
+    /**
+     * 构造函数
+     *
+     * @param maxInFlight 所有通道合计的并发上限
+     */
+    public LaneDispatcher(int maxInFlight) {
+        setMaxInFlight(maxInFlight);
+        for (int i = 0; i < LANES.length; i++) {
+            limits[i] = maxInFlight;
+            queues.add(new ArrayDeque<>());
+            stats[i] = new WaitTimeStats();
+        }
+    }
+
+    /**
+     * 按默认上限创建调度器：交易通道32、普通查询16、批量历史4，合计40
+     * <p>
+     * 批量历史通道上限较小，对账任务再多也只占用少量连接；合计上限小于各通道之和，
+     * 总并发打满时排队的交易请求优先获得许可。
+     */
+    public static LaneDispatcher defaults() {
+        LaneDispatcher dispatcher = new LaneDispatcher(40);
+        dispatcher.setLimit(Lane.TRADING, 32);
+        dispatcher.setLimit(Lane.ACCOUNT, 16);
+        dispatcher.setLimit(Lane.BULK_HISTORY, 4);
+        return dispatcher;
+    }
+
+    /**
+     * 设置通道并发上限，同时决定同步客户端为该通道创建的连接池大小
+     *
+     * @param lane 通道
+     * @param limit 并发上限
+     */
+    public synchronized void setLimit(Lane lane, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("通道并发上限必须大于0");
+        }
+        limits[lane.ordinal()] = limit;
+    }
+
+    public synchronized int getLimit(Lane lane) {
+        return limits[lane.ordinal()];
+    }
+
+    /**
+     * 设置所有通道合计的并发上限
+     */
+    public synchronized void setMaxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("总并发上限必须大于0");
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    public synchronized int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * 排队等待的最长时间（毫秒），超过时获取许可失败
+     */
+    public void setMaxWaitMillis(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * 阻塞等待，直到获得该通道的许可
+     *
+     * @param lane 通道
+     * @throws HashExApiException 排队超过最长等待时间或等待被中断
+     */
+    public void acquire(Lane lane) throws HashExApiException {
+        acquire(lane, null);
+    }
+
+    /**
+     * 阻塞等待，直到获得该通道的许可；等待时间不超过调用截止时间的剩余时间，调用被取消时立即放弃排队
+     *
+     * @param lane 通道
+     * @param deadline 调用截止时间，可为空
+     * @throws HashExApiException 排队超时、截止时间到期、调用被取消或等待被中断
+     */
+    public void acquire(Lane lane, Deadline deadline) throws HashExApiException {
+        Waiter waiter = enqueue(lane);
+        if (waiter == null) {
+            return;
+        }
+        long waitMillis = deadline == null ? maxWaitMillis : Math.min(maxWaitMillis, deadline.remainingMillis());
+        Runnable unregister = deadline == null ? null : deadline.onExpiry(() -> waiter.cancel(false));
+        try {
+            waiter.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            abandon(lane, waiter);
+            Thread.currentThread().interrupt();
+            throw new HashExApiException("等待通道许可时被中断: " + lane);
+        } catch (TimeoutException | CancellationException e) {
+            abandon(lane, waiter);
+            if (deadline != null && (deadline.isExpired() || waitMillis < maxWaitMillis)) {
+                throw deadline.toException("通道 " + lane);
+            }
+            throw new HashExApiException("通道排队等待超时: " + lane);
+        } catch (ExecutionException e) {
+            throw new HashExApiException("等待通道许可时出错: " + lane, e.getCause());
+        } finally {
+            if (unregister != null) {
+                unregister.run();
+            }
+        }
+    }
+
+    /**
+     * 异步获取许可，排队期间不占用线程
+     *
+     * @param lane 通道
+     * @return 获得许可时完成；排队超过最长等待时间时以 {@link HashExApiException} 异常完成；
+     * 排队期间取消返回的future即放弃排队
+     */
+    public CompletableFuture<Void> acquireAsync(Lane lane) {
+        Waiter waiter = enqueue(lane);
+        if (waiter == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture.delayedExecutor(maxWaitMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (dequeue(lane, waiter)) {
+                waiter.completeExceptionally(new HashExApiException("通道排队等待超时: " + lane));
+            }
+        });
+        // 已获得许可后才取消时，由 complete() 归还许可
+        waiter.whenComplete((ignored, error) -> {
+            if (waiter.isCancelled()) {
+                dequeue(lane, waiter);
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * 释放许可，并按通道优先级唤醒排队的请求
+     *
+     * @param lane 获得许可时的通道
+     */
+    public void release(Lane lane) {
+        List<Waiter> granted;
+        synchronized (this) {
+            inFlight[lane.ordinal()]--;
+            totalInFlight--;
+            granted = dispatch();
+        }
+        complete(granted);
+    }
+
+    /**
+     * 有空闲许可时直接占用并返回空，否则加入通道队列
+     */
+    private Waiter enqueue(Lane lane) {
+        int index = lane.ordinal();
+        synchronized (this) {
+            ArrayDeque<Waiter> queue = queues.get(index);
+            if (queue.isEmpty() && inFlight[index] < limits[index] && totalInFlight < maxInFlight) {
+                inFlight[index]++;
+                totalInFlight++;
+                stats[index].record(0);
+                return null;
+            }
+            Waiter waiter = new Waiter(System.nanoTime());
+            queue.addLast(waiter);
+            maxQueueDepth[index] = Math.max(maxQueueDepth[index], queue.size());
+            return waiter;
+        }
+    }
+
+    /**
+     * 从队列中移除等待者，记为被拒绝
+     *
+     * @return 仍在排队并已移除时返回true，已获得许可时返回false
+     */
+    private synchronized boolean dequeue(Lane lane, Waiter waiter) {
+        if (queues.get(lane.ordinal()).remove(waiter)) {
+            stats[lane.ordinal()].recordRejected();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 阻塞等待的调用方放弃排队
+     * <p>
+     * 先取消等待者：取消成功（或已被截止时间取消）时只需移出队列，此后才发出的许可由 {@link #complete} 归还；
+     * 取消失败说明许可已经发出，由这里归还。
+     */
+    private void abandon(Lane lane, Waiter waiter) {
+        if (waiter.cancel(false) || waiter.isCancelled()) {
+            dequeue(lane, waiter);
+        } else {
+            release(lane);
+        }
+    }
+
+    /**
+     * 按通道优先级为排队的请求分配空闲许可，调用方持有锁
+     */
+    private List<Waiter> dispatch() {
+        List<Waiter> granted = null;
+        for (int i = 0; i < LANES.length && totalInFlight < maxInFlight; i++) {
+            ArrayDeque<Waiter> queue = queues.get(i);
+            while (!queue.isEmpty() && inFlight[i] < limits[i] && totalInFlight < maxInFlight) {
+                Waiter waiter = queue.pollFirst();
+                inFlight[i]++;
+                totalInFlight++;
+                stats[i].record(System.nanoTime() - waiter.enqueueNanos);
+                waiter.lane = LANES[i];
+                if (granted == null) {
+                    granted = new ArrayList<>(2);
+                }
+                granted.add(waiter);
+            }
+        }
+        return granted;
+    }
+
+    /**
+     * 在锁外唤醒获得许可的请求；等待者已被取消时归还许可
+     */
+    private void complete(List<Waiter> granted) {
+        if (granted == null) {
+            return;
+        }
+        for (Waiter waiter : granted) {
+            if (!waiter.complete(null)) {
+                release(waiter.lane);
+            }
+        }
+    }
+
+    /**
+     * 通道当前排队的请求数
+     */
+    public synchronized int getQueueDepth(Lane lane) {
+        return queues.get(lane.ordinal()).size();
+    }
+
+    /**
+     * 通道出现过的最大排队请求数
+     */
+    public synchronized int getMaxQueueDepth(Lane lane) {
+        return maxQueueDepth[lane.ordinal()];
+    }
+
+    /**
+     * 通道当前执行中的请求数
+     */
+    public synchronized int getInFlight(Lane lane) {
+        return inFlight[lane.ordinal()];
+    }
+
+    /**
+     * 获取通道的排队等待时间统计，超时或放弃排队记为被拒绝
+     */
+    public WaitTimeStats getStats(Lane lane) {
+        return stats[lane.ordinal()];
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Lane lane : LANES) {
+            int i = lane.ordinal();
+            sb.append(lane).append(": inFlight=").append(inFlight[i]).append('/').append(limits[i])
+                    .append(", queued=").append(queues.get(i).size())
+                    .append(", maxQueued=").append(maxQueueDepth[i])
+                    .append(", ").append(stats[i]).append('\n');
+        }
+        return sb.append("total: inFlight=").append(totalInFlight).append('/').append(maxInFlight).toString();
+    }
+
+    /**
+     * 排队中的请求，获得许可时以null完成
+     */
+    private static final class Waiter extends CompletableFuture<Void> {
+        private final long enqueueNanos;
+        private Lane lane;
+
+        Waiter(long enqueueNanos) {
+            this.enqueueNanos = enqueueNanos;
+        }
+    }
+}
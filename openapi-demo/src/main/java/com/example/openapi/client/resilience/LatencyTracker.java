@@ -0,0 +1,73 @@
+package com.example.openapi.client.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 滑动窗口延迟统计
+ * <p>
+ * 保存最近若干次请求耗时的环形缓冲区，每记录一定数量的样本后重新计算一次分位数并缓存，
+ * 读取分位数无需排序，适合在每次请求时调用。
+ */
+public class LatencyTracker {
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong cursor = new AtomicLong();
+    private final double percentile;
+    private volatile long cachedNanos = -1;
+
+    /**
+     * 构造函数
+     *
+     * @param windowSize 窗口样本数
+     * @param percentile 分位数，例如 0.95
+     */
+    public LatencyTracker(int windowSize, double percentile) {
+        if (windowSize <= 0 || percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("延迟统计参数不合法");
+        }
+        this.samples = new AtomicLongArray(windowSize);
+        this.percentile = percentile;
+    }
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时（纳秒）
+     */
+    public void record(long nanos) {
+        long index = cursor.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+        long count = index + 1;
+        if (count % RECOMPUTE_INTERVAL == 0 || count == Math.min(samples.length(), RECOMPUTE_INTERVAL)) {
+            recompute(count);
+        }
+    }
+
+    /**
+     * 样本数量
+     */
+    public long getCount() {
+        return cursor.get();
+    }
+
+    /**
+     * 最近一次计算的分位数耗时（纳秒），样本不足时返回 -1
+     */
+    public long getPercentileNanos() {
+        return cachedNanos;
+    }
+
+    private void recompute(long count) {
+        int size = (int) Math.min(count, samples.length());
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int rank = (int) Math.ceil(percentile * size) - 1;
+        cachedNanos = copy[Math.max(0, Math.min(rank, size - 1))];
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.openapi.client.resilience;
+
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.EndpointFamily;
+import com.example.openapi.client.HashExApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 客户端加权限流器
+ * <p>
+ * 每个 {@link EndpointFamily} 对应一个无锁令牌桶，请求按端点权重消耗令牌（例如批量下单权重大于单笔下单），
+ * 在客户端平滑突发流量，避免触发服务端限流。未配置限额的分组不限流。
+ * <p>
+ * 提供三种获取方式：阻塞等待 {@link #acquire(String, Deadline)}、立即返回 {@link #tryAcquire(String)}、
+ * 异步等待 {@link #acquireAsync(String, Deadline)}，并按分组记录等待时间。
+ */
+public class RateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    private final Map<EndpointFamily, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<EndpointFamily, WaitTimeStats> stats = new EnumMap<>(EndpointFamily.class);
+    private final ConcurrentMap<String, Integer> weights = new ConcurrentHashMap<>();
+    private volatile long maxWaitMillis = 30000;
+
+    public RateLimiter() {
+        for (EndpointFamily family : EndpointFamily.values()) {
+            stats.put(family, new WaitTimeStats());
+        }
+    }
+
+    /**
+     * 按默认限额创建限流器
+     * <p>
+     * 限额偏保守，实际取值应以交易所公布的限频规则为准。
+     */
+    public static RateLimiter defaults() {
+        RateLimiter limiter = new RateLimiter();
+        limiter.setLimit(EndpointFamily.SPOT_PUBLIC, 20, 20);
+        limiter.setLimit(EndpointFamily.SPOT_TRADE, 10, 10);
+        limiter.setLimit(EndpointFamily.FUTURES_PUBLIC, 20, 20);
+        limiter.setLimit(EndpointFamily.FUTURES_ORDER, 10, 10);
+        limiter.setLimit(EndpointFamily.FUTURES_POSITION, 5, 5);
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.getWeight() != 1) {
+                limiter.setWeight(endpoint.getPath(), endpoint.getWeight());
+            }
+        }
+        return limiter;
+    }
+
+    /**
+     * 设置分组限额，替换已有令牌桶
+     *
+     * @param family 端点分组
+     * @param permitsPerSecond 每秒令牌数
+     * @param burst 允许的突发令牌数
+     */
+    public void setLimit(EndpointFamily family, double permitsPerSecond, int burst) {
+        buckets.put(family, new TokenBucket(permitsPerSecond, burst));
+    }
+
+    /**
+     * 设置端点权重，未设置的端点权重为1
+     *
+     * @param endpoint API端点
+     * @param weight 每次请求消耗的令牌数
+     */
+    public void setWeight(String endpoint, int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("权重必须大于0");
+        }
+        weights.put(endpoint, weight);
+    }
+
+    public int getWeight(String endpoint) {
+        return weights.getOrDefault(endpoint, 1);
+    }
+
+    /**
+     * 阻塞等待的最长时间（毫秒），超过时 {@link #acquire(String)} 直接失败
+     */
+    public void setMaxWaitMillis(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * 阻塞等待，直到可以发送该端点的请求
+     *
+     * @param endpoint API端点
+     * @throws HashExApiException 预计等待超过最长等待时间或等待被中断
+     */
+    public void acquire(String endpoint) throws HashExApiException {
+        acquire(endpoint, null);
+    }
+
+    /**
+     * 阻塞等待，直到可以发送该端点的请求；可接受的等待时间不超过调用截止时间的剩余时间
+     * <p>
+     * 等待期间被中断或调用被取消时归还已预留的令牌，不占用后续请求的额度。
+     *
+     * @param endpoint API端点
+     * @param deadline 调用截止时间，可为空
+     * @throws HashExApiException 预计等待超过最长等待时间或剩余时间、调用被取消或等待被中断
+     */
+    public void acquire(String endpoint, Deadline deadline) throws HashExApiException {
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(deadline == null
+                ? maxWaitMillis : Math.min(maxWaitMillis, deadline.remainingMillis()));
+        long waitNanos = reserve(endpoint, maxWaitNanos, deadline);
+        if (waitNanos == 0) {
+            return;
+        }
+        Thread waiting = Thread.currentThread();
+        Runnable unregister = deadline == null ? null : deadline.onExpiry(() -> LockSupport.unpark(waiting));
+        try {
+            long wakeAt = System.nanoTime() + waitNanos;
+            while (waitNanos > 0) {
+                LockSupport.parkNanos(this, waitNanos);
+                if (Thread.interrupted()) {
+                    unreserve(endpoint);
+                    Thread.currentThread().interrupt();
+                    throw new HashExApiException("等待限流许可时被中断: " + endpoint);
+                }
+                if (deadline != null && deadline.isCancelled()) {
+                    unreserve(endpoint);
+                    throw deadline.toException(endpoint);
+                }
+                waitNanos = wakeAt - System.nanoTime();
+            }
+        } finally {
+            if (unregister != null) {
+                unregister.run();
+            }
+        }
+    }
+
+    /**
+     * 尝试立即获取许可，不等待
+     *
+     * @param endpoint API端点
+     * @return 获取成功返回true
+     */
+    public boolean tryAcquire(String endpoint) {
+        EndpointFamily family = EndpointFamily.of(endpoint);
+        TokenBucket bucket = buckets.get(family);
+        if (bucket == null || bucket.tryAcquire(getWeight(endpoint))) {
+            stats.get(family).record(0);
+            return true;
+        }
+        stats.get(family).recordRejected();
+        return false;
+    }
+
+    /**
+     * 异步获取许可，等待期间不占用线程
+     *
+     * @param endpoint API端点
+     * @return 可以发送请求时完成；预计等待超过最长等待时间时以 {@link HashExApiException} 异常完成
+     */
+    public CompletableFuture<Void> acquireAsync(String endpoint) {
+        return acquireAsync(endpoint, null);
+    }
+
+    /**
+     * 异步获取许可，等待期间不占用线程；可接受的等待时间不超过调用截止时间的剩余时间
+     * <p>
+     * 等待期间调用到期或被取消、或返回的future被取消时，future以异常完成并归还已预留的令牌，不占用后续请求的额度。
+     *
+     * @param endpoint API端点
+     * @param deadline 调用截止时间，可为空
+     * @return 可以发送请求时完成；预计等待超过最长等待时间或剩余时间、调用到期或被取消时以
+     * {@link HashExApiException} 异常完成
+     */
+    public CompletableFuture<Void> acquireAsync(String endpoint, Deadline deadline) {
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(deadline == null
+                ? maxWaitMillis : Math.min(maxWaitMillis, deadline.remainingMillis()));
+        long waitNanos;
+        try {
+            waitNanos = reserve(endpoint, maxWaitNanos, deadline);
+        } catch (HashExApiException e) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        if (waitNanos == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        ScheduledFuture<?> timer = Deadline.schedule(() -> permit.complete(null), waitNanos);
+        Runnable unregister = deadline == null ? null
+                : deadline.onExpiry(() -> permit.completeExceptionally(deadline.toException(endpoint)));
+        permit.whenComplete((ignored, error) -> {
+            if (unregister != null) {
+                unregister.run();
+            }
+            if (error != null) {
+                // 到期或取消先于计时完成，令牌未被使用
+                timer.cancel(false);
+                unreserve(endpoint);
+            }
+        });
+        return permit;
+    }
+
+    /**
+     * 预留令牌并返回需要等待的纳秒数
+     *
+     * @param deadline 调用截止时间，等待超过剩余时间时抛出其超时异常，可为空
+     */
+    private long reserve(String endpoint, long maxWaitNanos, Deadline deadline) throws HashExApiException {
+        EndpointFamily family = EndpointFamily.of(endpoint);
+        TokenBucket bucket = buckets.get(family);
+        WaitTimeStats familyStats = stats.get(family);
+        if (bucket == null) {
+            familyStats.record(0);
+            return 0;
+        }
+        long waitNanos = bucket.reserve(getWeight(endpoint), maxWaitNanos);
+        if (waitNanos < 0) {
+            familyStats.recordRejected();
+            if (deadline != null && TimeUnit.MILLISECONDS.toNanos(maxWaitMillis) > maxWaitNanos) {
+                throw deadline.toException(endpoint);
+            }
+            throw new HashExApiException("客户端限流等待超时: " + endpoint);
+        }
+        familyStats.record(waitNanos);
+        if (waitNanos > 0) {
+            logger.debug("客户端限流，endpoint: {}, 等待: {}ms", endpoint, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 归还预留但未使用的令牌
+     */
+    private void unreserve(String endpoint) {
+        TokenBucket bucket = buckets.get(EndpointFamily.of(endpoint));
+        if (bucket != null) {
+            bucket.release(getWeight(endpoint));
+        }
+    }
+
+    /**
+     * 获取分组的等待时间统计
+     */
+    public WaitTimeStats getStats(EndpointFamily family) {
+        return stats.get(family);
+    }
+
+    /**
+     * 获取分组当前可立即使用的令牌数，未限流的分组返回 {@link Long#MAX_VALUE}
+     */
+    public long getAvailablePermits(EndpointFamily family) {
+        TokenBucket bucket = buckets.get(family);
+        return bucket == null ? Long.MAX_VALUE : bucket.availablePermits();
+    }
+}
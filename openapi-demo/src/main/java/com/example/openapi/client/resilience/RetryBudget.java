@@ -0,0 +1,78 @@
+package com.example.openapi.client.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 重试预算
+ * <p>
+ * 在固定时间窗口内，重试次数不超过 max(最少重试次数, 请求数 × 重试比例)。
+ * 服务端整体故障时避免所有调用同时重试、放大流量；窗口结束后预算自动恢复。
+ */
+public class RetryBudget {
+    private final double retryRatio;
+    private final long minRetries;
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+
+    /**
+     * 构造函数
+     *
+     * @param retryRatio 重试次数占请求数的最大比例，例如 0.2 表示最多20%
+     * @param minRetries 每个窗口至少允许的重试次数，保证低流量时也能重试
+     * @param windowMillis 统计窗口（毫秒）
+     */
+    public RetryBudget(double retryRatio, int minRetries, long windowMillis) {
+        if (retryRatio < 0 || minRetries < 0 || windowMillis <= 0) {
+            throw new IllegalArgumentException("重试预算参数不合法");
+        }
+        this.retryRatio = retryRatio;
+        this.minRetries = minRetries;
+        this.windowNanos = windowMillis * 1_000_000L;
+    }
+
+    /**
+     * 记录一次请求（首次发送，不含重试）
+     */
+    public void recordRequest() {
+        roll();
+        requests.incrementAndGet();
+    }
+
+    /**
+     * 尝试占用一次重试预算
+     *
+     * @return 预算充足返回true
+     */
+    public boolean tryAcquireRetry() {
+        roll();
+        while (true) {
+            long used = retries.get();
+            long allowed = Math.max(minRetries, (long) (requests.get() * retryRatio));
+            if (used >= allowed) {
+                return false;
+            }
+            if (retries.compareAndSet(used, used + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 当前窗口剩余可用的重试次数
+     */
+    public long getRemaining() {
+        roll();
+        return Math.max(0, Math.max(minRetries, (long) (requests.get() * retryRatio)) - retries.get());
+    }
+
+    private void roll() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            requests.set(0);
+            retries.set(0);
+        }
+    }
+}
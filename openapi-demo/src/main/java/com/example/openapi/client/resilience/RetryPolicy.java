@@ -0,0 +1,338 @@
+package com.example.openapi.client.resilience;
+
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.HashExApiException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.hc.core5.http.Method;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 区分幂等性的重试策略
+ * <p>
+ * 仅对幂等调用的瞬时故障（连接重置、超时、429、5xx）重试：
+ * <ul>
+ *     <li>GET请求（公共行情与签名查询）均可重试</li>
+ *     <li>下单接口仅在携带 clientOrderId 时重试，由服务端按 clientOrderId 去重</li>
+ *     <li>撤单等天然幂等的POST接口可重试，其余POST接口不重试</li>
+ * </ul>
+ * 重试间隔为带全抖动的指数退避，并受 {@link RetryBudget} 限制。每次尝试都会重新生成时间戳、随机数和签名。
+ * 传入 {@link Deadline} 时，剩余时间不足以完成退避或调用已被取消时不再重试。
+ */
+public class RetryPolicy {
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+
+    private static final String CLIENT_ORDER_ID = "clientOrderId";
+
+    private final Set<String> createEndpoints = ConcurrentHashMap.newKeySet();
+    private final Set<String> idempotentPostEndpoints = ConcurrentHashMap.newKeySet();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+    private final LongAdder deadlineExhaustedCount = new LongAdder();
+    private volatile int maxAttempts = 3;
+    private volatile long baseDelayMillis = 100;
+    private volatile long maxDelayMillis = 2000;
+    private volatile RetryBudget budget = new RetryBudget(0.2, 10, 10000);
+
+    /**
+     * 单次尝试
+     *
+     * @param <T> 返回类型
+     */
+    @FunctionalInterface
+    public interface Attempt<T> {
+        T execute() throws HashExApiException;
+    }
+
+    /**
+     * 按默认配置创建重试策略：最多3次尝试，退避100ms起、上限2s，10秒窗口内重试不超过请求数的20%
+     * <p>
+     * POST接口的幂等性取自 {@link Endpoint} 目录。
+     */
+    public static RetryPolicy defaults() {
+        RetryPolicy policy = new RetryPolicy();
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.getMethod() != Method.POST) {
+                continue;
+            }
+            if (endpoint.getIdempotency() == Endpoint.Idempotency.CLIENT_ORDER_ID) {
+                policy.addCreateEndpoint(endpoint.getPath());
+            } else if (endpoint.getIdempotency() == Endpoint.Idempotency.IDEMPOTENT) {
+                policy.addIdempotentPostEndpoint(endpoint.getPath());
+            }
+        }
+        return policy;
+    }
+
+    /**
+     * 登记下单类接口，携带 clientOrderId 时视为幂等
+     */
+    public void addCreateEndpoint(String endpoint) {
+        createEndpoints.add(endpoint);
+    }
+
+    /**
+     * 登记可安全重复提交的POST接口
+     */
+    public void addIdempotentPostEndpoint(String endpoint) {
+        idempotentPostEndpoints.add(endpoint);
+    }
+
+    /**
+     * 判断调用是否幂等
+     *
+     * @param method HTTP方法
+     * @param endpoint API端点
+     * @param params 请求参数
+     * @return 幂等返回true
+     */
+    public boolean isIdempotent(String method, String endpoint, Map<String, String> params) {
+        if ("GET".equals(method)) {
+            return true;
+        }
+        if (createEndpoints.contains(endpoint)) {
+            String clientOrderId = params.get(CLIENT_ORDER_ID);
+            return clientOrderId != null && !clientOrderId.isEmpty();
+        }
+        return idempotentPostEndpoints.contains(endpoint);
+    }
+
+    /**
+     * 判断异常是否为瞬时故障：I/O异常（连接重置、超时等）、HTTP 429 或 5xx
+     * <p>
+     * JSON解析异常虽然是 {@link IOException}，但说明已经收到了完整响应，重发不会得到不同结果，不算瞬时故障。
+     */
+    public static boolean isTransient(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof HashExApiException) {
+                int statusCode = ((HashExApiException) e).getStatusCode();
+                if (statusCode > 0) {
+                    return statusCode == 429 || statusCode >= 500;
+                }
+            }
+            if (e instanceof JsonProcessingException) {
+                return false;
+            }
+            if (e instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 计算第 retry 次重试前的退避时间（全抖动：在 [0, min(上限, 基数 × 2^(retry-1))] 内均匀取值）
+     *
+     * @param retry 重试序号，从1开始
+     * @return 退避毫秒数
+     */
+    public long backoffMillis(int retry) {
+        long ceiling = baseDelayMillis << Math.min(retry - 1, 20);
+        ceiling = Math.min(maxDelayMillis, ceiling);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 同步执行调用，失败时按策略重试
+     *
+     * @param method HTTP方法
+     * @param endpoint API端点
+     * @param params 请求参数
+     * @param attempt 单次尝试，每次调用需重新签名
+     * @return 调用结果
+     * @throws HashExApiException 不可重试、重试次数或预算耗尽时抛出最后一次失败原因
+     */
+    public <T> T execute(String method, String endpoint, Map<String, String> params, Attempt<T> attempt)
+            throws HashExApiException {
+        return execute(method, endpoint, params, null, attempt);
+    }
+
+    /**
+     * 同步执行调用，失败时在截止时间内按策略重试
+     *
+     * @param method HTTP方法
+     * @param endpoint API端点
+     * @param params 请求参数
+     * @param deadline 调用的截止时间，为空时只受重试次数及预算限制
+     * @param attempt 单次尝试，每次调用需重新签名
+     * @return 调用结果
+     * @throws HashExApiException 不可重试、重试次数或预算耗尽、剩余时间不足时抛出最后一次失败原因
+     */
+    public <T> T execute(String method, String endpoint, Map<String, String> params, Deadline deadline,
+                         Attempt<T> attempt) throws HashExApiException {
+        RetryBudget currentBudget = budget;
+        currentBudget.recordRequest();
+        for (int retry = 0; ; retry++) {
+            try {
+                return attempt.execute();
+            } catch (HashExApiException e) {
+                long delay = nextDelay(method, endpoint, params, retry + 1, e, currentBudget, deadline);
+                if (delay < 0) {
+                    throw e;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new HashExApiException("等待重试时被中断: " + endpoint, ie);
+                }
+            }
+        }
+    }
+
+    /**
+     * 异步执行调用，失败时按策略重试，退避期间不占用线程
+     *
+     * @param method HTTP方法
+     * @param endpoint API端点
+     * @param params 请求参数
+     * @param attempt 单次尝试，每次调用需重新签名
+     * @return 调用结果
+     */
+    public <T> CompletableFuture<T> executeAsync(String method, String endpoint, Map<String, String> params,
+                                                 Supplier<CompletableFuture<T>> attempt) {
+        return executeAsync(method, endpoint, params, null, attempt);
+    }
+
+    /**
+     * 异步执行调用，失败时在截止时间内按策略重试，退避期间不占用线程
+     *
+     * @param method HTTP方法
+     * @param endpoint API端点
+     * @param params 请求参数
+     * @param deadline 调用的截止时间，为空时只受重试次数及预算限制
+     * @param attempt 单次尝试，每次调用需重新签名
+     * @return 调用结果
+     */
+    public <T> CompletableFuture<T> executeAsync(String method, String endpoint, Map<String, String> params,
+                                                 Deadline deadline, Supplier<CompletableFuture<T>> attempt) {
+        RetryBudget currentBudget = budget;
+        currentBudget.recordRequest();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attemptAsync(method, endpoint, params, attempt, 1, currentBudget, deadline, result);
+        return result;
+    }
+
+    private <T> void attemptAsync(String method, String endpoint, Map<String, String> params,
+                                  Supplier<CompletableFuture<T>> attempt, int retry, RetryBudget currentBudget,
+                                  Deadline deadline, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        if (deadline != null && deadline.isCancelled()) {
+            result.completeExceptionally(deadline.toException(endpoint));
+            return;
+        }
+        attempt.get().whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            long delay = nextDelay(method, endpoint, params, retry, cause, currentBudget, deadline);
+            if (delay < 0) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(() ->
+                    attemptAsync(method, endpoint, params, attempt, retry + 1, currentBudget, deadline, result));
+        });
+    }
+
+    /**
+     * 计算下一次重试的退避时间
+     *
+     * @return 退避毫秒数；不应重试时返回 -1
+     */
+    private long nextDelay(String method, String endpoint, Map<String, String> params, int retry, Throwable error,
+                           RetryBudget currentBudget, Deadline deadline) {
+        if (retry >= maxAttempts || !isTransient(error) || !isIdempotent(method, endpoint, params)) {
+            return -1;
+        }
+        long delay = backoffMillis(retry);
+        if (deadline != null && (deadline.isExpired() || delay >= deadline.remainingMillis())) {
+            // 退避结束时已经没有时间完成请求，重试只会占用连接和预算
+            deadlineExhaustedCount.increment();
+            logger.warn("剩余时间不足，放弃重试，endpoint: {}, {}", endpoint, deadline);
+            return -1;
+        }
+        if (!currentBudget.tryAcquireRetry()) {
+            budgetExhaustedCount.increment();
+            logger.warn("重试预算已耗尽，放弃重试，endpoint: {}", endpoint);
+            return -1;
+        }
+        retryCount.increment();
+        logger.warn("{}请求失败，{}ms后第{}次重试，endpoint: {}, 原因: {}", method, delay, retry, endpoint, error.getMessage());
+        return delay;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 最大尝试次数（含首次请求）
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("最大尝试次数必须大于0");
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    public void setBaseDelayMillis(long baseDelayMillis) {
+        this.baseDelayMillis = baseDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public void setMaxDelayMillis(long maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    public void setBudget(RetryBudget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * 已执行的重试次数
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * 因预算耗尽而放弃的重试次数
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.sum();
+    }
+
+    /**
+     * 因剩余时间不足或调用被取消而放弃的重试次数
+     */
+    public long getDeadlineExhaustedCount() {
+        return deadlineExhaustedCount.sum();
+    }
+}
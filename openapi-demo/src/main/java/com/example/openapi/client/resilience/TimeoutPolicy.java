@@ -0,0 +1,111 @@
+package com.example.openapi.client.resilience;
+
+import com.example.openapi.client.Endpoint;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按端点的超时策略
+ * <p>
+ * 每个端点有三个超时：建立连接超时、等待响应超时（两次收到数据之间的最长间隔）和总超时（含重试、退避及排队）。
+ * 默认按 {@link Endpoint.TimeoutClass} 取值，也可以为单个端点单独设置；未登记到目录的端点按 STANDARD 处理。
+ * <p>
+ * 客户端创建时按策略为各端点生成请求配置，之后修改策略只对新创建的客户端生效。
+ */
+public class TimeoutPolicy {
+    private final Map<Endpoint.TimeoutClass, Timeouts> byClass = new EnumMap<>(Endpoint.TimeoutClass.class);
+    private final Map<String, Timeouts> byEndpoint = new ConcurrentHashMap<>();
+
+    /**
+     * 按默认值创建超时策略
+     * <ul>
+     *     <li>FAST（下单、撤单、深度、服务器时间）：连接1s、响应2s、总计3s</li>
+     *     <li>STANDARD：连接2s、响应5s、总计10s</li>
+     *     <li>SLOW（全量行情、历史记录）：连接3s、响应15s、总计30s</li>
+     * </ul>
+     */
+    public static TimeoutPolicy defaults() {
+        TimeoutPolicy policy = new TimeoutPolicy();
+        policy.setTimeouts(Endpoint.TimeoutClass.FAST, 1000, 2000, 3000);
+        policy.setTimeouts(Endpoint.TimeoutClass.STANDARD, 2000, 5000, 10000);
+        policy.setTimeouts(Endpoint.TimeoutClass.SLOW, 3000, 15000, 30000);
+        return policy;
+    }
+
+    /**
+     * 设置超时等级的默认超时
+     *
+     * @param timeoutClass 超时等级
+     * @param connectMillis 建立连接超时（毫秒）
+     * @param responseMillis 等待响应超时（毫秒）
+     * @param totalMillis 总超时（毫秒）
+     */
+    public synchronized void setTimeouts(Endpoint.TimeoutClass timeoutClass, long connectMillis, long responseMillis,
+                                         long totalMillis) {
+        byClass.put(timeoutClass, new Timeouts(connectMillis, responseMillis, totalMillis));
+    }
+
+    /**
+     * 为单个端点设置超时，优先于超时等级的默认值
+     *
+     * @param endpoint API端点
+     * @param connectMillis 建立连接超时（毫秒）
+     * @param responseMillis 等待响应超时（毫秒）
+     * @param totalMillis 总超时（毫秒）
+     */
+    public void setTimeouts(String endpoint, long connectMillis, long responseMillis, long totalMillis) {
+        byEndpoint.put(endpoint, new Timeouts(connectMillis, responseMillis, totalMillis));
+    }
+
+    /**
+     * 获取端点的超时
+     *
+     * @param endpoint API端点
+     * @return 超时，超时等级未设置时返回空
+     */
+    public synchronized Timeouts getTimeouts(String endpoint) {
+        Timeouts timeouts = byEndpoint.get(endpoint);
+        if (timeouts != null) {
+            return timeouts;
+        }
+        Endpoint catalogued = Endpoint.of(endpoint);
+        return byClass.get(catalogued != null ? catalogued.getTimeoutClass() : Endpoint.TimeoutClass.STANDARD);
+    }
+
+    /**
+     * 一个端点的连接、响应及总超时
+     */
+    public static final class Timeouts {
+        private final long connectMillis;
+        private final long responseMillis;
+        private final long totalMillis;
+
+        public Timeouts(long connectMillis, long responseMillis, long totalMillis) {
+            if (connectMillis <= 0 || responseMillis <= 0 || totalMillis <= 0) {
+                throw new IllegalArgumentException("超时必须大于0");
+            }
+            this.connectMillis = connectMillis;
+            this.responseMillis = responseMillis;
+            this.totalMillis = totalMillis;
+        }
+
+        public long getConnectMillis() {
+            return connectMillis;
+        }
+
+        public long getResponseMillis() {
+            return responseMillis;
+        }
+
+        public long getTotalMillis() {
+            return totalMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "connect=" + connectMillis + "ms, response=" + responseMillis + "ms, total=" + totalMillis + "ms";
+        }
+    }
+}
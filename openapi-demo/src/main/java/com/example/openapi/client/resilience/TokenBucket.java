@@ -0,0 +1,95 @@
+package com.example.openapi.client.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁令牌桶
+ * <p>
+ * 以"理论到达时间"（GCRA）表示桶状态：只维护一个 {@link AtomicLong}，记录在当前速率下
+ * 令牌被消耗到的时间点。获取令牌时通过CAS推进该时间点，无需加锁，也无需后台补充线程。
+ */
+public class TokenBucket {
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * 构造函数
+     *
+     * @param permitsPerSecond 每秒补充的令牌数
+     * @param burst 桶容量（允许的突发令牌数）
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("令牌补充速率必须大于0");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("桶容量必须大于0");
+        }
+        this.nanosPerPermit = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstNanos = nanosPerPermit * burst;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    /**
+     * 尝试立即获取令牌，不等待
+     *
+     * @param permits 令牌数（权重）
+     * @return 获取成功返回true
+     */
+    public boolean tryAcquire(int permits) {
+        long cost = nanosPerPermit * permits;
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now - burstNanos) + cost;
+            if (next - now > 0) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 预留令牌并返回需要等待的时长；预留总是成功，调用方需等待返回的时长后再发送请求
+     *
+     * @param permits 令牌数（权重）
+     * @param maxWaitNanos 可接受的最长等待时间，超过时不预留
+     * @return 需要等待的纳秒数；超过可接受等待时间时返回 -1
+     */
+    public long reserve(int permits, long maxWaitNanos) {
+        long cost = nanosPerPermit * permits;
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now - burstNanos) + cost;
+            long wait = Math.max(0, next - now);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * 归还预留但未使用的令牌，例如等待期间被中断或调用被取消
+     *
+     * @param permits 预留时的令牌数（权重）
+     */
+    public void release(int permits) {
+        theoreticalArrival.addAndGet(-nanosPerPermit * permits);
+    }
+
+    /**
+     * 当前可立即使用的令牌数（估算值）
+     */
+    public long availablePermits() {
+        long now = System.nanoTime();
+        long current = Math.max(theoreticalArrival.get(), now - burstNanos);
+        return Math.max(0, (now - current) / nanosPerPermit);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.openapi.client.resilience;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 等待时间统计（线程安全，低竞争）
+ */
+public class WaitTimeStats {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 记录一次等待
+     *
+     * @param waitNanos 等待时长（纳秒），0 表示无需等待
+     */
+    public void record(long waitNanos) {
+        count.increment();
+        if (waitNanos > 0) {
+            delayed.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulate(waitNanos);
+        }
+    }
+
+    /**
+     * 记录一次被拒绝（未获得许可）
+     */
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    /**
+     * 记录次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 需要等待（未立即通过）的次数
+     */
+    public long getDelayedCount() {
+        return delayed.sum();
+    }
+
+    /**
+     * 被拒绝的次数
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    /**
+     * 平均等待时长（毫秒），按全部记录次数计算
+     */
+    public double getMeanWaitMillis() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalWaitNanos.sum() / 1_000_000.0 / n;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, delayed=%d, rejected=%d, meanWait=%.3fms, maxWait=%.3fms",
+                getCount(), getDelayedCount(), getRejectedCount(), getMeanWaitMillis(), getMaxWaitNanos() / 1_000_000.0);
+    }
+}
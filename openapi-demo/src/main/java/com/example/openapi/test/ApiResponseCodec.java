@@ -0,0 +1,175 @@
+package com.example.openapi.test;
+
+import com.example.openapi.client.codec.JsonCodec;
+import com.example.openapi.client.codec.ResponseDecoder;
+import com.example.openapi.client.codec.VoCodec;
+import com.example.openapi.client.codec.VoCodecs;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * {@link ApiResponse} 解码器
+ * <p>
+ * 一次流式读取响应外层的 code/msg/data，data 由按数据类型缓存的 {@link ObjectReader} 直接解码，
+ * 不再先解析为JSON树再转换，也不在每次调用时反射泛型参数。
+ * 数据类型是编译期生成了编解码器的VO或其 List 时，改用生成的 {@link VoCodec}，不再创建 {@link ObjectReader}。
+ * code 表示失败时跳过 data，不创建数据对象；data 出现在 code 之前时先缓存其记号，确认成功后再解码。
+ * <p>
+ * 同一数据类型共享同一实例，作为 ApiClient 请求合并的解码函数时，相同请求可共享解码结果。
+ *
+ * @param <T> 响应数据类型
+ */
+public final class ApiResponseCodec<T> implements ResponseDecoder<ApiResponse<T>>, Function<String, ApiResponse<T>> {
+
+    private static final JsonFactory FACTORY = JsonCodec.mapper().getFactory();
+    private static final ConcurrentMap<JavaType, ApiResponseCodec<?>> CODECS = new ConcurrentHashMap<>();
+
+    private final JavaType dataType;
+    private final VoCodec<?> dataCodec;
+    private final boolean listData;
+    private final ObjectReader dataReader;
+
+    private ApiResponseCodec(JavaType dataType) {
+        this.dataType = dataType;
+        this.listData = dataType.getRawClass() == List.class;
+        Class<?> valueClass = listData ? dataType.getContentType().getRawClass() : dataType.getRawClass();
+        this.dataCodec = VoCodecs.find(valueClass);
+        this.dataReader = dataCodec == null ? JsonCodec.reader(dataType) : null;
+    }
+
+    /**
+     * 获取数据类型为 dataClass 的解码器
+     */
+    public static <T> ApiResponseCodec<T> of(Class<T> dataClass) {
+        return forType(JsonCodec.type(dataClass));
+    }
+
+    /**
+     * 获取数据类型为 List&lt;elementClass&gt; 的解码器
+     */
+    public static <T> ApiResponseCodec<List<T>> listOf(Class<T> elementClass) {
+        return forType(JsonCodec.mapper().getTypeFactory().constructCollectionType(List.class, elementClass));
+    }
+
+    /**
+     * 获取泛型数据类型的解码器，例如 {@code new TypeReference<Map<String, List<TickerVO>>>() {}}
+     */
+    public static <T> ApiResponseCodec<T> of(TypeReference<T> dataType) {
+        return forType(JsonCodec.type(dataType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ApiResponseCodec<T> forType(JavaType dataType) {
+        ApiResponseCodec<?> codec = CODECS.get(dataType);
+        if (codec == null) {
+            codec = CODECS.computeIfAbsent(dataType, ApiResponseCodec::new);
+        }
+        return (ApiResponseCodec<T>) codec;
+    }
+
+    @Override
+    public ApiResponse<T> decode(InputStream in) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            return decode(parser);
+        }
+    }
+
+    @Override
+    public ApiResponse<T> decode(String body) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    /**
+     * 从字节数组解码
+     */
+    public ApiResponse<T> decode(byte[] body) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    /**
+     * 从字符串解码，解析失败时抛出 {@link UncheckedIOException}，用于只接受 {@link Function} 的接口
+     */
+    @Override
+    public ApiResponse<T> apply(String body) {
+        try {
+            return decode(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("解析响应时出错: " + e.getMessage(), e);
+        }
+    }
+
+    private ApiResponse<T> decode(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "响应不是JSON对象");
+        }
+        ApiResponse<T> response = new ApiResponse<>();
+        boolean codeRead = false;
+        TokenBuffer pendingData = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "code":
+                    response.setCode(parser.getValueAsInt());
+                    codeRead = true;
+                    break;
+                case "msg":
+                    response.setMsg(token == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+                    break;
+                case "data":
+                    if (token == JsonToken.VALUE_NULL) {
+                        break;
+                    }
+                    if (!codeRead) {
+                        pendingData = new TokenBuffer(parser);
+                        pendingData.copyCurrentStructure(parser);
+                    } else if (response.isSuccess()) {
+                        response.setData(readData(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (pendingData != null && response.isSuccess()) {
+            try (JsonParser dataParser = pendingData.asParser(parser.getCodec())) {
+                dataParser.nextToken();
+                response.setData(readData(dataParser));
+            }
+        }
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T readData(JsonParser parser) throws IOException {
+        if (dataCodec == null) {
+            return dataReader.readValue(parser);
+        }
+        return (T) (listData ? VoCodecs.readList(parser, dataCodec) : dataCodec.read(parser));
+    }
+
+    @Override
+    public String toString() {
+        return "ApiResponseCodec{" + dataType + '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.openapi.test;
+
+import com.example.openapi.client.codec.JsonArrayView;
+import com.example.openapi.client.codec.JsonObjectView;
+import com.example.openapi.client.codec.ResponseDecoder;
+
+/**
+ * {@link ApiResponse} 的惰性视图
+ * <p>
+ * 保留原始响应字节，只解码 code/msg，data 以 {@link JsonArrayView} / {@link JsonObjectView} 返回，
+ * 字段在访问时才解码。适合只读取大列表中少数元素或少数字段的场景。
+ */
+public final class ApiResponseView {
+
+    /**
+     * 响应解码函数，可直接传给 ApiClient 的 getForObject/postForObject
+     */
+    public static final ResponseDecoder<ApiResponseView> DECODER = in -> new ApiResponseView(JsonObjectView.read(in));
+
+    private final JsonObjectView root;
+
+    private ApiResponseView(JsonObjectView root) {
+        this.root = root;
+    }
+
+    /**
+     * 在完整的响应字节上建立视图
+     *
+     * @param body UTF-8编码的响应体，调用方之后不应修改
+     * @throws IllegalArgumentException 响应不是JSON对象或格式错误
+     */
+    public static ApiResponseView of(byte[] body) {
+        return new ApiResponseView(JsonObjectView.of(body));
+    }
+
+    public int getCode() {
+        Integer code = root.intValue("code");
+        return code == null ? 0 : code;
+    }
+
+    public String getMsg() {
+        return root.text("msg");
+    }
+
+    public boolean isSuccess() {
+        int code = getCode();
+        return code == 0 || (code >= 200 && code < 300);
+    }
+
+    /**
+     * 数组类型 data 的视图
+     *
+     * @return 视图，data 不存在或为 null 时返回空
+     */
+    public JsonArrayView getDataArray() {
+        return root.array("data");
+    }
+
+    /**
+     * 对象类型 data 的视图
+     *
+     * @return 视图，data 不存在或为 null 时返回空
+     */
+    public JsonObjectView getDataObject() {
+        return root.object("data");
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.openapi.test.benchmark;
+
+import ch.qos.logback.classic.Level;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基准测试公共支持类：并发压测、延迟分位统计
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * 单次压测任务
+     */
+    interface Task {
+        void run(int index) throws Exception;
+    }
+
+    /**
+     * 压测期间关闭客户端和HttpClient的逐请求日志，避免日志I/O主导测量结果
+     */
+    static void quietLogging() {
+        setLevel("org.apache.hc", Level.WARN);
+        setLevel("org.apache.hc.client5.http", Level.WARN);
+        setLevel("org.apache.hc.client5.http.wire", Level.WARN);
+        setLevel("com.example.openapi.client", Level.WARN);
+    }
+
+    private static void setLevel(String name, Level level) {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(name)).setLevel(level);
+    }
+
+    /**
+     * 使用固定数量的调用线程执行指定次数的任务，记录每次调用的延迟
+     *
+     * @param threads 并发调用线程数
+     * @param requests 总调用次数
+     * @param task 单次调用
+     * @return 延迟统计
+     */
+    static LatencyStats runConcurrent(int threads, int requests, Task task) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        long begin = System.nanoTime();
+                        try {
+                            task.run(i);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - begin;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        return new LatencyStats(latencies, elapsed, errors.get());
+    }
+
+    /**
+     * 在当前线程上重复执行任务，返回平均每次调用在该线程上分配的字节数
+     * <p>
+     * 依赖HotSpot的线程分配计数（com.sun.management.ThreadMXBean），经典阻塞客户端在调用线程上读取响应，
+     * 因此统计值包含读取响应体和解码的全部分配。
+     *
+     * @param iterations 执行次数
+     * @param task 单次调用
+     * @return 平均每次调用分配的字节数
+     */
+    static long allocatedBytesPerCall(int iterations, Task task) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            task.run(i);
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / iterations;
+    }
+
+    /**
+     * 延迟统计结果
+     */
+    static final class LatencyStats {
+        private final long[] sorted;
+        private final long elapsedNanos;
+        private final long errors;
+
+        LatencyStats(long[] latencies, long elapsedNanos, long errors) {
+            this.sorted = latencies.clone();
+            Arrays.sort(this.sorted);
+            this.elapsedNanos = elapsedNanos;
+            this.errors = errors;
+        }
+
+        double throughput() {
+            return sorted.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("吞吐=%.1f req/s, p50=%.2f ms, p99=%.2f ms, max=%.2f ms, 失败=%d",
+                    throughput(), percentileMillis(50), percentileMillis(99), percentileMillis(100), errors);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.utils.CanonicalQuery;
+import com.example.openapi.utils.Signer;
+import org.apache.hc.core5.net.URIBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 请求构造 基准测试
+ * <p>
+ * 先校验 {@link CanonicalQuery} 生成的URI与 {@link URIBuilder} 一致、签名与按参数表签名一致，
+ * 再对比构造一次签名请求（URI + 签名）的平均耗时和分配字节数：
+ * 原有方式分别遍历参数（{@link URIBuilder#addParameter} 构造URI、按参数表签名），新方式一次遍历生成两者。
+ */
+public class CanonicalQueryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(CanonicalQueryBenchmark.class);
+
+    private static final String BASE_URL = "https://open.hashex.vip";
+    private static final String ENDPOINT = Endpoint.SPOT_ORDER_CREATE.getPath();
+    private static final String TIMESTAMP = "1700000000000";
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private interface Build {
+        int build(TreeMap<String, String> params) throws Exception;
+    }
+
+    private static TreeMap<String, String> orderParams() {
+        TreeMap<String, String> params = new TreeMap<>();
+        params.put("symbol", "btc_usdt");
+        params.put("direction", "BUY");
+        params.put("tradeType", "LIMIT");
+        params.put("totalAmount", "0.0015");
+        params.put("price", "65432.10");
+        params.put("clientOrderId", "bench-000000000001");
+        return params;
+    }
+
+    private static URI uriBuilder(TreeMap<String, String> params) throws Exception {
+        URIBuilder uriBuilder = new URIBuilder(BASE_URL + ENDPOINT);
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            uriBuilder.addParameter(entry.getKey(), entry.getValue());
+        }
+        return uriBuilder.build();
+    }
+
+    private static void verify(Signer signer) throws Exception {
+        TreeMap<String, String> special = new TreeMap<>();
+        special.put("remark", "中文 备注+&=?/#%");
+        special.put("ids", "[1,2,3]");
+        special.put("symbol", "btc_usdt");
+        for (TreeMap<String, String> params : Arrays.asList(orderParams(), new TreeMap<String, String>(), special)) {
+            CanonicalQuery query = CanonicalQuery.of(params);
+            URI expected = uriBuilder(params);
+            URI actual = query.toUri(BASE_URL, ENDPOINT);
+            if (!expected.equals(actual) || !expected.toASCIIString().equals(actual.toASCIIString())) {
+                throw new IllegalStateException("URI不一致: " + expected + " / " + actual);
+            }
+            if (!signer.sign(params, TIMESTAMP).equals(signer.sign(query, TIMESTAMP))) {
+                throw new IllegalStateException("签名不一致, 参数: " + params);
+            }
+        }
+        log.info("URI及签名与原有方式一致");
+    }
+
+    private static void run(String name, Build build) throws Exception {
+        TreeMap<String, String> params = orderParams();
+        BenchmarkSupport.Task task = i -> {
+            if (build.build(params) <= 0) {
+                throw new IllegalStateException("构造结果为空");
+            }
+        };
+        BenchmarkSupport.allocatedBytesPerCall(WARMUP, task);
+        long start = System.nanoTime();
+        long bytes = BenchmarkSupport.allocatedBytesPerCall(ITERATIONS, task);
+        double nanos = (double) (System.nanoTime() - start) / ITERATIONS;
+        log.info("{}: 平均耗时 {} ns, 每次分配 {} B", name, String.format("%.0f", nanos), bytes);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        Signer signer = new Signer("access-key", "secret-key");
+        verify(signer);
+        log.info("===== 6个参数的下单请求, 调用次数: {} =====", ITERATIONS);
+        run("URIBuilder + 按参数表签名", params ->
+                uriBuilder(params).hashCode() + signer.sign(params, TIMESTAMP).length());
+        run("CanonicalQuery 一次遍历", params -> {
+            CanonicalQuery query = CanonicalQuery.of(params);
+            return query.toUri(BASE_URL, ENDPOINT).hashCode() + signer.sign(query, TIMESTAMP).length();
+        });
+    }
+}
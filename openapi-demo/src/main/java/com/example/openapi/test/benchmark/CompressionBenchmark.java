@@ -0,0 +1,89 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.AsyncApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.HashExApiConfig;
+import com.example.openapi.test.ApiResponse;
+import com.example.openapi.test.spot.query.AllTickersQueryTest.TickerVO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 响应压缩 基准测试
+ * <p>
+ * 本地TLS模拟服务端返回全量行情（默认2000个交易对），分别在关闭/开启gzip协商时，
+ * 对比每次调用的线路传输字节数、调用线程CPU耗时（含解压及JSON解码）、分配字节数和平均耗时。
+ * 经典客户端覆盖字符串和流式解码两种方式；异步客户端在回调线程解压，调用线程CPU不含解压部分，因此只统计字节数和耗时。
+ */
+public class CompressionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressionBenchmark.class);
+
+    private static final Endpoint ENDPOINT = Endpoint.SPOT_TICKERS;
+    private static final int TICKERS = 2_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+
+    private static final TypeReference<ApiResponse<List<TickerVO>>> TICKERS_TYPE =
+            new TypeReference<ApiResponse<List<TickerVO>>>() {};
+
+    private interface Call {
+        int call() throws Exception;
+    }
+
+    private static void run(LocalTlsServer server, String name, Call call) throws Exception {
+        BenchmarkSupport.Task task = i -> {
+            if (call.call() <= 0) {
+                throw new IllegalStateException("响应为空");
+            }
+        };
+        BenchmarkSupport.allocatedBytesPerCall(WARMUP, task);
+        server.resetBodyBytesSent();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long start = System.nanoTime();
+        long allocated = BenchmarkSupport.allocatedBytesPerCall(ITERATIONS, task);
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        double cpuMillis = (threads.getCurrentThreadCpuTime() - cpuStart) / 1_000_000.0 / ITERATIONS;
+        long wireBytes = server.resetBodyBytesSent() / ITERATIONS;
+        log.info("{}: 传输 {} KB, 调用线程CPU {} ms, 分配 {} KB, 平均耗时 {} ms", name, wireBytes / 1024,
+                String.format("%.3f", cpuMillis), allocated / 1024, String.format("%.3f", millis));
+    }
+
+    private static HashExApiConfig config(LocalTlsServer server, boolean compression) throws Exception {
+        HashExApiConfig config = new HashExApiConfig(server.getBaseUrl(), null, null);
+        config.setSslContext(server.clientSslContext());
+        config.setCompressionEnabled(compression);
+        // 关闭合并，保证每次调用都发出网络请求
+        config.setSingleFlightEnabled(false);
+        return config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        String payload = ResponseDecodeBenchmark.tickersJson(TICKERS);
+        try (LocalTlsServer server = new LocalTlsServer(path -> 0, path -> payload)) {
+            log.info("===== 全量行情 {} 个交易对, 原始响应体 {} KB, 调用次数: {} =====", TICKERS, payload.length() / 1024, ITERATIONS);
+            for (boolean compression : new boolean[]{false, true}) {
+                String mode = compression ? "gzip" : "不压缩";
+                try (ApiClient client = new ApiClient(config(server, compression))) {
+                    run(server, "经典客户端 " + mode + " + 字符串",
+                            () -> client.sendGetRequest(ENDPOINT, new TreeMap<>()).length());
+                    run(server, "经典客户端 " + mode + " + 流式解码",
+                            () -> client.getForObject(ENDPOINT, new TreeMap<>(), TICKERS_TYPE).getData().size());
+                }
+                try (AsyncApiClient client = new AsyncApiClient(config(server, compression))) {
+                    run(server, "异步客户端 " + mode + " + 字符串",
+                            () -> client.sendGetRequest(ENDPOINT, new TreeMap<>()).get().length());
+                }
+            }
+        }
+    }
+}
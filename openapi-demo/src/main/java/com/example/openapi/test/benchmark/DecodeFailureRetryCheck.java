@@ -0,0 +1,91 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.EndpointFamily;
+import com.example.openapi.client.HashExApiConfig;
+import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.codec.JsonObjectView;
+import com.example.openapi.client.resilience.CircuitBreaker;
+import com.example.openapi.client.resilience.RetryPolicy;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 2xx响应解码失败不重试 校验
+ * <p>
+ * 本地TLS模拟服务端对下单和行情接口返回被截断的2xx响应体，客户端配置重试策略和熔断器。
+ * 带 clientOrderId 的下单POST及公共GET都应只到达服务端一次，以携带2xx状态码、非瞬时故障的
+ * {@link HashExApiException} 失败，且熔断器不计为失败；任一条件不满足即抛出 {@link IllegalStateException}。
+ */
+public class DecodeFailureRetryCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(DecodeFailureRetryCheck.class);
+
+    private static final String TRUNCATED_BODY = "{\"code\":0,\"msg\":\"success\",\"data\":{\"list\":[1,";
+
+    private static final AtomicInteger hits = new AtomicInteger();
+
+    private static String respond(String path) {
+        hits.incrementAndGet();
+        return TRUNCATED_BODY;
+    }
+
+    private static void check(String name, CircuitBreaker circuitBreaker, EndpointFamily family, Call call) {
+        hits.set(0);
+        HashExApiException error;
+        try {
+            call.run();
+            throw new IllegalStateException(name + ": 截断的响应体未报告解码失败");
+        } catch (HashExApiException e) {
+            error = e;
+        }
+        if (hits.get() != 1) {
+            throw new IllegalStateException(name + ": 期望请求到达服务端1次，实际 " + hits.get() + " 次");
+        }
+        if (error.getStatusCode() != 200 || RetryPolicy.isTransient(error)) {
+            throw new IllegalStateException(name + ": 解码失败应携带2xx状态码且不是瞬时故障，实际 status="
+                    + error.getStatusCode() + ", " + error.getMessage());
+        }
+        if (circuitBreaker.getState(family) != CircuitBreaker.State.CLOSED) {
+            throw new IllegalStateException(name + ": 解码失败不应计为熔断失败，" + circuitBreaker);
+        }
+        log.info("{}: 请求到达服务端 {} 次, status={}, 熔断器 {}", name, hits.get(), error.getStatusCode(),
+                circuitBreaker.getState(family));
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        try (LocalTlsServer server = new LocalTlsServer(path -> 0, DecodeFailureRetryCheck::respond)) {
+            HashExApiConfig config = new HashExApiConfig(server.getBaseUrl(), "check-access-key", "check-secret-key");
+            config.setSslContext(server.clientSslContext());
+            config.setRetryPolicy(RetryPolicy.defaults());
+            // 单次失败即可打开熔断器，解码失败若被计为失败会立即反映在状态上
+            CircuitBreaker circuitBreaker = new CircuitBreaker(10_000);
+            circuitBreaker.setMinimumCalls(1);
+            circuitBreaker.setFailureRateThreshold(0.5);
+            config.setCircuitBreaker(circuitBreaker);
+
+            try (ApiClient client = new ApiClient(config)) {
+                TreeMap<String, String> order = new TreeMap<>();
+                order.put("symbol", "btc_usdt");
+                order.put("clientOrderId", "check-" + System.nanoTime());
+                check("下单POST", circuitBreaker, EndpointFamily.of(Endpoint.FUTURES_ORDER_CREATE.getPath()),
+                        () -> client.postForObject(Endpoint.FUTURES_ORDER_CREATE, order,
+                                new TypeReference<JsonNode>() {}));
+                check("行情GET", circuitBreaker, EndpointFamily.of(Endpoint.SPOT_TICKERS.getPath()),
+                        () -> client.getForObject(Endpoint.SPOT_TICKERS, new TreeMap<>(), JsonObjectView::read));
+            }
+        }
+        log.info("2xx响应解码失败均未重试，也未计入熔断");
+    }
+
+    private interface Call {
+        void run() throws HashExApiException;
+    }
+}
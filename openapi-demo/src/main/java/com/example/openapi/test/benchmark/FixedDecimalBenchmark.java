@@ -0,0 +1,196 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.utils.FixedDecimal;
+import com.example.openapi.utils.SymbolPrecision;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 定点小数 基准测试
+ * <p>
+ * 先以 {@link BigDecimal} 为基准校验 {@link FixedDecimal} 的解析、舍入、加减乘除和格式化结果：覆盖全部舍入方式、
+ * 负数、科学计数法，以及18位小数时接近 long 边界的溢出；结果不同或只有一方抛出 {@link ArithmeticException} 即校验失败。
+ * 再对比解析价格和数量并计算名义价值的平均耗时和分配字节数：{@link BigDecimal} 与 {@link FixedDecimal}。
+ */
+public class FixedDecimalBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(FixedDecimalBenchmark.class);
+
+    private static final int RANDOM_CASES = 200_000;
+    private static final int WARMUP = 500_000;
+    private static final int ITERATIONS = 2_000_000;
+    private static final RoundingMode[] MODES = RoundingMode.values();
+    private static final SymbolPrecision PRECISION = new SymbolPrecision(2, 6);
+
+    private static final String[] EDGE_TEXTS = {
+            "0", "-0", "0.5", "-0.5", "1.5", "-1.5", "2.5", "-2.5", "0.05", "-0.05", "1.005", "-1.005",
+            "1.0051", "-1.0051", "0.4999999999999999999", "-0.5000000000000000001", "+12.340", "1E-8", "-2.5e+1",
+            "60123.45", "9223372036854775807", "-9223372036854775808", "9223372036854775808",
+            "-9223372036854775809", "9.223372036854775807", "-9.223372036854775808", "9.223372036854775808",
+            "-9.223372036854775809", "9.2233720368547758075", "-9.2233720368547758085", "10", "-10",
+            "0.000000000000000001", "-0.0000000000000000005", "0.0000000000000000015"
+    };
+
+    private static void verify() {
+        int checks = 0;
+        for (String text : EDGE_TEXTS) {
+            for (int scale = 0; scale <= FixedDecimal.MAX_SCALE; scale++) {
+                for (RoundingMode mode : MODES) {
+                    checkParse(text, scale, mode);
+                    checks++;
+                }
+            }
+        }
+        long[] edgeMantissas = {0, 1, -1, 5, -5, 15, -15, 25, -25, Long.MAX_VALUE, Long.MIN_VALUE,
+                Long.MAX_VALUE / 10, Long.MIN_VALUE / 10, 3_037_000_499L, -3_037_000_500L};
+        for (long a : edgeMantissas) {
+            for (long b : edgeMantissas) {
+                for (int scale = 0; scale <= FixedDecimal.MAX_SCALE; scale += 6) {
+                    FixedDecimal x = FixedDecimal.of(a, scale);
+                    FixedDecimal y = FixedDecimal.of(b, FixedDecimal.MAX_SCALE - scale);
+                    checkArithmetic(x, y, FixedDecimal.MAX_SCALE, MODES[(int) ((a ^ b) & 7)]);
+                    checkArithmetic(x, y, scale, RoundingMode.HALF_UP);
+                    checks += 2;
+                }
+            }
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            RoundingMode mode = MODES[random.nextInt(MODES.length)];
+            int scale = random.nextInt(FixedDecimal.MAX_SCALE + 1);
+            checkParse(randomText(random), scale, mode);
+            FixedDecimal x = FixedDecimal.of(randomMantissa(random), random.nextInt(FixedDecimal.MAX_SCALE + 1));
+            FixedDecimal y = FixedDecimal.of(randomMantissa(random), random.nextInt(FixedDecimal.MAX_SCALE + 1));
+            checkArithmetic(x, y, scale, mode);
+            checks += 2;
+        }
+        log.info("{} 组解析及运算结果与BigDecimal一致", checks);
+    }
+
+    private static void checkParse(String text, int scale, RoundingMode mode) {
+        String expected = outcome(() -> new BigDecimal(text).setScale(scale, mode).unscaledValue().longValueExact());
+        String actual = outcome(() -> FixedDecimal.parse(text, scale, mode).getMantissa());
+        String fromChars = outcome(() -> FixedDecimal.parseMantissa(text.toCharArray(), 0, text.length(), scale, mode));
+        if (!expected.equals(actual) || !expected.equals(fromChars)) {
+            throw new IllegalStateException(String.format("解析结果与BigDecimal不一致: %s, scale=%d, mode=%s, 期望 %s, 实际 %s / %s",
+                    text, scale, mode, expected, actual, fromChars));
+        }
+    }
+
+    private static void checkArithmetic(FixedDecimal x, FixedDecimal y, int scale, RoundingMode mode) {
+        BigDecimal bx = x.toBigDecimal();
+        BigDecimal by = y.toBigDecimal();
+        check("add", x, y, () -> exact(bx.add(by), Math.max(x.getScale(), y.getScale())), () -> x.add(y));
+        check("subtract", x, y, () -> exact(bx.subtract(by), Math.max(x.getScale(), y.getScale())),
+                () -> x.subtract(y));
+        check("multiply " + scale + " " + mode, x, y, () -> exact(bx.multiply(by).setScale(scale, mode), scale),
+                () -> x.multiply(y, scale, mode));
+        check("divide " + scale + " " + mode, x, y, () -> exact(bx.divide(by, scale, mode), scale),
+                () -> x.divide(y, scale, mode));
+        check("setScale " + scale + " " + mode, x, y, () -> exact(bx.setScale(scale, mode), scale),
+                () -> x.setScale(scale, mode));
+        if (!x.toString().equals(bx.toPlainString()) || Integer.signum(x.compareTo(y)) != bx.compareTo(by)) {
+            throw new IllegalStateException("格式化或比较结果与BigDecimal不一致: " + x + ", " + y);
+        }
+    }
+
+    private static void check(String operation, FixedDecimal x, FixedDecimal y, Supplier<Object> expected,
+                              Supplier<Object> actual) {
+        String e = outcome(expected);
+        String a = outcome(actual);
+        if (!e.equals(a)) {
+            throw new IllegalStateException(String.format("%s 结果与BigDecimal不一致: %s, %s, 期望 %s, 实际 %s",
+                    operation, x, y, e, a));
+        }
+    }
+
+    /**
+     * BigDecimal 的结果按 FixedDecimal 的表示方式转换，超出 long 范围时抛出 ArithmeticException
+     */
+    private static FixedDecimal exact(BigDecimal value, int scale) {
+        return FixedDecimal.of(value.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact(), scale);
+    }
+
+    private static String outcome(Supplier<Object> supplier) {
+        try {
+            return String.valueOf(supplier.get());
+        } catch (ArithmeticException e) {
+            return "ArithmeticException";
+        }
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder sb = new StringBuilder(48);
+        if (random.nextBoolean()) {
+            sb.append('-');
+        }
+        int intDigits = random.nextInt(21);
+        sb.append((char) ('0' + random.nextInt(10)));
+        for (int i = 0; i < intDigits; i++) {
+            sb.append((char) ('0' + random.nextInt(10)));
+        }
+        int fractionDigits = random.nextInt(24);
+        if (fractionDigits > 0) {
+            sb.append('.');
+            for (int i = 0; i < fractionDigits; i++) {
+                // 偏向0、5、9，多出现恰好一半和连续进位的情况
+                int r = random.nextInt(13);
+                sb.append(r < 10 ? (char) ('0' + r) : r == 10 ? '0' : r == 11 ? '5' : '9');
+            }
+        }
+        if (random.nextInt(8) == 0) {
+            sb.append('E').append(random.nextInt(41) - 20);
+        }
+        return sb.toString();
+    }
+
+    private static long randomMantissa(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return random.nextLong();
+            case 1:
+                return random.nextInt();
+            case 2:
+                return random.nextInt(2001) - 1000;
+            default:
+                // long 边界附近
+                long offset = random.nextInt(1000);
+                return random.nextBoolean() ? Long.MAX_VALUE - offset : Long.MIN_VALUE + offset;
+        }
+    }
+
+    private static void run(String name, BenchmarkSupport.Task task) throws Exception {
+        BenchmarkSupport.allocatedBytesPerCall(WARMUP, task);
+        long start = System.nanoTime();
+        long bytes = BenchmarkSupport.allocatedBytesPerCall(ITERATIONS, task);
+        double nanos = (double) (System.nanoTime() - start) / ITERATIONS;
+        log.info("{}: 平均耗时 {} ns, 每次分配 {} B", name, String.format("%.0f", nanos), bytes);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        verify();
+        String[] prices = {"60123.45", "60123.5", "0.07", "1234567.8"};
+        String[] quantities = {"0.001500", "12", "3.141592", "0.000001"};
+        log.info("===== 解析价格、数量并计算名义价值, {} 次 =====", ITERATIONS);
+        run("BigDecimal", i -> {
+            BigDecimal price = new BigDecimal(prices[i & 3]).setScale(PRECISION.getPriceScale(), RoundingMode.HALF_UP);
+            BigDecimal quantity = new BigDecimal(quantities[i & 3]).setScale(PRECISION.getQuantityScale(), RoundingMode.DOWN);
+            if (price.multiply(quantity).signum() <= 0) {
+                throw new IllegalStateException("名义价值不正确");
+            }
+        });
+        run("FixedDecimal", i -> {
+            FixedDecimal price = FixedDecimal.parse(prices[i & 3], PRECISION.getPriceScale(), RoundingMode.HALF_UP);
+            FixedDecimal quantity = FixedDecimal.parse(quantities[i & 3], PRECISION.getQuantityScale(), RoundingMode.DOWN);
+            if (PRECISION.notional(price, quantity).signum() <= 0) {
+                throw new IllegalStateException("名义价值不正确");
+            }
+        });
+    }
+}
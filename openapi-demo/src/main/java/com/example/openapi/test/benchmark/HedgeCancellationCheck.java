@@ -0,0 +1,102 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.AsyncApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.EndpointFamily;
+import com.example.openapi.client.HashExApiConfig;
+import com.example.openapi.client.interceptor.TimingInterceptor;
+import com.example.openapi.client.resilience.CircuitBreaker;
+import com.example.openapi.client.resilience.HedgePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 对冲请求取消不计入统计 校验
+ * <p>
+ * 本地TLS模拟服务端让深度接口的第一个请求停顿，之后的请求快速返回，同步和异步客户端各发送一次对冲调用。
+ * 被取消的首个请求不应计入耗时统计的错误数，也不应计入熔断器：调用结束并等到停顿的响应本应返回之后，
+ * 耗时统计须为 count=1、errors=0，熔断器须为 calls=1、failures=0；否则抛出 {@link IllegalStateException}。
+ */
+public class HedgeCancellationCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgeCancellationCheck.class);
+
+    private static final String PATH = Endpoint.SPOT_DEPTH.getPath();
+    private static final long STALL_MILLIS = 1_000;
+    private static final long HEDGE_DELAY_MILLIS = 50;
+
+    private static final AtomicInteger requests = new AtomicInteger();
+
+    private static long simulatedDelay(String path) {
+        return requests.getAndIncrement() == 0 ? STALL_MILLIS : 5;
+    }
+
+    private static HashExApiConfig config(LocalTlsServer server, CircuitBreaker circuitBreaker) throws Exception {
+        HashExApiConfig config = new HashExApiConfig(server.getBaseUrl(), null, null);
+        config.setSslContext(server.clientSslContext());
+        HedgePolicy hedgePolicy = new HedgePolicy();
+        hedgePolicy.addEndpoint(PATH);
+        hedgePolicy.setInitialDelayMillis(HEDGE_DELAY_MILLIS);
+        config.setHedgePolicy(hedgePolicy);
+        config.setCircuitBreaker(circuitBreaker);
+        return config;
+    }
+
+    private static CircuitBreaker circuitBreaker() {
+        // 单次失败即可打开熔断器，被取消的请求若被计为失败会立即反映在状态上
+        CircuitBreaker circuitBreaker = new CircuitBreaker(10_000);
+        circuitBreaker.setMinimumCalls(1);
+        circuitBreaker.setFailureRateThreshold(0.5);
+        return circuitBreaker;
+    }
+
+    private static void verify(String name, TimingInterceptor timing, CircuitBreaker circuitBreaker)
+            throws InterruptedException {
+        // 等到停顿的首个请求本应返回之后，迟到的取消回调也已执行
+        TimeUnit.MILLISECONDS.sleep(STALL_MILLIS + 500);
+        TimingInterceptor.Stats stats = timing.getStats(PATH);
+        String breaker = circuitBreaker.toString();
+        String family = EndpointFamily.of(PATH) + ":";
+        String expected = family + " state=CLOSED, calls=1, failures=0,";
+        boolean breakerOk = false;
+        for (String line : breaker.split("\n")) {
+            breakerOk |= line.startsWith(expected);
+        }
+        if (requests.get() != 2) {
+            throw new IllegalStateException(name + ": 期望发送首个请求和对冲请求共2次，实际 " + requests.get() + " 次");
+        }
+        if (stats == null || stats.getCount() != 1 || stats.getErrorCount() != 0) {
+            throw new IllegalStateException(name + ": 被取消的请求计入了耗时统计: " + stats);
+        }
+        if (!breakerOk) {
+            throw new IllegalStateException(name + ": 被取消的请求计入了熔断器: " + breaker);
+        }
+        log.info("{}: 服务端收到 {} 个请求, 耗时统计 {}, 熔断器 {}", name, requests.get(), stats,
+                circuitBreaker.getState(EndpointFamily.of(PATH)));
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        try (LocalTlsServer server = new LocalTlsServer(HedgeCancellationCheck::simulatedDelay)) {
+            requests.set(0);
+            CircuitBreaker syncBreaker = circuitBreaker();
+            try (ApiClient client = new ApiClient(config(server, syncBreaker))) {
+                client.sendGetRequest(PATH, new TreeMap<>(), false);
+                verify("同步客户端", client.getTimingInterceptor(), syncBreaker);
+            }
+
+            requests.set(0);
+            CircuitBreaker asyncBreaker = circuitBreaker();
+            try (AsyncApiClient client = new AsyncApiClient(config(server, asyncBreaker))) {
+                client.sendGetRequest(PATH, new TreeMap<>(), false).get();
+                verify("异步客户端", client.getTimingInterceptor(), asyncBreaker);
+            }
+        }
+        log.info("被取消的对冲请求均未计入耗时统计和熔断器");
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.HashExApiConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.TreeMap;
+
+/**
+ * HTTP/2多路复用 vs HTTP/1.1连接池 基准测试
+ * <p>
+ * 在本地TLS模拟服务端上，以相同的并发调用线程分别压测两种传输模式，对比吞吐、p99延迟和建立的连接数。
+ * 模拟服务端对 /fut/v1/order/list 返回较慢（50ms），用于观察慢响应对其他请求的影响。
+ */
+public class Http2TransportBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(Http2TransportBenchmark.class);
+
+    private static final int THREADS = 128;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+
+    private static final String[] ENDPOINTS = {
+            Endpoint.SPOT_ORDER_DETAIL.getPath(),
+            Endpoint.FUTURES_DEPTH.getPath(),
+            Endpoint.SPOT_ORDER_CREATE.getPath(),
+            Endpoint.FUTURES_ORDER_LIST.getPath(),
+    };
+
+    private static long simulatedDelay(String path) {
+        return path.startsWith(Endpoint.FUTURES_ORDER_LIST.getPath()) ? 50 : 5;
+    }
+
+    private static BenchmarkSupport.LatencyStats run(LocalTlsServer server, boolean http2) throws Exception {
+        HashExApiConfig config = new HashExApiConfig(server.getBaseUrl(), "benchmark-access-key", "benchmark-secret-key");
+        config.setSslContext(server.clientSslContext());
+        config.setHttp2Enabled(http2);
+
+        try (ApiClient client = new ApiClient(config)) {
+            BenchmarkSupport.Task task = i -> {
+                TreeMap<String, String> params = new TreeMap<>();
+                params.put("symbol", "btc_usdt");
+                params.put("seq", String.valueOf(i));
+                client.sendGetRequest(ENDPOINTS[i % ENDPOINTS.length], params, true);
+            };
+            BenchmarkSupport.runConcurrent(THREADS, WARMUP_REQUESTS, task);
+            server.resetConnectionCount();
+            BenchmarkSupport.LatencyStats stats = BenchmarkSupport.runConcurrent(THREADS, REQUESTS, task);
+            log.info("{}: {}, 新建连接数={}, 连接池={}", http2 ? "HTTP/2 多路复用" : "HTTP/1.1 连接池",
+                    stats, server.resetConnectionCount(), client.getPoolStats());
+            return stats;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        try (LocalTlsServer server = new LocalTlsServer(Http2TransportBenchmark::simulatedDelay)) {
+            log.info("===== 本地TLS模拟服务端: {}, 调用线程: {}, 请求数: {} =====", server.getBaseUrl(), THREADS, REQUESTS);
+            BenchmarkSupport.LatencyStats http1 = run(server, false);
+            BenchmarkSupport.LatencyStats http2 = run(server, true);
+            log.info("HTTP/2 相对 HTTP/1.1: 吞吐 x{}, p99 {} ms -> {} ms",
+                    String.format("%.2f", http2.throughput() / http1.throughput()),
+                    String.format("%.2f", http1.percentileMillis(99)),
+                    String.format("%.2f", http2.percentileMillis(99)));
+        }
+    }
+}
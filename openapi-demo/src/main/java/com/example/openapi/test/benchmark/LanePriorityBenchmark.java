@@ -0,0 +1,118 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.HashExApiConfig;
+import com.example.openapi.client.Lane;
+import com.example.openapi.client.resilience.LaneDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分道调度基准测试：批量历史查询占满连接时的下单延迟
+ * <p>
+ * 模拟对账任务：多个线程持续翻页查询历史订单和资金流水（服务端耗时200ms），同时少量线程下单（服务端耗时5ms）。
+ * 共用一个连接池时下单请求需要排队等待连接；分道调度时下单走独立的交易通道连接池，
+ * 对比两种模式下单延迟的p50/p99，并输出各通道的排队长度和等待时间。
+ */
+public class LanePriorityBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(LanePriorityBenchmark.class);
+
+    private static final int BULK_THREADS = 32;
+    private static final int TRADING_THREADS = 4;
+    private static final int TRADING_REQUESTS = 400;
+    private static final int CONNECTIONS = 16;
+
+    private static long simulatedDelay(String path) {
+        if (path.startsWith(Endpoint.FUTURES_ORDER_LIST_HISTORY.getPath())
+                || path.startsWith(Endpoint.FUTURES_BALANCE_BILLS.getPath())) {
+            return 200;
+        }
+        return 5;
+    }
+
+    private static BenchmarkSupport.LatencyStats run(LocalTlsServer server, boolean lanes) throws Exception {
+        HashExApiConfig config = new HashExApiConfig(server.getBaseUrl(), "benchmark-access-key", "benchmark-secret-key");
+        config.setSslContext(server.clientSslContext());
+        config.setMaxTotalConnections(CONNECTIONS);
+        config.setMaxConnectionsPerRoute(CONNECTIONS);
+        LaneDispatcher dispatcher = null;
+        if (lanes) {
+            // 连接总数与共用连接池相同，只是按通道划分
+            dispatcher = new LaneDispatcher(CONNECTIONS);
+            dispatcher.setLimit(Lane.TRADING, 8);
+            dispatcher.setLimit(Lane.ACCOUNT, 4);
+            dispatcher.setLimit(Lane.BULK_HISTORY, 4);
+            config.setLaneDispatcher(dispatcher);
+        }
+
+        try (ApiClient client = new ApiClient(config)) {
+            AtomicBoolean stop = new AtomicBoolean();
+            AtomicLong bulkRequests = new AtomicLong();
+            List<Thread> bulkThreads = new ArrayList<>();
+            for (int t = 0; t < BULK_THREADS; t++) {
+                Endpoint endpoint = t % 2 == 0 ? Endpoint.FUTURES_ORDER_LIST_HISTORY : Endpoint.FUTURES_BALANCE_BILLS;
+                Thread thread = new Thread(() -> {
+                    int page = 0;
+                    while (!stop.get()) {
+                        TreeMap<String, String> params = new TreeMap<>();
+                        params.put("page", String.valueOf(page++));
+                        params.put("size", "100");
+                        try {
+                            client.sendGetRequest(endpoint, params);
+                            bulkRequests.incrementAndGet();
+                        } catch (Exception e) {
+                            // 仅用于制造背景负载，忽略失败
+                        }
+                    }
+                }, "bulk-" + t);
+                thread.setDaemon(true);
+                thread.start();
+                bulkThreads.add(thread);
+            }
+            // 等待批量查询占满连接
+            Thread.sleep(500);
+
+            BenchmarkSupport.LatencyStats stats = BenchmarkSupport.runConcurrent(TRADING_THREADS, TRADING_REQUESTS, i -> {
+                TreeMap<String, String> params = new TreeMap<>();
+                params.put("symbol", "btc_usdt");
+                params.put("clientOrderId", "bench-" + i);
+                client.sendPostRequest(Endpoint.FUTURES_ORDER_CREATE, params);
+            });
+            stop.set(true);
+            for (Thread thread : bulkThreads) {
+                thread.join();
+            }
+            log.info("{}: 下单 {}, 同期批量查询 {} 次", lanes ? "分道调度" : "共用连接池", stats, bulkRequests.get());
+            if (dispatcher != null) {
+                log.info("各通道统计:\n{}", dispatcher);
+                for (Lane lane : Lane.values()) {
+                    log.info("{} 连接池: {}", lane, client.getPoolStats(lane));
+                }
+            }
+            return stats;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        try (LocalTlsServer server = new LocalTlsServer(LanePriorityBenchmark::simulatedDelay)) {
+            log.info("===== 本地TLS模拟服务端: {}, 批量查询线程: {}, 下单线程: {}, 连接数: {} =====",
+                    server.getBaseUrl(), BULK_THREADS, TRADING_THREADS, CONNECTIONS);
+            BenchmarkSupport.LatencyStats shared = run(server, false);
+            BenchmarkSupport.LatencyStats lanes = run(server, true);
+            log.info("下单 p50 {} ms -> {} ms, p99 {} ms -> {} ms",
+                    String.format("%.2f", shared.percentileMillis(50)),
+                    String.format("%.2f", lanes.percentileMillis(50)),
+                    String.format("%.2f", shared.percentileMillis(99)),
+                    String.format("%.2f", lanes.percentileMillis(99)));
+        }
+    }
+}
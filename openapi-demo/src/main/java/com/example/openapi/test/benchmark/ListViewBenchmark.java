@@ -0,0 +1,82 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.client.codec.JsonArrayView;
+import com.example.openapi.client.codec.JsonObjectView;
+import com.example.openapi.test.ApiResponse;
+import com.example.openapi.test.ApiResponseCodec;
+import com.example.openapi.test.ApiResponseView;
+import com.example.openapi.test.spot.query.AllTickersQueryTest.TickerVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 大列表响应惰性视图 基准测试
+ * <p>
+ * 对2000个交易对的全量行情响应，只读取其中5个交易对的最新价格和涨跌幅，对比完整解码为 TickerVO 列表
+ * 与 {@link JsonArrayView} 惰性视图每次调用的分配字节数和耗时。只测量解码，不经过网络。
+ */
+public class ListViewBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ListViewBenchmark.class);
+
+    private static final int TICKERS = 2_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+    private static final String[] SYMBOLS = {"coin7_usdt", "coin42_usdt", "coin500_usdt", "coin1234_usdt", "coin1999_usdt"};
+
+    private interface Lookup {
+        int lookup(byte[] body) throws Exception;
+    }
+
+    private static int decodeAll(byte[] body) throws Exception {
+        ApiResponse<List<TickerVO>> response = ApiResponseCodec.listOf(TickerVO.class).decode(body);
+        int found = 0;
+        for (String symbol : SYMBOLS) {
+            for (TickerVO ticker : response.getData()) {
+                if (symbol.equals(ticker.getS())) {
+                    if (ticker.getC() != null && ticker.getR() != null) {
+                        found++;
+                    }
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static int view(byte[] body) {
+        JsonArrayView tickers = ApiResponseView.of(body).getDataArray();
+        int found = 0;
+        for (String symbol : SYMBOLS) {
+            JsonObjectView ticker = tickers.find("s", symbol);
+            if (ticker != null && ticker.text("c") != null && ticker.text("r") != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static void run(String name, byte[] body, Lookup lookup) throws Exception {
+        BenchmarkSupport.Task task = i -> {
+            if (lookup.lookup(body) != SYMBOLS.length) {
+                throw new IllegalStateException("查找结果数量不正确");
+            }
+        };
+        BenchmarkSupport.allocatedBytesPerCall(WARMUP, task);
+        long start = System.nanoTime();
+        long bytes = BenchmarkSupport.allocatedBytesPerCall(ITERATIONS, task);
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        log.info("{}: 每次调用分配 {} KB, 平均耗时 {} ms", name, bytes / 1024, String.format("%.3f", millis));
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        byte[] body = ResponseDecodeBenchmark.tickersJson(TICKERS).getBytes(StandardCharsets.UTF_8);
+        log.info("===== 全量行情 {} 个交易对, 响应体 {} KB, 查找 {} 个交易对 =====", TICKERS, body.length / 1024, SYMBOLS.length);
+        run("完整解码", body, ListViewBenchmark::decodeAll);
+        run("惰性视图", body, ListViewBenchmark::view);
+    }
+}
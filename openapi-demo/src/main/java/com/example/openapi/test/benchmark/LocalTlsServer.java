@@ -0,0 +1,211 @@
+package com.example.openapi.test.benchmark;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.AsyncResponseBuilder;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.http2.ssl.H2ServerTlsStrategy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.apache.hc.core5.ssl.SSLContexts;
+
+import javax.net.ssl.SSLContext;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 本地TLS模拟服务端，用于基准测试
+ * <p>
+ * 使用临时自签名证书，通过ALPN同时支持h2和http/1.1；按路径模拟服务端处理耗时（非阻塞延迟），
+ * 并统计建立的TCP连接数，便于对比HTTP/1.1连接池与HTTP/2多路复用。
+ * 请求声明 Accept-Encoding: gzip 时返回gzip压缩的响应体，并统计发送的响应体字节数。
+ */
+final class LocalTlsServer implements AutoCloseable {
+
+    private static final char[] PASSWORD = "changeit".toCharArray();
+
+    private final Path keyStore;
+    private final HttpAsyncServer server;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong bodyBytesSent = new AtomicLong();
+    // 压缩结果按响应体缓存，避免服务端压缩耗时计入客户端延迟
+    private final Map<String, byte[]> gzipCache = new ConcurrentHashMap<>();
+    private final int port;
+
+    /**
+     * 启动服务端，响应体为包含请求路径的简短JSON
+     *
+     * @param delayMillis 按请求路径返回模拟处理耗时（毫秒）
+     */
+    LocalTlsServer(ToLongFunction<String> delayMillis) throws Exception {
+        this(delayMillis, path -> "{\"code\":0,\"msg\":\"success\",\"data\":{\"path\":\"" + path.replace("\"", "") + "\"}}");
+    }
+
+    /**
+     * 启动服务端
+     *
+     * @param delayMillis 按请求路径返回模拟处理耗时（毫秒）
+     * @param body 按请求路径返回响应JSON
+     */
+    LocalTlsServer(ToLongFunction<String> delayMillis, Function<String, String> body) throws Exception {
+        this.keyStore = generateKeyStore();
+        SSLContext serverContext = SSLContexts.custom()
+                .loadKeyMaterial(keyStore.toFile(), PASSWORD, PASSWORD)
+                .build();
+        this.server = H2ServerBootstrap.bootstrap()
+                .setIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(Runtime.getRuntime().availableProcessors())
+                        .setTcpNoDelay(true)
+                        .build())
+                .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                .setH2Config(H2Config.custom().setMaxConcurrentStreams(1000).setPushEnabled(false).build())
+                .setTlsStrategy(new H2ServerTlsStrategy(serverContext))
+                .setIOSessionDecorator(session -> {
+                    connections.incrementAndGet();
+                    return session;
+                })
+                .register("*", new DelayedJsonHandler(delayMillis, body))
+                .create();
+        server.start();
+        ListenerEndpoint endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTPS).get();
+        this.port = ((InetSocketAddress) endpoint.getAddress()).getPort();
+    }
+
+    String getBaseUrl() {
+        return "https://localhost:" + port;
+    }
+
+    /**
+     * 信任自签名证书的客户端TLS上下文
+     */
+    SSLContext clientSslContext() throws Exception {
+        return SSLContexts.custom()
+                .loadTrustMaterial(keyStore.toFile(), PASSWORD)
+                .build();
+    }
+
+    /**
+     * 获取并清零已建立的连接数
+     */
+    int resetConnectionCount() {
+        return connections.getAndSet(0);
+    }
+
+    /**
+     * 获取并清零已发送的响应体字节数（压缩后）
+     */
+    long resetBodyBytesSent() {
+        return bodyBytesSent.getAndSet(0);
+    }
+
+    private static byte[] gzip(String body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length() / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.close(CloseMode.IMMEDIATE);
+        scheduler.shutdownNow();
+        Files.deleteIfExists(keyStore);
+    }
+
+    /**
+     * 使用JDK自带keytool生成localhost自签名证书
+     */
+    private static Path generateKeyStore() throws Exception {
+        Path dir = Files.createTempDirectory("hashex-bench");
+        Path file = dir.resolve("server.p12");
+        String keytool = System.getProperty("java.home") + File.separator + "bin" + File.separator + "keytool";
+        Process process = new ProcessBuilder(keytool, "-genkeypair",
+                "-alias", "server", "-keyalg", "EC", "-groupname", "secp256r1",
+                "-dname", "CN=localhost", "-ext", "SAN=dns:localhost,ip:127.0.0.1",
+                "-validity", "1", "-storetype", "PKCS12",
+                "-keystore", file.toString(),
+                "-storepass", new String(PASSWORD), "-keypass", new String(PASSWORD))
+                .redirectErrorStream(true)
+                .start();
+        if (!process.waitFor(60, TimeUnit.SECONDS) || process.exitValue() != 0) {
+            throw new IllegalStateException("生成自签名证书失败: " + new String(process.getInputStream().readAllBytes()));
+        }
+        file.toFile().deleteOnExit();
+        dir.toFile().deleteOnExit();
+        return file;
+    }
+
+    private final class DelayedJsonHandler implements AsyncServerRequestHandler<Message<HttpRequest, String>> {
+        private final ToLongFunction<String> delayMillis;
+        private final Function<String, String> body;
+
+        private DelayedJsonHandler(ToLongFunction<String> delayMillis, Function<String, String> body) {
+            this.delayMillis = delayMillis;
+            this.body = body;
+        }
+
+        @Override
+        public AsyncRequestConsumer<Message<HttpRequest, String>> prepare(HttpRequest request, EntityDetails entityDetails,
+                                                                          HttpContext context) {
+            return new BasicRequestConsumer<>(entityDetails != null ? new StringAsyncEntityConsumer() : null);
+        }
+
+        @Override
+        public void handle(Message<HttpRequest, String> message, ResponseTrigger responseTrigger, HttpContext context) {
+            String path = message.getHead().getPath();
+            String responseBody = body.apply(path);
+            Header acceptEncoding = message.getHead().getFirstHeader(HttpHeaders.ACCEPT_ENCODING);
+            boolean gzip = acceptEncoding != null && acceptEncoding.getValue().contains("gzip");
+            byte[] bytes = gzip ? gzipCache.computeIfAbsent(responseBody, LocalTlsServer::gzip)
+                    : responseBody.getBytes(StandardCharsets.UTF_8);
+            bodyBytesSent.addAndGet(bytes.length);
+            scheduler.schedule(() -> {
+                try {
+                    AsyncResponseBuilder response = AsyncResponseBuilder.create(200)
+                            .setEntity(AsyncEntityProducers.create(bytes, ContentType.APPLICATION_JSON));
+                    if (gzip) {
+                        response.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    }
+                    responseTrigger.submitResponse(response.build(), context);
+                } catch (Exception e) {
+                    // 连接已关闭，忽略
+                }
+            }, delayMillis.applyAsLong(path), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.utils.NonceGenerator;
+import com.example.openapi.utils.TimestampSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 请求随机数及时间戳生成 基准测试
+ * <p>
+ * 32个线程并发生成，对比吞吐：{@link UUID#randomUUID()}（共享SecureRandom）与 {@link NonceGenerator}，
+ * 每次格式化 System.currentTimeMillis() 与 {@link TimestampSource}。另外校验并发生成的随机数没有重复。
+ */
+public class NonceTimestampBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(NonceTimestampBenchmark.class);
+
+    private static final int THREADS = 32;
+    private static final int WARMUP_PER_THREAD = 20_000;
+    private static final int PER_THREAD = 200_000;
+    private static final int UNIQUENESS_PER_THREAD = 20_000;
+
+    private static double opsPerSecond(int perThread, Supplier<String> generator) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        LongAdder sink = new LongAdder();
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    long length = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        length += generator.get().length();
+                    }
+                    sink.add(length);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            thread.start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        if (sink.sum() == 0) {
+            throw new IllegalStateException("生成结果为空");
+        }
+        return (double) THREADS * perThread / (elapsed / 1_000_000_000.0);
+    }
+
+    private static void run(String name, Supplier<String> generator) throws InterruptedException {
+        opsPerSecond(WARMUP_PER_THREAD, generator);
+        double ops = opsPerSecond(PER_THREAD, generator);
+        log.info("{}: 吞吐 {} 万次/秒", name, String.format("%.1f", ops / 10_000));
+    }
+
+    private static void verifyUnique(NonceGenerator generator) throws InterruptedException {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        LongAdder duplicates = new LongAdder();
+        opsPerSecond(UNIQUENESS_PER_THREAD, () -> {
+            String nonce = generator.next();
+            if (!seen.add(nonce)) {
+                duplicates.increment();
+            }
+            return nonce;
+        });
+        if (duplicates.sum() > 0) {
+            throw new IllegalStateException("随机数重复 " + duplicates.sum() + " 次");
+        }
+        log.info("{} 个并发生成的随机数无重复，示例: {}", seen.size(), generator.next());
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        NonceGenerator nonceGenerator = new NonceGenerator();
+        TimestampSource timestampSource = new TimestampSource();
+        verifyUnique(nonceGenerator);
+        log.info("===== {} 线程, 每线程 {} 次 =====", THREADS, PER_THREAD);
+        run("UUID.randomUUID", () -> UUID.randomUUID().toString());
+        run("NonceGenerator", nonceGenerator::next);
+        run("String.valueOf(currentTimeMillis)", () -> String.valueOf(System.currentTimeMillis()));
+        run("TimestampSource", timestampSource::currentTimeString);
+    }
+}
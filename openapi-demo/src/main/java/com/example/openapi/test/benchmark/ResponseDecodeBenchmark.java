@@ -0,0 +1,97 @@
+package com.example.openapi.test.benchmark;
+
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.HashExApiConfig;
+import com.example.openapi.client.codec.JsonCodec;
+import com.example.openapi.test.ApiResponse;
+import com.example.openapi.test.spot.query.AllTickersQueryTest.TickerVO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 响应解码方式 基准测试
+ * <p>
+ * 本地TLS模拟服务端返回全量行情（默认2000个交易对，约0.5MB），对比三种解码方式每次调用的分配字节数和耗时：
+ * 响应体转字符串后由Hutool解析（原有方式）、转字符串后由Jackson解析、由Jackson直接从响应流解码。
+ */
+public class ResponseDecodeBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseDecodeBenchmark.class);
+
+    private static final Endpoint ENDPOINT = Endpoint.SPOT_TICKERS;
+    private static final int TICKERS = 2_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+
+    private static final TypeReference<ApiResponse<List<TickerVO>>> TICKERS_TYPE =
+            new TypeReference<ApiResponse<List<TickerVO>>>() {};
+
+    private interface Decoder {
+        int decode(ApiClient client) throws Exception;
+    }
+
+    static String tickersJson(int count) {
+        StringBuilder json = new StringBuilder(count * 256).append("{\"code\":0,\"msg\":\"success\",\"data\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"t\":").append(1700000000000L + i)
+                    .append(",\"s\":\"coin").append(i).append("_usdt\"")
+                    .append(",\"c\":\"").append(100 + i).append(".12345678\"")
+                    .append(",\"h\":\"").append(110 + i).append(".5\"")
+                    .append(",\"l\":\"").append(90 + i).append(".25\"")
+                    .append(",\"a\":\"123456.789\",\"v\":\"98765432.1234\"")
+                    .append(",\"o\":\"").append(99 + i).append(".0\"")
+                    .append(",\"r\":\"1.23\",\"tickerTrendVo\":null}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void run(ApiClient client, String name, Decoder decoder) throws Exception {
+        BenchmarkSupport.Task task = i -> {
+            if (decoder.decode(client) != TICKERS) {
+                throw new IllegalStateException("解码结果数量不正确");
+            }
+        };
+        BenchmarkSupport.allocatedBytesPerCall(WARMUP, task);
+        long start = System.nanoTime();
+        long bytes = BenchmarkSupport.allocatedBytesPerCall(ITERATIONS, task);
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        log.info("{}: 每次调用分配 {} KB, 平均耗时 {} ms", name, bytes / 1024, String.format("%.3f", millis));
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        String payload = tickersJson(TICKERS);
+        try (LocalTlsServer server = new LocalTlsServer(path -> 0, path -> payload)) {
+            HashExApiConfig config = new HashExApiConfig(server.getBaseUrl(), null, null);
+            config.setSslContext(server.clientSslContext());
+            log.info("===== 全量行情 {} 个交易对, 响应体 {} KB, 调用次数: {} =====", TICKERS, payload.length() / 1024, ITERATIONS);
+            try (ApiClient client = new ApiClient(config)) {
+                JavaType type = JsonCodec.type(TICKERS_TYPE);
+                run(client, "字符串 + Hutool解析", c -> {
+                    String json = c.sendGetRequest(ENDPOINT, new TreeMap<>());
+                    ApiResponse<List<TickerVO>> response = JSONUtil.toBean(new JSONObject(json),
+                            new cn.hutool.core.lang.TypeReference<ApiResponse<List<TickerVO>>>() {}, false);
+                    return response.getData().size();
+                });
+                run(client, "字符串 + Jackson解析", c -> {
+                    String json = c.sendGetRequest(ENDPOINT, new TreeMap<>());
+                    ApiResponse<List<TickerVO>> response = JsonCodec.read(json, type);
+                    return response.getData().size();
+                });
+                run(client, "Jackson流式解码", c -> c.getForObject(ENDPOINT, new TreeMap<>(), TICKERS_TYPE)
+                        .getData().size());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.openapi.test.benchmark;
+
+import com.example.openapi.test.future.position.SignatureDebugTest;
+import com.example.openapi.utils.HashexApiUtils;
+import com.example.openapi.utils.Signer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * 请求签名 基准测试
+ * <p>
+ * 先校验 {@link Signer} 与网关签名逻辑（{@link SignatureDebugTest#gatewayGenerateSignature}）结果一致，
+ * 再对比每次签名的平均耗时和分配字节数：原有 {@link HashexApiUtils#generateSignature}（每次新建Mac）与 {@link Signer}。
+ */
+public class SignerBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(SignerBenchmark.class);
+
+    private static final String ACCESS_KEY = "0a9970e8986247d6e6d5deadc886a4e558c0a1c4f2047c2a00bc96e2efd24499";
+    private static final String SECRET_KEY = "dd89a125f1ebac8c93b4c3e3c7a1a1a6c8b5e8d4f7c6b5a4e3d2c1b0a9f8e7d6";
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private interface SignTask {
+        String sign(TreeMap<String, String> params, String timestamp);
+    }
+
+    private static TreeMap<String, String> orderParams() {
+        TreeMap<String, String> params = new TreeMap<>();
+        params.put("symbol", "btc_usdt");
+        params.put("direction", "BUY");
+        params.put("tradeType", "LIMIT");
+        params.put("totalAmount", "0.0015");
+        params.put("price", "65432.10");
+        params.put("clientOrderId", "bench-000000000001");
+        return params;
+    }
+
+    private static void verify(Signer signer) {
+        String timestamp = "1700000000000";
+        TreeMap<String, String> empty = new TreeMap<>();
+        TreeMap<String, String> unicode = new TreeMap<>();
+        unicode.put("remark", "中文备注");
+        unicode.put("symbol", "btc_usdt");
+        for (TreeMap<String, String> params : Arrays.asList(orderParams(), empty, unicode)) {
+            String expected = SignatureDebugTest.gatewayGenerateSignature(SECRET_KEY, params, timestamp);
+            if (!expected.equals(signer.sign(params, timestamp))
+                    || !expected.equals(HashexApiUtils.generateSignature(SECRET_KEY, params, timestamp))) {
+                throw new IllegalStateException("签名与网关不一致, 参数: " + params);
+            }
+        }
+        log.info("签名结果与网关一致");
+    }
+
+    private static void run(String name, SignTask signTask) throws Exception {
+        TreeMap<String, String> params = orderParams();
+        String timestamp = "1700000000000";
+        BenchmarkSupport.Task task = i -> {
+            if (signTask.sign(params, timestamp).length() != 64) {
+                throw new IllegalStateException("签名长度不正确");
+            }
+        };
+        BenchmarkSupport.allocatedBytesPerCall(WARMUP, task);
+        long start = System.nanoTime();
+        long bytes = BenchmarkSupport.allocatedBytesPerCall(ITERATIONS, task);
+        double nanos = (double) (System.nanoTime() - start) / ITERATIONS;
+        log.info("{}: 平均耗时 {} ns, 每次分配 {} B", name, String.format("%.0f", nanos), bytes);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        Signer signer = new Signer(ACCESS_KEY, SECRET_KEY);
+        verify(signer);
+        log.info("===== 6个参数的下单请求签名, 调用次数: {} =====", ITERATIONS);
+        run("HashexApiUtils.generateSignature", (params, timestamp) ->
+                HashexApiUtils.generateSignature(SECRET_KEY, params, timestamp));
+        run("Signer.sign", signer::sign);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.openapi.test.benchmark;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import com.example.openapi.client.codec.JsonCodec;
+import com.example.openapi.test.ApiResponse;
+import com.example.openapi.test.ApiResponseCodec;
+import com.example.openapi.test.spot.query.AllTickersQueryTest.TickerVO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 编译期生成的VO编解码器 基准测试
+ * <p>
+ * 启动耗时：每种方式各启动若干个新JVM，先完成日志和 ObjectMapper 等公共初始化，再测量第一次解码的耗时
+ * （包含VO及解码器的类加载和 Jackson databind 的反射内省），取中位数。
+ * 吞吐量：对2000个交易对的全量行情响应，对比Hutool解析、Jackson ObjectReader 和生成的编解码器
+ * 每次调用的分配字节数、耗时和吞吐量。只测量解码，不经过网络。
+ */
+public class VoCodecBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(VoCodecBenchmark.class);
+
+    private static final int TICKERS = 2_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+    private static final int STARTUP_RUNS = 7;
+    private static final String STARTUP_PREFIX = "STARTUP_NANOS=";
+
+    private static final TypeReference<ApiResponse<List<TickerVO>>> TICKERS_TYPE =
+            new TypeReference<ApiResponse<List<TickerVO>>>() {};
+
+    private interface Decoder {
+        int decode(String json) throws Exception;
+    }
+
+    private static int hutool(String json) {
+        JSONArray dataArray = JSONUtil.parseObj(json).getJSONArray("data");
+        List<TickerVO> tickers = new ArrayList<>(dataArray.size());
+        for (int i = 0; i < dataArray.size(); i++) {
+            tickers.add(JSONUtil.toBean((JSONObject) dataArray.get(i), TickerVO.class));
+        }
+        return tickers.size();
+    }
+
+    /**
+     * 子进程入口：只做一次解码并输出耗时
+     */
+    private static void startupChild(String mode) throws Exception {
+        String json = ResponseDecodeBenchmark.tickersJson(TICKERS);
+        log.debug("公共初始化: {}", JsonCodec.mapper().version());
+        long start = System.nanoTime();
+        ApiResponse<List<TickerVO>> response;
+        if ("databind".equals(mode)) {
+            ObjectReader reader = JsonCodec.reader(JsonCodec.type(TICKERS_TYPE));
+            response = reader.readValue(json);
+        } else {
+            response = ApiResponseCodec.listOf(TickerVO.class).decode(json);
+        }
+        long nanos = System.nanoTime() - start;
+        if (response.getData().size() != TICKERS) {
+            throw new IllegalStateException("解码结果数量不正确");
+        }
+        System.out.println(STARTUP_PREFIX + nanos);
+    }
+
+    private static long startupNanos(String mode) throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                VoCodecBenchmark.class.getName(), "startup", mode)
+                .redirectErrorStream(true)
+                .start();
+        long nanos = -1;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(STARTUP_PREFIX)) {
+                    nanos = Long.parseLong(line.substring(STARTUP_PREFIX.length()));
+                }
+            }
+        }
+        if (process.waitFor() != 0 || nanos < 0) {
+            throw new IllegalStateException("子进程执行失败: " + mode);
+        }
+        return nanos;
+    }
+
+    private static void startup(String name, String mode) throws Exception {
+        long[] samples = new long[STARTUP_RUNS];
+        for (int i = 0; i < STARTUP_RUNS; i++) {
+            samples[i] = startupNanos(mode);
+        }
+        Arrays.sort(samples);
+        log.info("{}: 首次解码耗时中位数 {} ms (最小 {} ms, 最大 {} ms)", name,
+                String.format("%.1f", samples[STARTUP_RUNS / 2] / 1_000_000.0),
+                String.format("%.1f", samples[0] / 1_000_000.0),
+                String.format("%.1f", samples[STARTUP_RUNS - 1] / 1_000_000.0));
+    }
+
+    private static void run(String name, String json, Decoder decoder) throws Exception {
+        BenchmarkSupport.Task task = i -> {
+            if (decoder.decode(json) != TICKERS) {
+                throw new IllegalStateException("解码结果数量不正确");
+            }
+        };
+        BenchmarkSupport.allocatedBytesPerCall(WARMUP, task);
+        long start = System.nanoTime();
+        long bytes = BenchmarkSupport.allocatedBytesPerCall(ITERATIONS, task);
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        log.info("{}: 每次调用分配 {} KB, 平均耗时 {} ms, 吞吐量 {} 次/秒", name, bytes / 1024,
+                String.format("%.3f", millis), String.format("%.1f", 1000 / millis));
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && "startup".equals(args[0])) {
+            startupChild(args[1]);
+            return;
+        }
+        BenchmarkSupport.quietLogging();
+        log.info("===== 启动耗时, 每种方式 {} 个新JVM =====", STARTUP_RUNS);
+        startup("Jackson databind", "databind");
+        startup("生成的编解码器", "codec");
+
+        String payload = ResponseDecodeBenchmark.tickersJson(TICKERS);
+        log.info("===== 全量行情 {} 个交易对, 响应体 {} KB, 调用次数: {} =====", TICKERS, payload.length() / 1024, ITERATIONS);
+        ObjectReader reader = JsonCodec.reader(JsonCodec.type(TICKERS_TYPE));
+        ApiResponseCodec<List<TickerVO>> codec = ApiResponseCodec.listOf(TickerVO.class);
+        run("Hutool解析", payload, VoCodecBenchmark::hutool);
+        run("Jackson ObjectReader", payload, json -> reader.<ApiResponse<List<TickerVO>>>readValue(json).getData().size());
+        run("生成的编解码器", payload, json -> codec.decode(json).getData().size());
+    }
+}
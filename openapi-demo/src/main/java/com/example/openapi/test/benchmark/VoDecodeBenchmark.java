@@ -0,0 +1,192 @@
+package com.example.openapi.test.benchmark;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import com.example.openapi.test.future.order.BalanceBillsTest;
+import com.example.openapi.test.future.order.BalanceBillsTest.BalanceBillVO;
+import com.example.openapi.test.future.order.OrderListTest;
+import com.example.openapi.test.future.order.OrderListTest.FutureOrderVO;
+import com.example.openapi.test.spot.order.OrderHistoryQueryTest;
+import com.example.openapi.test.spot.order.OrderHistoryQueryTest.OrderVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 订单/账单分页解码 基准测试
+ * <p>
+ * 对1千、1万条记录的分页响应，对比原有的Hutool JSON树解析与 {@link com.example.openapi.client.codec.JsonStreams}
+ * 流式解码每次调用的分配字节数、耗时和吞吐量。只测量解码，不经过网络。
+ * Hutool一侧按各接口原有的解析代码实现：合约订单和资金账单逐字段 getStr，现货历史订单逐条 toBean。
+ */
+public class VoDecodeBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(VoDecodeBenchmark.class);
+
+    private static final int[] PAGE_SIZES = {1_000, 10_000};
+    /** 每种分页大小的目标解码条数，分页越大迭代次数越少 */
+    private static final int TARGET_ITEMS = 500_000;
+
+    private interface Decoder {
+        int decode(String json) throws Exception;
+    }
+
+    static String futureOrdersJson(int count) {
+        StringBuilder json = new StringBuilder(count * 512)
+                .append("{\"code\":0,\"msg\":\"success\",\"data\":{\"page\":1,\"ps\":").append(count)
+                .append(",\"total\":").append(count).append(",\"items\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"orderId\":\"").append(480000000000000000L + i).append('"')
+                    .append(",\"clientOrderId\":null,\"symbol\":\"btc_usdt\",\"contractType\":\"PERPETUAL\"")
+                    .append(",\"orderType\":\"LIMIT\",\"orderSide\":\"BUY\",\"leverage\":20,\"positionSide\":\"LONG\"")
+                    .append(",\"timeInForce\":\"GTC\",\"closePosition\":false")
+                    .append(",\"price\":\"").append(60000 + i).append(".5\",\"origQty\":\"12\"")
+                    .append(",\"avgPrice\":\"").append(60000 + i).append(".5\",\"executedQty\":\"12\"")
+                    .append(",\"marginFrozen\":\"3.61\",\"triggerProfitPrice\":null,\"triggerStopPrice\":null")
+                    .append(",\"sourceId\":null,\"forceClose\":false,\"tradeFee\":\"0.0421\",\"closeProfit\":\"0\"")
+                    .append(",\"state\":\"FILLED\",\"createdTime\":").append(1700000000000L + i)
+                    .append(",\"updatedTime\":").append(1700000000500L + i).append('}');
+        }
+        return json.append("]}}").toString();
+    }
+
+    static String balanceBillsJson(int count) {
+        StringBuilder json = new StringBuilder(count * 256)
+                .append("{\"code\":0,\"msg\":\"success\",\"data\":{\"hasPrev\":false,\"hasNext\":true,\"items\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"").append(500000000000000000L + i).append('"')
+                    .append(",\"coin\":\"usdt\",\"balanceType\":\"FUTURE\",\"symbol\":\"btc_usdt\"")
+                    .append(",\"positionId\":").append(490000000000000000L + i)
+                    .append(",\"type\":\"FEE\",\"amount\":\"-0.0421\",\"side\":\"SUB\"")
+                    .append(",\"afterAmount\":\"").append(10000 + i).append(".1234\"")
+                    .append(",\"createdTime\":").append(1700000000000L + i).append('}');
+        }
+        return json.append("]}}").toString();
+    }
+
+    static String spotHistoryJson(int count) {
+        StringBuilder json = new StringBuilder(count * 384)
+                .append("{\"code\":0,\"msg\":\"success\",\"data\":{\"hasPrev\":false,\"hasNext\":true,\"items\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"orderId\":").append(470000000000000000L + i)
+                    .append(",\"clientOrderId\":\"c").append(i).append("\",\"symbol\":\"BTC_USDT\"")
+                    .append(",\"orderType\":\"LIMIT\",\"orderSide\":\"SELL\",\"balanceType\":1,\"timeInForce\":\"GTC\"")
+                    .append(",\"price\":\"").append(60000 + i).append(".5\",\"origQty\":\"0.01\"")
+                    .append(",\"avgPrice\":\"0\",\"executedQty\":\"0\",\"marginFrozen\":\"0.01\"")
+                    .append(",\"state\":\"CANCELED\",\"createdTime\":").append(1700000000000L + i)
+                    .append(",\"sourceId\":null,\"forceClose\":null}");
+        }
+        return json.append("]}}").toString();
+    }
+
+    private static int hutoolFutureOrders(String json) {
+        JSONObject dataObj = JSONUtil.parseObj(json).getJSONObject("data");
+        JSONArray itemsArray = dataObj.getJSONArray("items");
+        List<FutureOrderVO> orderList = new ArrayList<>();
+        for (int i = 0; i < itemsArray.size(); i++) {
+            JSONObject item = itemsArray.getJSONObject(i);
+            FutureOrderVO order = new FutureOrderVO();
+            order.setOrderId(item.getStr("orderId"));
+            order.setSymbol(item.getStr("symbol"));
+            order.setContractType(item.getStr("contractType"));
+            order.setOrderType(item.getStr("orderType"));
+            order.setOrderSide(item.getStr("orderSide"));
+            order.setLeverage(item.getInt("leverage"));
+            order.setPositionSide(item.getStr("positionSide"));
+            order.setClosePosition(item.getBool("closePosition"));
+            order.setPrice(item.getStr("price"));
+            order.setOrigQty(item.getStr("origQty"));
+            order.setAvgPrice(item.getStr("avgPrice"));
+            order.setExecutedQty(item.getStr("executedQty"));
+            order.setMarginFrozen(item.getStr("marginFrozen"));
+            order.setTriggerProfitPrice(item.getStr("triggerProfitPrice"));
+            order.setTriggerStopPrice(item.getStr("triggerStopPrice"));
+            order.setSourceId(item.getStr("sourceId"));
+            order.setForceClose(item.getBool("forceClose"));
+            order.setTradeFee(item.getStr("tradeFee"));
+            order.setCloseProfit(item.getStr("closeProfit"));
+            order.setState(item.getStr("state"));
+            order.setCreatedTime(item.getLong("createdTime"));
+            order.setUpdatedTime(item.getLong("updatedTime"));
+            orderList.add(order);
+        }
+        return orderList.size();
+    }
+
+    private static int hutoolBalanceBills(String json) {
+        JSONArray itemsArray = JSONUtil.parseObj(json).getJSONObject("data").getJSONArray("items");
+        List<BalanceBillVO> billList = new ArrayList<>();
+        for (int i = 0; i < itemsArray.size(); i++) {
+            JSONObject item = itemsArray.getJSONObject(i);
+            BalanceBillVO bill = new BalanceBillVO();
+            bill.setId(item.getStr("id"));
+            bill.setCoin(item.getStr("coin"));
+            bill.setBalanceType(item.getStr("balanceType"));
+            bill.setSymbol(item.getStr("symbol"));
+            bill.setPositionId(item.getLong("positionId"));
+            bill.setType(item.getStr("type"));
+            bill.setAmount(item.getStr("amount"));
+            bill.setSide(item.getStr("side"));
+            bill.setAfterAmount(item.getStr("afterAmount"));
+            bill.setCreatedTime(item.getLong("createdTime"));
+            billList.add(bill);
+        }
+        return billList.size();
+    }
+
+    private static int hutoolSpotHistory(String json) {
+        List<OrderVO> orderList = new ArrayList<>();
+        for (Object item : JSONUtil.parseObj(json).getJSONObject("data").getJSONArray("items")) {
+            orderList.add(JSONUtil.toBean((JSONObject) item, OrderVO.class));
+        }
+        return orderList.size();
+    }
+
+    private static void run(String name, String json, int count, Decoder decoder) throws Exception {
+        int iterations = Math.max(10, TARGET_ITEMS / count);
+        BenchmarkSupport.Task task = i -> {
+            if (decoder.decode(json) != count) {
+                throw new IllegalStateException("解码结果数量不正确");
+            }
+        };
+        BenchmarkSupport.allocatedBytesPerCall(Math.max(5, iterations / 4), task);
+        long start = System.nanoTime();
+        long bytes = BenchmarkSupport.allocatedBytesPerCall(iterations, task);
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / iterations;
+        log.info("{}: 每次调用分配 {} KB, 平均耗时 {} ms, 吞吐量 {} 次/秒", name, bytes / 1024,
+                String.format("%.3f", millis), String.format("%.1f", 1000 / millis));
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.quietLogging();
+        for (int count : PAGE_SIZES) {
+            String orders = futureOrdersJson(count);
+            log.info("===== 合约订单列表 {} 条, 响应体 {} KB =====", count, orders.length() / 1024);
+            run("Hutool解析", orders, count, VoDecodeBenchmark::hutoolFutureOrders);
+            run("Jackson流式解码", orders, count, json -> OrderListTest.parseOrderList(json).getList().size());
+
+            String bills = balanceBillsJson(count);
+            log.info("===== 资金账单 {} 条, 响应体 {} KB =====", count, bills.length() / 1024);
+            run("Hutool解析", bills, count, VoDecodeBenchmark::hutoolBalanceBills);
+            run("Jackson流式解码", bills, count, json -> BalanceBillsTest.parseBalanceBills(json).getList().size());
+
+            String history = spotHistoryJson(count);
+            log.info("===== 现货历史订单 {} 条, 响应体 {} KB =====", count, history.length() / 1024);
+            run("Hutool解析", history, count, VoDecodeBenchmark::hutoolSpotHistory);
+            run("Jackson流式解码", history, count,
+                    json -> OrderHistoryQueryTest.parseHistoryOrders(json).getList().size());
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.openapi.test.future.order;
 
-import cn.hutool.json.JSONArray;
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.codec.JsonStreams;
+import com.example.openapi.client.codec.VoCodec;
+import com.example.openapi.client.codec.VoCodecs;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +28,7 @@ public class BalanceBillsTest {
             "id", "coin", "balanceType", "symbol", "positionId",
             "type", "amount", "side", "afterAmount", "createdTime"
     };
+    private static final VoCodec<BalanceBillVO> BILL_CODEC = VoCodecs.get(BalanceBillVO.class);
     private static ApiClient apiClient;
 
     /**
@@ -67,45 +70,10 @@ public class BalanceBillsTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/balance/bills", queryParams, true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_BALANCE_BILLS, queryParams);
 
-            // 解析响应JSON
-            JSONObject jsonObject = JSONUtil.parseObj(responseJson);
-            if (jsonObject.getInt("code") != 0) {
-                throw new HashExApiException("查询资金账单失败: " + jsonObject.getStr("msg"));
-            }
-
-            JSONObject dataObj = jsonObject.getJSONObject("data");
-            validateDataFields(dataObj);
-            CursorPageResult<BalanceBillVO> pageResult = new CursorPageResult<>();
-            pageResult.setHasPrev(dataObj.getBool("hasPrev"));
-            pageResult.setHasNext(dataObj.getBool("hasNext"));
-
-            // 解析账单列表
-            JSONArray itemsArray = dataObj.getJSONArray("items");
-            List<BalanceBillVO> billList = new ArrayList<>();
-
-            if (itemsArray != null && !itemsArray.isEmpty()) {
-                for (int i = 0; i < itemsArray.size(); i++) {
-                    JSONObject item = itemsArray.getJSONObject(i);
-                    validateItemFields(item);
-                    BalanceBillVO bill = new BalanceBillVO();
-                    bill.setId(item.getStr("id"));
-                    bill.setCoin(item.getStr("coin"));
-                    bill.setBalanceType(item.getStr("balanceType"));
-                    bill.setSymbol(item.getStr("symbol"));
-                    bill.setPositionId(item.getLong("positionId"));
-                    bill.setType(item.getStr("type"));
-                    bill.setAmount(item.getStr("amount"));
-                    bill.setSide(item.getStr("side"));
-                    bill.setAfterAmount(item.getStr("afterAmount"));
-                    bill.setCreatedTime(item.getLong("createdTime"));
-                    billList.add(bill);
-                }
-            }
-
-            pageResult.setList(billList);
-            return pageResult;
+            // 流式解析响应JSON
+            return parseBalanceBills(responseJson);
 
         } catch (Exception e) {
             if (e instanceof HashExApiException) {
@@ -115,21 +83,63 @@ public class BalanceBillsTest {
         }
     }
 
-    private void validateDataFields(JSONObject dataObj) throws HashExApiException {
-        if (dataObj == null) {
+    /**
+     * 流式解析资金账单响应，账单由编译期生成的编解码器直接填充 {@link BalanceBillVO}，不构建中间JSON树
+     * <p>
+     * 同时校验data及每条账单的必需字段，值为null视为缺少。
+     *
+     * @param responseJson 响应文本
+     * @return 游标分页结果
+     * @throws HashExApiException 响应code不为0、格式错误或缺少必需字段
+     */
+    public static CursorPageResult<BalanceBillVO> parseBalanceBills(String responseJson) throws HashExApiException {
+        CursorPageResult<BalanceBillVO> pageResult = JsonStreams.readData(responseJson, "查询资金账单",
+                CursorPageResult::new, (page, field, parser) -> {
+                    switch (field) {
+                        case "hasPrev":
+                            page.setHasPrev(JsonStreams.boolValue(parser));
+                            return true;
+                        case "hasNext":
+                            page.setHasNext(JsonStreams.boolValue(parser));
+                            return true;
+                        case "items":
+                            List<BalanceBillVO> items = VoCodecs.readList(parser, BILL_CODEC);
+                            page.setList(items != null ? items : new ArrayList<>());
+                            return true;
+                        default:
+                            return false;
+                    }
+                });
+        validateDataFields(pageResult);
+        for (BalanceBillVO bill : pageResult.getList()) {
+            validateItemFields(bill);
+        }
+        return pageResult;
+    }
+
+    private static void validateDataFields(CursorPageResult<BalanceBillVO> pageResult) throws HashExApiException {
+        if (pageResult == null) {
             throw new HashExApiException("资金账单响应data为空");
         }
-        for (String field : REQUIRED_DATA_FIELDS) {
-            if (!dataObj.containsKey(field)) {
-                throw new HashExApiException("资金账单响应缺少字段: " + field);
-            }
+        if (pageResult.getHasPrev() == null) {
+            throw new HashExApiException("资金账单响应缺少字段: " + REQUIRED_DATA_FIELDS[0]);
+        }
+        if (pageResult.getHasNext() == null) {
+            throw new HashExApiException("资金账单响应缺少字段: " + REQUIRED_DATA_FIELDS[1]);
+        }
+        if (pageResult.getList() == null) {
+            throw new HashExApiException("资金账单响应缺少字段: " + REQUIRED_DATA_FIELDS[2]);
         }
     }
 
-    private void validateItemFields(JSONObject item) throws HashExApiException {
-        for (String field : REQUIRED_ITEM_FIELDS) {
-            if (!item.containsKey(field)) {
-                throw new HashExApiException("资金账单item缺少字段: " + field + ", item=" + item);
+    private static void validateItemFields(BalanceBillVO bill) throws HashExApiException {
+        Object[] values = bill == null ? null : new Object[]{
+                bill.getId(), bill.getCoin(), bill.getBalanceType(), bill.getSymbol(), bill.getPositionId(),
+                bill.getType(), bill.getAmount(), bill.getSide(), bill.getAfterAmount(), bill.getCreatedTime()
+        };
+        for (int i = 0; i < REQUIRED_ITEM_FIELDS.length; i++) {
+            if (values == null || values[i] == null) {
+                throw new HashExApiException("资金账单item缺少字段: " + REQUIRED_ITEM_FIELDS[i] + ", item=" + bill);
             }
         }
     }
@@ -275,6 +285,7 @@ public class BalanceBillsTest {
     /**
      * 资金账单VO
      */
+    @GenerateCodec
     public static class BalanceBillVO {
         private String id;              // 账单ID
         private String coin;            // 币种
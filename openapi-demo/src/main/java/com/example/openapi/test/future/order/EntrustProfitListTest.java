@@ -4,7 +4,9 @@ import cn.hutool.json.JSONArray;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -68,7 +70,7 @@ public class EntrustProfitListTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/entrust/profit-list", queryParams, true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_ENTRUST_PROFIT_LIST, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = JSONUtil.parseObj(responseJson);
@@ -276,6 +278,7 @@ public class EntrustProfitListTest {
     /**
      * 止盈止损委托VO
      */
+    @GenerateCodec
     public static class ProfitEntrustVO {
         private String profitId;            // 委托ID
         private String positionId;          // 持仓ID
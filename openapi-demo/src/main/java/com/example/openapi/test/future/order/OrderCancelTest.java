@@ -3,6 +3,7 @@ package com.example.openapi.test.future.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
@@ -39,7 +40,7 @@ public class OrderCancelTest {
             queryParams.put("orderId", orderId.toString());
 
             // 调用API
-            String responseJson = apiClient.sendPostRequest("/fut/v1/order/cancel", queryParams);
+            String responseJson = apiClient.sendPostRequest(Endpoint.FUTURES_ORDER_CANCEL, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
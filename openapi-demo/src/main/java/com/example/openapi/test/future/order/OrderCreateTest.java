@@ -3,8 +3,10 @@ package com.example.openapi.test.future.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.ApiResponse;
+import com.example.openapi.test.ApiResponseCodec;
 import com.example.openapi.test.future.FutureTestConfig;
 import com.example.openapi.test.future.query.SymbolDetailTest;
 import org.slf4j.Logger;
@@ -13,12 +15,17 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.TreeMap;
+import java.util.function.Function;
 
 public class OrderCreateTest {
 
     private static final Logger log = LoggerFactory.getLogger(OrderCreateTest.class);
     private static ApiClient apiClient;
 
+    // 币对详情解码函数，使用同一实例以便并发下单时共享同一次请求及解析结果
+    private static final Function<String, ApiResponse<SymbolDetailTest.SymbolDetailVO>> SYMBOL_DETAIL_DECODER =
+            ApiResponseCodec.of(SymbolDetailTest.SymbolDetailVO.class);
+
     public OrderCreateTest() {
         // 默认构造函数
     }
@@ -34,11 +41,8 @@ public class OrderCreateTest {
             TreeMap<String, String> queryParams = new TreeMap<>();
             queryParams.put("symbol", symbol);
 
-            String responseJson = apiClient.sendGetRequest("/fut/v1/public/symbol/detail", queryParams, false);
-            JSONObject jsonObject = new JSONObject(responseJson);
-
-            ApiResponse<SymbolDetailTest.SymbolDetailVO> apiResponse = JSONUtil.toBean(jsonObject,
-                    new cn.hutool.core.lang.TypeReference<ApiResponse<SymbolDetailTest.SymbolDetailVO>>() {}, false);
+            ApiResponse<SymbolDetailTest.SymbolDetailVO> apiResponse = apiClient.sendGetRequest(
+                    Endpoint.FUTURES_SYMBOL_DETAIL, queryParams, SYMBOL_DETAIL_DECODER);
 
             if (apiResponse.getCode() != 0) {
                 throw new HashExApiException("获取币对详情失败: " + apiResponse.getMsg());
@@ -119,7 +123,7 @@ public class OrderCreateTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendPostRequest("/fut/v1/order/create", queryParams);
+            String responseJson = apiClient.sendPostRequest(Endpoint.FUTURES_ORDER_CREATE, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -3,7 +3,9 @@ package com.example.openapi.test.future.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -41,7 +43,7 @@ public class OrderDetailTest {
             queryParams.put("orderId", orderId);
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/order/detail", queryParams, true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_ORDER_DETAIL, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -132,6 +134,7 @@ public class OrderDetailTest {
     /**
      * 订单详情VO
      */
+    @GenerateCodec
     public static class OrderVO {
         private String orderId;              // 订单ID
         private String symbol;             // 交易对
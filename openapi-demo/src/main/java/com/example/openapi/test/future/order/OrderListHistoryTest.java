@@ -4,7 +4,9 @@ import cn.hutool.json.JSONArray;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,7 +73,7 @@ public class OrderListHistoryTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/order/list-history", queryParams, true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_ORDER_LIST_HISTORY, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = JSONUtil.parseObj(responseJson);
@@ -290,6 +292,7 @@ public class OrderListHistoryTest {
     /**
      * 历史订单VO
      */
+    @GenerateCodec
     public static class HistoryOrderVO {
         private String orderId;
         private String clientOrderId;
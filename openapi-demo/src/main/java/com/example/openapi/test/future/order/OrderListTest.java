@@ -1,10 +1,12 @@
 package com.example.openapi.test.future.order;
 
-import cn.hutool.json.JSONArray;
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.codec.JsonStreams;
+import com.example.openapi.client.codec.VoCodec;
+import com.example.openapi.client.codec.VoCodecs;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +27,7 @@ import java.util.TreeMap;
 public class OrderListTest {
 
     private static final Logger log = LoggerFactory.getLogger(OrderListTest.class);
+    private static final VoCodec<FutureOrderVO> ORDER_CODEC = VoCodecs.get(FutureOrderVO.class);
     private static ApiClient apiClient;
 
     private static final String STATE_UNFINISHED = "UNFINISHED";
@@ -88,60 +91,22 @@ public class OrderListTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/order/list", queryParams, true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_ORDER_LIST, queryParams);
 
-            // 解析响应JSON
-            JSONObject jsonObject = JSONUtil.parseObj(responseJson);
-            if (jsonObject.getInt("code") != 0) {
-                throw new HashExApiException("查询订单列表失败: " + jsonObject.getStr("msg"));
+            // 流式解析响应JSON
+            PageResult<FutureOrderVO> pageResult = parseOrderList(responseJson);
+            if (pageResult == null) {
+                throw new HashExApiException("查询订单列表失败: 响应data为空");
             }
 
-            JSONObject dataObj = jsonObject.getJSONObject("data");
-            PageResult<FutureOrderVO> pageResult = new PageResult<>();
-            pageResult.setPage(dataObj.getInt("page"));
-            pageResult.setSize(dataObj.getInt("ps"));
-            pageResult.setTotal(dataObj.getLong("total"));
-
             // 计算总页数
             int size = pageResult.getSize();
             long total = pageResult.getTotal();
             pageResult.setPages(size > 0 ? (int) Math.ceil((double) total / size) : 0);
 
-            // 解析订单列表
-            JSONArray itemsArray = dataObj.getJSONArray("items");
-            List<FutureOrderVO> orderList = new ArrayList<>();
-
-            if (itemsArray != null && !itemsArray.isEmpty()) {
-                for (int i = 0; i < itemsArray.size(); i++) {
-                    JSONObject item = itemsArray.getJSONObject(i);
-                    FutureOrderVO order = new FutureOrderVO();
-                    order.setOrderId(item.getStr("orderId"));
-                    order.setSymbol(item.getStr("symbol"));
-                    order.setContractType(item.getStr("contractType"));
-                    order.setOrderType(item.getStr("orderType"));
-                    order.setOrderSide(item.getStr("orderSide"));
-                    order.setLeverage(item.getInt("leverage"));
-                    order.setPositionSide(item.getStr("positionSide"));
-                    order.setClosePosition(item.getBool("closePosition"));
-                    order.setPrice(item.getStr("price"));
-                    order.setOrigQty(item.getStr("origQty"));
-                    order.setAvgPrice(item.getStr("avgPrice"));
-                    order.setExecutedQty(item.getStr("executedQty"));
-                    order.setMarginFrozen(item.getStr("marginFrozen"));
-                    order.setTriggerProfitPrice(item.getStr("triggerProfitPrice"));
-                    order.setTriggerStopPrice(item.getStr("triggerStopPrice"));
-                    order.setSourceId(item.getStr("sourceId"));
-                    order.setForceClose(item.getBool("forceClose"));
-                    order.setTradeFee(item.getStr("tradeFee"));
-                    order.setCloseProfit(item.getStr("closeProfit"));
-                    order.setState(item.getStr("state"));
-                    order.setCreatedTime(item.getLong("createdTime"));
-                    order.setUpdatedTime(item.getLong("updatedTime"));
-                    orderList.add(order);
-                }
+            if (pageResult.getList() == null) {
+                pageResult.setList(new ArrayList<>());
             }
-
-            pageResult.setList(orderList);
             return pageResult;
 
         } catch (Exception e) {
@@ -152,6 +117,35 @@ public class OrderListTest {
         }
     }
 
+    /**
+     * 流式解析订单列表响应，订单由编译期生成的编解码器直接填充 {@link FutureOrderVO}，不构建中间JSON树
+     *
+     * @param responseJson 响应文本
+     * @return 分页结果（未计算总页数），data为空时返回空
+     * @throws HashExApiException 响应code不为0或格式错误
+     */
+    public static PageResult<FutureOrderVO> parseOrderList(String responseJson) throws HashExApiException {
+        return JsonStreams.readData(responseJson, "查询订单列表", PageResult::new, (page, field, parser) -> {
+            switch (field) {
+                case "page":
+                    page.setPage(JsonStreams.intValue(parser));
+                    return true;
+                case "ps":
+                    page.setSize(JsonStreams.intValue(parser));
+                    return true;
+                case "total":
+                    page.setTotal(JsonStreams.longValue(parser));
+                    return true;
+                case "items":
+                    List<FutureOrderVO> items = VoCodecs.readList(parser, ORDER_CODEC);
+                    page.setList(items != null ? items : new ArrayList<>());
+                    return true;
+                default:
+                    return false;
+            }
+        });
+    }
+
     /**
      * 测试查询所有未完成订单
      */
@@ -332,6 +326,7 @@ public class OrderListTest {
     /**
      * 合约订单VO
      */
+    @GenerateCodec
     public static class FutureOrderVO {
         private String orderId;             // 订单ID
         private String symbol;              // 交易对
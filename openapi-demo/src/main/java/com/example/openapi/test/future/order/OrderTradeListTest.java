@@ -1,11 +1,12 @@
 package com.example.openapi.test.future.order;
 
-import cn.hutool.json.JSONArray;
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
-import com.example.openapi.test.ApiResponse;
+import com.example.openapi.client.codec.JsonStreams;
+import com.example.openapi.client.codec.VoCodec;
+import com.example.openapi.client.codec.VoCodecs;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +23,7 @@ import java.util.TreeMap;
 public class OrderTradeListTest {
 
     private static final Logger log = LoggerFactory.getLogger(OrderTradeListTest.class);
+    private static final VoCodec<OrderTradeVO> TRADE_CODEC = VoCodecs.get(OrderTradeVO.class);
     private static ApiClient apiClient;
 
     /**
@@ -60,58 +62,17 @@ public class OrderTradeListTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/order/trade-list", queryParams, true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_ORDER_TRADE_LIST, queryParams);
 
-            // 解析响应JSON
-            JSONObject jsonObject = JSONUtil.parseObj(responseJson);
-            ApiResponse<JSONObject> apiResponse = JSONUtil.toBean(jsonObject,
-                    new cn.hutool.core.lang.TypeReference<ApiResponse<JSONObject>>() {}, false);
-
-            if (apiResponse.getCode() != 0) {
-                throw new HashExApiException("查询成交明细失败: " + apiResponse.getMsg());
-            }
-
-            // 解析数据部分
-            JSONObject data = apiResponse.getData();
-            if (data == null) {
+            // 流式解析响应JSON
+            PageResult<OrderTradeVO> result = parseTradeList(responseJson);
+            if (result == null) {
                 throw new HashExApiException("成交明细数据为空");
             }
 
-            // 创建分页结果对象
-            PageResult<OrderTradeVO> result = new PageResult<>();
-            result.setPage(data.getInt("page", 1));
-            result.setSize(data.getInt("ps", 10));
-            result.setTotal(data.getLong("total", 0L));
-
             // 计算总页数
             int pages = (int) Math.ceil((double) result.getTotal() / result.getSize());
             result.setPages(pages);
-
-            // 解析成交明细列表
-            JSONArray itemsArray = data.getJSONArray("items");
-            List<OrderTradeVO> tradeList = new ArrayList<>();
-
-            if (itemsArray != null && !itemsArray.isEmpty()) {
-                for (int i = 0; i < itemsArray.size(); i++) {
-                    JSONObject item = itemsArray.getJSONObject(i);
-                    OrderTradeVO tradeVO = new OrderTradeVO();
-
-                    tradeVO.setOrderId(item.getStr("orderId"));
-                    tradeVO.setExecId(item.getStr("execId"));
-                    tradeVO.setSymbol(item.getStr("symbol"));
-                    tradeVO.setOrderSide(item.getStr("orderSide"));
-                    tradeVO.setPositionSide(item.getStr("positionSide"));
-                    tradeVO.setQuantity(item.getStr("quantity"));
-                    tradeVO.setPrice(item.getStr("price"));
-                    tradeVO.setFee(item.getStr("fee"));
-                    tradeVO.setFeeCoin(item.getStr("feeCoin"));
-                    tradeVO.setTimestamp(item.getLong("timestamp"));
-
-                    tradeList.add(tradeVO);
-                }
-            }
-
-            result.setList(tradeList);
             return result;
 
         } catch (Exception e) {
@@ -122,6 +83,47 @@ public class OrderTradeListTest {
         }
     }
 
+    /**
+     * 流式解析成交明细响应，成交记录由编译期生成的编解码器直接填充 {@link OrderTradeVO}，不构建中间JSON树
+     * <p>
+     * 缺少分页字段时按第1页、每页10条、总数0处理。
+     *
+     * @param responseJson 响应文本
+     * @return 分页结果（未计算总页数），data为空时返回空
+     * @throws HashExApiException 响应code不为0或格式错误
+     */
+    public static PageResult<OrderTradeVO> parseTradeList(String responseJson) throws HashExApiException {
+        return JsonStreams.readData(responseJson, "查询成交明细", () -> {
+            PageResult<OrderTradeVO> page = new PageResult<>();
+            page.setPage(1);
+            page.setSize(10);
+            page.setTotal(0L);
+            page.setList(new ArrayList<>());
+            return page;
+        }, (page, field, parser) -> {
+            switch (field) {
+                case "page":
+                    Integer current = JsonStreams.intValue(parser);
+                    page.setPage(current != null ? current : 1);
+                    return true;
+                case "ps":
+                    Integer size = JsonStreams.intValue(parser);
+                    page.setSize(size != null ? size : 10);
+                    return true;
+                case "total":
+                    Long total = JsonStreams.longValue(parser);
+                    page.setTotal(total != null ? total : 0L);
+                    return true;
+                case "items":
+                    List<OrderTradeVO> items = VoCodecs.readList(parser, TRADE_CODEC);
+                    page.setList(items != null ? items : new ArrayList<>());
+                    return true;
+                default:
+                    return false;
+            }
+        });
+    }
+
     /**
      * 测试查询指定订单的成交明细
      */
@@ -225,6 +227,7 @@ public class OrderTradeListTest {
     /**
      * 成交明细VO
      */
+    @GenerateCodec
     public static class OrderTradeVO {
         private String orderId;       // 订单ID
         private String execId;        // 成交ID
@@ -3,7 +3,9 @@ package com.example.openapi.test.future.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -35,7 +37,7 @@ public class UserBalanceTest {
             }
 
             // 调用API（需要认证，所以第三个参数为true）
-            String responseJson = apiClient.sendGetRequest("/fut/v1/balance/list", queryParams, true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_BALANCE_LIST, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -93,6 +95,7 @@ public class UserBalanceTest {
     /**
      * 用户资金数据模型类 - 根据实际返回结构优化
      */
+    @GenerateCodec
     public static class BalanceVO {
         private String coin;                  // 币种
         private String balanceType;           // 资金类型
@@ -1,6 +1,7 @@
 package com.example.openapi.test.future.position;
 
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -41,7 +42,7 @@ public class AdjustLeverageTest {
         params.put("leverage", String.valueOf(leverage));
 
         log.info("===== 开始测试 adjust-leverage 接口 =====");
-        if (support.invokePost("/fut/v1/position/adjust-leverage", params, "调整杠杆倍数(adjust-leverage)")) {
+        if (support.invokePost(Endpoint.FUTURES_POSITION_ADJUST_LEVERAGE, params, "调整杠杆倍数(adjust-leverage)")) {
             log.info("✅ adjust-leverage 请求已发送，请根据返回内容确认业务结果");
         }
     }
@@ -1,6 +1,7 @@
 package com.example.openapi.test.future.position;
 
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -53,12 +54,12 @@ public class AdjustMarginTest {
         params.put("type", "ADD");
 
         log.info("===== 开始测试 margin 接口 =====");
-        if (support.invokePost("/fut/v1/position/margin", params, "增加逐仓保证金(margin)")) {
+        if (support.invokePost(Endpoint.FUTURES_POSITION_MARGIN, params, "增加逐仓保证金(margin)")) {
             log.info("✅ margin-ADD 请求已发送");
             try {
                 TreeMap<String, String> revertParams = new TreeMap<>(params);
                 revertParams.put("type", "SUB");
-                if (support.invokePost("/fut/v1/position/margin", revertParams, "回滚逐仓保证金(margin)")) {
+                if (support.invokePost(Endpoint.FUTURES_POSITION_MARGIN, revertParams, "回滚逐仓保证金(margin)")) {
                     log.info("✅ margin-SUB 回滚请求已发送");
                 }
             } catch (Exception ex) {
@@ -1,6 +1,7 @@
 package com.example.openapi.test.future.position;
 
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -40,7 +41,7 @@ public class ChangeTypeTest {
         String positionModel = activePosition.getPositionModel();
         params.put("positionModel", positionModel == null || positionModel.isEmpty() ? "AGGREGATION" : positionModel);
 
-        if (support.invokePost("/fut/v1/position/change-type", params, "修改仓位类型(change-type)")) {
+        if (support.invokePost(Endpoint.FUTURES_POSITION_CHANGE_TYPE, params, "修改仓位类型(change-type)")) {
             log.info("✅ change-type 请求已发送，请根据返回内容确认业务结果");
         }
     }
@@ -1,6 +1,7 @@
 package com.example.openapi.test.future.position;
 
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,7 +29,7 @@ public class CloseAllPositionTest {
         TreeMap<String, String> params = new TreeMap<>();
         params.put("symbol", "eth_usdt");
         params.put("contractType", "PERPETUAL");
-        if (support.invokePost("/fut/v1/position/close-all", params, "一键平仓(close-all)")) {
+        if (support.invokePost(Endpoint.FUTURES_POSITION_CLOSE_ALL, params, "一键平仓(close-all)")) {
             log.info("✅ close-all 请求已发送，请根据返回内容确认业务结果");
         }
     }
@@ -4,7 +4,9 @@ import cn.hutool.json.JSONArray;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,7 +42,7 @@ public class PositionConfsTest {
             }
             queryParams.put("symbol", symbol);
 
-            String responseJson = apiClient.sendGetRequest("/fut/v1/position/confs", queryParams, true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_POSITION_CONFS, queryParams);
 
             JSONObject jsonObject = JSONUtil.parseObj(responseJson);
             if (jsonObject.getInt("code") != 0) {
@@ -138,6 +140,7 @@ public class PositionConfsTest {
     /**
      * 持仓配置VO
      */
+    @GenerateCodec
     public static class PositionConfVO {
         private String symbol;              // 交易对
         private Integer leverage;           // 杠杆倍数
@@ -3,7 +3,9 @@ package com.example.openapi.test.future.position;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -43,7 +45,7 @@ public class PositionListTest {
                 queryParams.put("balanceType", balanceType);
             }
 
-            String responseJson = apiClient.sendGetRequest("/fut/v1/position/list", queryParams, true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_POSITION_LIST, queryParams);
 
             JSONObject jsonObject = new JSONObject(responseJson);
 
@@ -118,6 +120,7 @@ public class PositionListTest {
     /**
      * 持仓数据模型类
      */
+    @GenerateCodec
     public static class PositionVO {
         private String symbol;                  // 交易对
         private String positionId;              // 持仓ID
@@ -191,6 +194,7 @@ public class PositionListTest {
     /**
      * 止盈止损数据模型类
      */
+    @GenerateCodec
     public static class ProfitVO {
         private String profitId;            // 止盈止损ID
         private String profitPrice;         // 止盈价
@@ -1,11 +1,10 @@
 package com.example.openapi.test.future.position;
 
-import cn.hutool.core.lang.TypeReference;
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.ApiResponse;
+import com.example.openapi.test.ApiResponseCodec;
 import org.slf4j.Logger;
 
 import java.util.List;
@@ -16,6 +15,9 @@ import java.util.TreeMap;
  */
 class PositionOperationSupport {
 
+    private static final ApiResponseCodec<List<PositionListTest.PositionVO>> POSITIONS_CODEC =
+            ApiResponseCodec.listOf(PositionListTest.PositionVO.class);
+
     private final ApiClient apiClient;
     private final Logger log;
 
@@ -26,14 +28,12 @@ class PositionOperationSupport {
 
     PositionListTest.PositionVO loadActivePosition() throws HashExApiException {
         long startTime = System.currentTimeMillis();
-        String responseJson = apiClient.sendGetRequest("/fut/v1/position/list", new TreeMap<>(), true);
+        // 直接从响应流解码，失败响应不解码持仓数据
+        ApiResponse<List<PositionListTest.PositionVO>> apiResponse =
+                apiClient.getForObject(Endpoint.FUTURES_POSITION_LIST, new TreeMap<>(), POSITIONS_CODEC);
         long endTime = System.currentTimeMillis();
         log.info("获取持仓列表耗时: {} ms", endTime - startTime);
 
-        JSONObject jsonObject = JSONUtil.parseObj(responseJson);
-        ApiResponse<List<PositionListTest.PositionVO>> apiResponse = JSONUtil.toBean(jsonObject,
-                new TypeReference<ApiResponse<List<PositionListTest.PositionVO>>>() {}, false);
-
         if (apiResponse.getCode() != 0) {
             throw new HashExApiException("获取持仓失败: " + apiResponse.getMsg());
         }
@@ -50,7 +50,7 @@ class PositionOperationSupport {
         return position;
     }
 
-    boolean invokePost(String endpoint, TreeMap<String, String> params, String action) {
+    boolean invokePost(Endpoint endpoint, TreeMap<String, String> params, String action) {
         log.info("{}请求参数: {}", action, params);
         try {
             long startTime = System.currentTimeMillis();
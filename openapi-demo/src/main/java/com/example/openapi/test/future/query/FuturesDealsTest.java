@@ -3,7 +3,9 @@ package com.example.openapi.test.future.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -42,7 +44,7 @@ public class FuturesDealsTest {
             queryParams.put("num", num.toString());
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/public/q/deal", queryParams, false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_DEAL, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -97,6 +99,7 @@ public class FuturesDealsTest {
     /**
      * 合约成交数据模型类 - 按照实际返回结构修改
      */
+    @GenerateCodec
     public static class FuturesDealVO {
         private String s;      // 交易对
         private String p;      // 成交价格
@@ -3,7 +3,9 @@ package com.example.openapi.test.future.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -42,7 +44,7 @@ public class FuturesDepthTest {
             queryParams.put("level", level.toString());
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/public/q/depth", queryParams, false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_DEPTH, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -103,6 +105,7 @@ public class FuturesDepthTest {
     /**
      * 合约深度数据模型类
      */
+    @GenerateCodec
     public static class FuturesDepthVO {
         private String s;               // 交易对
         private Long t;                 // 时间戳
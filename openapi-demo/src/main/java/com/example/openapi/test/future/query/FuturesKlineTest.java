@@ -3,7 +3,9 @@ package com.example.openapi.test.future.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -62,7 +64,7 @@ public class FuturesKlineTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/public/q/kline", queryParams, false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_KLINE, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -116,6 +118,7 @@ public class FuturesKlineTest {
     /**
      * 合约K线数据模型类 - 根据实际API返回结构定义
      */
+    @GenerateCodec
     public static class FuturesKlineVO {
         private String s;      // 交易对
         private Long t;        // 时间戳
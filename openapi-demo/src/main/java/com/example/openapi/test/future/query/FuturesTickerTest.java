@@ -3,7 +3,9 @@ package com.example.openapi.test.future.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -38,7 +40,7 @@ public class FuturesTickerTest {
             queryParams.put("symbol", symbol);
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/public/q/ticker", queryParams, false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_TICKER, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -87,6 +89,7 @@ public class FuturesTickerTest {
     /**
      * 合约行情数据模型类 - 根据实际API返回结构定义
      */
+    @GenerateCodec
     public static class FuturesTickerVO {
         private String s;      // 交易对
         private String c;      // 最新价格
@@ -191,6 +194,7 @@ public class FuturesTickerTest {
         /**
          * 价格趋势数据VO类
          */
+        @GenerateCodec
         public static class TickerTrendVO {
             private List<TickerTrendItem> list;
 
@@ -218,6 +222,7 @@ public class FuturesTickerTest {
         /**
          * 价格趋势数据项类
          */
+        @GenerateCodec
         public static class TickerTrendItem {
             private Integer symbolId;
             private String symbol;
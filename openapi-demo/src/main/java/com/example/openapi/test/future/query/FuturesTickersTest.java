@@ -3,7 +3,9 @@ package com.example.openapi.test.future.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
 import org.slf4j.Logger;
@@ -31,7 +33,7 @@ public class FuturesTickersTest {
             TreeMap<String, String> queryParams = new TreeMap<>();
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/public/q/tickers", queryParams, false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_TICKERS, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -87,6 +89,7 @@ public class FuturesTickersTest {
     /**
      * 合约行情数据模型类 - 已根据API实际返回结构调整
      */
+    @GenerateCodec
     public static class FuturesTickerVO {
         private String s;      // 交易对
         private String c;      // 最新价格
@@ -197,6 +200,7 @@ public class FuturesTickersTest {
         }
     }
 
+    @GenerateCodec
     public static class TickerTrendVO {
         private List<TickerTrendItem> list;
 
@@ -221,6 +225,7 @@ public class FuturesTickersTest {
         }
     }
 
+    @GenerateCodec
     public static class TickerTrendItem {
         private Integer symbolId;
         private String symbol;
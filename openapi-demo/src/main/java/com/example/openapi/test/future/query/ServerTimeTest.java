@@ -3,6 +3,7 @@ package com.example.openapi.test.future.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
@@ -30,7 +31,7 @@ public class ServerTimeTest {
             TreeMap<String, String> queryParams = new TreeMap<>();
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/fut/v1/public/time", queryParams, false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_TIME, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -3,9 +3,13 @@ package com.example.openapi.test.future.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.FanOutExecutor;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.future.FutureTestConfig;
+import com.example.openapi.utils.SymbolPrecision;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +39,7 @@ public class SymbolDetailTest {
             }
 
             // 调用API（公共接口不需要认证，第三个参数为false）
-            String responseJson = apiClient.sendGetRequest("/fut/v1/public/symbol/detail", queryParams, false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.FUTURES_SYMBOL_DETAIL, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -57,6 +61,18 @@ public class SymbolDetailTest {
         }
     }
 
+    /**
+     * 并行获取多个交易对的配置信息
+     *
+     * @param symbols 交易对列表
+     * @param executor 扇出执行器（限制并发请求数）
+     * @return 与输入顺序一致的交易对配置信息
+     * @throws HashExApiException 任一交易对查询失败
+     */
+    public List<SymbolDetailVO> getSymbolDetails(List<String> symbols, FanOutExecutor executor) throws HashExApiException {
+        return executor.invokeAll(symbols, this::getSymbolDetail);
+    }
+
     /**
      * 测试获取交易对配置信息
      */
@@ -112,6 +128,25 @@ public class SymbolDetailTest {
         log.info("状态: {}", symbolDetail.getState());
     }
 
+    /**
+     * 测试并行获取多个交易对配置信息
+     */
+    private void testGetSymbolDetailsInParallel() throws HashExApiException {
+        log.info("===== 并行获取多个交易对配置信息测试 =====");
+
+        List<String> symbols = List.of("btc_usdt", "eth_usdt", "sol_usdt", "doge_usdt", "xrp_usdt");
+        try (FanOutExecutor executor = new FanOutExecutor(8)) {
+            long startTime = System.currentTimeMillis();
+            List<SymbolDetailVO> details = getSymbolDetails(symbols, executor);
+            log.info("并行获取 {} 个交易对配置耗时: {} ms (虚拟线程: {})",
+                    details.size(), System.currentTimeMillis() - startTime, executor.isVirtualThreads());
+            for (SymbolDetailVO detail : details) {
+                log.info("交易对: {}, 合约面值: {}, 价格精度: {}, 数量精度: {}", detail.getSymbol(),
+                        detail.getContractSize(), detail.getPricePrecision(), detail.getQuantityPrecision());
+            }
+        }
+    }
+
     public static void main(String[] args) throws HashExApiException {
         apiClient = new ApiClient(
             FutureTestConfig.BASE_URL,
@@ -120,11 +155,13 @@ public class SymbolDetailTest {
         SymbolDetailTest symbolTest = new SymbolDetailTest();
 
         symbolTest.testGetSymbolDetail();
+        // symbolTest.testGetSymbolDetailsInParallel();
     }
 
     /**
      * 交易对配置数据模型类
      */
+    @GenerateCodec
     public static class SymbolDetailVO {
         private Integer id;                      // 交易对唯一id
         private String symbol;                   // 交易对
@@ -304,6 +341,13 @@ public class SymbolDetailTest {
             this.pricePrecision = pricePrecision;
         }
 
+        /**
+         * 价格和数量精度，用于按精度解析和对齐 {@link com.example.openapi.utils.FixedDecimal}
+         */
+        public SymbolPrecision precision() {
+            return SymbolPrecision.of(pricePrecision, quantityPrecision);
+        }
+
         public String getSupportOrderType() {
             return supportOrderType;
         }
@@ -4,6 +4,7 @@ import cn.hutool.core.lang.Console;
 import cn.hutool.http.HttpRequest;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.test.future.FutureTestConfig;
 import com.example.openapi.utils.HashexApiUtils;
 import org.java_websocket.client.WebSocketClient;
@@ -64,7 +65,7 @@ public class FutureUserWebSocketTest {
     private static String getListenKey() {
         try {
             // 构建请求URL
-            String url = HOST + "/fut/v1/user/listen-key";
+            String url = HOST + Endpoint.FUTURES_USER_LISTEN_KEY.getPath();
 
             // 获取当前时间戳和随机数
             long timestamp = System.currentTimeMillis();
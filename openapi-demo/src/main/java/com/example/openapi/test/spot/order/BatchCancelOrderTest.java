@@ -3,6 +3,7 @@ package com.example.openapi.test.spot.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
@@ -42,7 +43,7 @@ public class BatchCancelOrderTest {
             params.put("orderIdsJson", orderIdsJson);
 
             // 调用API - 批量撤单
-            String responseJson = apiClient.sendPostRequest("/spot/v1/u/trade/order/batch/cancel", params);
+            String responseJson = apiClient.sendPostRequest(Endpoint.SPOT_ORDER_BATCH_CANCEL, params);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
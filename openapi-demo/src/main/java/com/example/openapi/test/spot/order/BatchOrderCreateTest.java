@@ -4,7 +4,10 @@ import cn.hutool.json.JSONArray;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.HashExApiConfig;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.resilience.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -89,7 +92,7 @@ public class BatchOrderCreateTest {
             queryParams.put("ordersJsonStr", ordersJsonStr);
 
             // 调用API
-            String responseJson = apiClient.sendPostRequest("/spot/v1/u/trade/order/batch/create", queryParams);
+            String responseJson = apiClient.sendPostRequest(Endpoint.SPOT_ORDER_BATCH_CREATE, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = JSONUtil.parseObj(responseJson);
@@ -197,9 +200,12 @@ public class BatchOrderCreateTest {
 
     public static void main(String[] args) throws HashExApiException {
         //替换自己的 accessKey 和 secretKey
-        apiClient = new ApiClient("https://open.mgbx.com",
+        HashExApiConfig config = new HashExApiConfig("https://open.mgbx.com",
                 "0a9970e8986247d6e6d5deadc886a4e558c0a1c4f2047c2a00bc96e2efd24499",
                 "dd89a125f1ebaa52e4dd0cff848424eb49e51526e2d585bfedfbc8d055a2b01a");
+        // 客户端限流，批量下单按权重消耗令牌，避免连续提交时触发服务端限频
+        config.setRateLimiter(RateLimiter.defaults());
+        apiClient = new ApiClient(config);
         BatchOrderCreateTest batchTest = new BatchOrderCreateTest();
 
         // 测试批量创建订单
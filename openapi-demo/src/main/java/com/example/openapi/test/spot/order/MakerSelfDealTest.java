@@ -3,6 +3,7 @@ package com.example.openapi.test.spot.maker;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
@@ -63,7 +64,7 @@ public class MakerSelfDealTest {
                     symbol, orderSide == ORDER_SIDE_BUY ? "买入" : "卖出", price, quantity);
 
             // 发送POST请求
-            String response = apiClient.sendPostRequest("/spot/v1/u/market/maker/selfDeal", params);
+            String response = apiClient.sendPostRequest(Endpoint.SPOT_MARKET_MAKER_SELF_DEAL, params);
             log.info("做市商自动交易响应: {}", response);
 
             // 解析响应
@@ -3,9 +3,11 @@ package com.example.openapi.test.spot.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.ApiResponse;
 import com.example.openapi.test.spot.query.DepthQueryTest;
+import com.example.openapi.utils.FixedDecimal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +32,9 @@ public class MakerSelfDealTest2 {
     private static final int ORDER_SIDE_BUY = 1;   // 买入
     private static final int ORDER_SIDE_SELL = 2;  // 卖出
 
+    // 中间价格保留的小数位数
+    private static final int MIDDLE_PRICE_SCALE = 8;
+
     /**
      * 获取买一卖一中间价格
      *
@@ -51,19 +56,19 @@ public class MakerSelfDealTest2 {
 
             // 获取买一价格（最高买价）
             List<String> bestBid = depth.getB().get(0);
-            BigDecimal bidPrice = new BigDecimal(bestBid.get(0));
+            FixedDecimal bidPrice = FixedDecimal.parse(bestBid.get(0), MIDDLE_PRICE_SCALE, RoundingMode.HALF_UP);
 
             // 获取卖一价格（最低卖价）
             List<String> bestAsk = depth.getA().get(0);
-            BigDecimal askPrice = new BigDecimal(bestAsk.get(0));
+            FixedDecimal askPrice = FixedDecimal.parse(bestAsk.get(0), MIDDLE_PRICE_SCALE, RoundingMode.HALF_UP);
 
-            // 计算中间价格
-            BigDecimal middlePrice = bidPrice.add(askPrice).divide(new BigDecimal("2"), 8, RoundingMode.HALF_UP);
+            // 计算中间价格，定点运算不经过 BigDecimal
+            FixedDecimal middlePrice = bidPrice.add(askPrice).divide(2, RoundingMode.HALF_UP);
 
             log.info("{}深度信息 - 买一价格: {}, 卖一价格: {}, 中间价格: {}",
-                    symbol, bidPrice, askPrice, middlePrice);
+                    symbol, bestBid.get(0), bestAsk.get(0), middlePrice);
 
-            return middlePrice;
+            return middlePrice.toBigDecimal();
         } catch (Exception e) {
             throw new HashExApiException("获取中间价格失败: " + e.getMessage(), e);
         }
@@ -147,7 +152,7 @@ public class MakerSelfDealTest2 {
                     symbol, orderSide == ORDER_SIDE_BUY ? "买入" : "卖出", price, quantity);
 
             // 发送POST请求
-            String response = apiClient.sendPostRequest("/spot/v1/u/maker/selfDeal", params);
+            String response = apiClient.sendPostRequest(Endpoint.SPOT_MAKER_SELF_DEAL, params);
             log.info("做市商自动交易响应: {}", response);
 
             // 解析响应
@@ -3,6 +3,7 @@ package com.example.openapi.test.spot.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
@@ -38,7 +39,7 @@ public class OrderCancelTest {
             queryParams.put("orderId", orderId.toString());
 
             // 调用API
-            String responseJson = apiClient.sendPostRequest("/spot/v1/u/trade/order/cancel", queryParams);
+            String responseJson = apiClient.sendPostRequest(Endpoint.SPOT_ORDER_CANCEL, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -91,7 +92,7 @@ public class OrderCancelTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendPostRequest("/spot/v1/u/trade/order/create", queryParams);
+            String responseJson = apiClient.sendPostRequest(Endpoint.SPOT_ORDER_CREATE, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
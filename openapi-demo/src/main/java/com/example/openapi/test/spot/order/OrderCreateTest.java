@@ -2,7 +2,10 @@ package com.example.openapi.test.spot.order;
 
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.HashExApiConfig;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.resilience.RetryPolicy;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,7 +60,7 @@ public class OrderCreateTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendPostRequest("/spot/v1/u/trade/order/create", queryParams);
+            String responseJson = apiClient.sendPostRequest(Endpoint.SPOT_ORDER_CREATE, queryParams);
 
             // 解析响应JSON
             cn.hutool.json.JSONObject jsonObject = new cn.hutool.json.JSONObject(responseJson);
@@ -149,9 +152,12 @@ public class OrderCreateTest {
 
     public static void main(String[] args) throws HashExApiException {
         //替换自己的 accessKey 和 secretKey
-        apiClient = new ApiClient("https://open.hashex.vip",
+        HashExApiConfig config = new HashExApiConfig("https://open.hashex.vip",
                 "45d2c30821759de1a5e0118a71e4892ea7ac4718fd73d8c400a24b374f5285fe",
                 "bc4f959ac242685fdc61f9ef84e23145c259402972c9ec749b77984985f62947");
+        // 瞬时故障自动重试；下单请求仅在设置了clientOrderId时重试，避免重复下单
+        config.setRetryPolicy(RetryPolicy.defaults());
+        apiClient = new ApiClient(config);
         OrderCreateTest orderCreateTest = new OrderCreateTest();
 
         orderCreateTest.testSellBtcOrder();
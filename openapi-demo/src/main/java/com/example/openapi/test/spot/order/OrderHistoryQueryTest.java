@@ -1,9 +1,12 @@
 package com.example.openapi.test.spot.order;
 
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.codec.JsonStreams;
+import com.example.openapi.client.codec.VoCodec;
+import com.example.openapi.client.codec.VoCodecs;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +23,7 @@ import java.util.*;
 public class OrderHistoryQueryTest {
 
     private static final Logger log = LoggerFactory.getLogger(OrderHistoryQueryTest.class);
+    private static final VoCodec<OrderVO> ORDER_CODEC = VoCodecs.get(OrderVO.class);
     private static ApiClient apiClient;
 
     // 订单状态常量
@@ -304,35 +308,45 @@ public class OrderHistoryQueryTest {
             }
 
             // 发送GET请求并请求签名
-            String response = apiClient.sendGetRequest("/spot/v1/u/trade/order/history", params, true);
+            String response = apiClient.sendGetRequest(Endpoint.SPOT_ORDER_HISTORY, params);
             log.info("历史订单查询响应: {}", response);
 
-            // 解析响应
-            JSONObject jsonResponse = JSONUtil.parseObj(response);
-            if (jsonResponse.getInt("code") != 0) {
-                throw new HashExApiException("查询历史订单失败: " + jsonResponse.getStr("msg"));
+            // 流式解析响应
+            ScrollPageResult<OrderVO> result = parseHistoryOrders(response);
+            if (result == null) {
+                throw new HashExApiException("响应data为空");
             }
-
-            JSONObject data = jsonResponse.getJSONObject("data");
-            ScrollPageResult<OrderVO> result = new ScrollPageResult<>();
-            result.setHasPrev(data.getBool("hasPrev"));
-            result.setHasNext(data.getBool("hasNext"));
-
-            // 将items数组转换为OrderVO列表
-            List<OrderVO> orderList = new ArrayList<>();
-            for (Object item : data.getJSONArray("items")) {
-                JSONObject orderJson = (JSONObject) item;
-                OrderVO orderVO = JSONUtil.toBean(orderJson, OrderVO.class);
-                orderList.add(orderVO);
-            }
-
-            result.setItems(orderList);
             return result;
         } catch (Exception e) {
             throw new HashExApiException("查询历史订单时发生错误: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 流式解析历史订单响应，订单由编译期生成的编解码器直接填充 {@link OrderVO}，不构建中间JSON树，也不经过反射转换
+     *
+     * @param responseJson 响应文本
+     * @return 滚动分页结果；data为空时返回空
+     * @throws HashExApiException 响应code不为0或格式错误
+     */
+    public static ScrollPageResult<OrderVO> parseHistoryOrders(String responseJson) throws HashExApiException {
+        return JsonStreams.readData(responseJson, "查询历史订单", ScrollPageResult::new, (result, field, parser) -> {
+            switch (field) {
+                case "hasPrev":
+                    result.setHasPrev(Boolean.TRUE.equals(JsonStreams.boolValue(parser)));
+                    return true;
+                case "hasNext":
+                    result.setHasNext(Boolean.TRUE.equals(JsonStreams.boolValue(parser)));
+                    return true;
+                case "items":
+                    List<OrderVO> items = VoCodecs.readList(parser, ORDER_CODEC);
+                    result.setItems(items != null ? items : new ArrayList<>());
+                    return true;
+                default:
+                    return false;
+            }
+        });
+    }
 
     /**
      * API返回的分页结果
@@ -417,6 +431,7 @@ public class OrderHistoryQueryTest {
     /**
      * 订单详情VO类
      */
+    @GenerateCodec
     public static class OrderVO {
         private Long orderId;         // 订单ID
         private String clientOrderId; // 客户端订单ID
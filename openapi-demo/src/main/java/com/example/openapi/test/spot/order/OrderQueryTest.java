@@ -3,12 +3,16 @@ package com.example.openapi.test.spot.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.FanOutExecutor;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.TreeMap;
 
 /**
@@ -38,7 +42,7 @@ public class OrderQueryTest {
             queryParams.put("orderId", orderId.toString());
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/spot/v1/u/trade/order/detail", queryParams,true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.SPOT_ORDER_DETAIL, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -61,6 +65,18 @@ public class OrderQueryTest {
         }
     }
 
+    /**
+     * 并行查询多个订单详情
+     *
+     * @param orderIds 订单ID列表
+     * @param executor 扇出执行器（限制并发请求数）
+     * @return 与输入顺序一致的订单详情
+     * @throws HashExApiException 任一订单查询失败
+     */
+    public List<OrderVO> getOrderDetails(List<Long> orderIds, FanOutExecutor executor) throws HashExApiException {
+        return executor.invokeAll(orderIds, this::getOrderDetail);
+    }
+
     /**
      * 创建限价订单并获取订单ID
      */
@@ -88,7 +104,7 @@ public class OrderQueryTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendPostRequest("/spot/v1/u/trade/order/create", queryParams);
+            String responseJson = apiClient.sendPostRequest(Endpoint.SPOT_ORDER_CREATE, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -164,6 +180,7 @@ public class OrderQueryTest {
     /**
      * 订单详情VO
      */
+    @GenerateCodec
     public static class OrderVO {
         private String orderId;           // 订单ID
         private String clientOrderId;     // 客户端订单ID
@@ -3,7 +3,9 @@ package com.example.openapi.test.spot.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,7 +65,7 @@ public class OrderTradeQueryTest {
             }
 
             // 调用API
-            String responseJson = apiClient.sendGetRequest("/spot/v1/u/trade/order/deal", queryParams,true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.SPOT_ORDER_DEAL, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -327,6 +329,7 @@ public class OrderTradeQueryTest {
     /**
      * 成交明细VO
      */
+    @GenerateCodec
     public static class OrderTradeVO {
         private String orderId;      // 订单ID
         private String execId;       // 成交ID
@@ -1,6 +1,13 @@
 package com.example.openapi.test.spot;
 
+import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.ClockSync;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.FanOutExecutor;
+import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.utils.HashexApiUtils;
+import com.example.openapi.utils.TimestampSource;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
@@ -34,11 +41,15 @@ public class SpotBalanceTest {
     private static final String SECRET_KEY = "7caaacc62496bbd8bc85c60a984db7e2e3650f5a4bb38e19a661e4037b82e992";
 
     // 接口端点
-    private static final String BALANCE_ENDPOINT = "/spot/v1/u/balance/spot";
+    private static final String BALANCE_ENDPOINT = Endpoint.SPOT_BALANCE.getPath();
+    // 签名时间戳来源，启动时按服务器时间同步一次
+    private static final TimestampSource TIMESTAMP_SOURCE = new TimestampSource();
 
     public static void main(String[] args) {
         CloseableHttpClient httpClient = null;
         try {
+            syncClock();
+
             // 创建HTTP客户端
             httpClient = HttpClients.createDefault();
 
@@ -95,6 +106,19 @@ public class SpotBalanceTest {
                 }
             }
 
+            // 并行查询多个币种余额
+            log.info("==== 并行查询多个币种余额 ====");
+            List<String> coins = List.of("BTC", "ETH", "USDT");
+            try (FanOutExecutor executor = new FanOutExecutor(5)) {
+                List<ApiResponse<List<BalanceInfo>>> responses = queryBalances(httpClient, coins, executor);
+                for (int i = 0; i < coins.size(); i++) {
+                    ApiResponse<List<BalanceInfo>> response = responses.get(i);
+                    log.info("币种: {}, code={}, 余额: {}", coins.get(i), response.getCode(),
+                            response.getData() == null || response.getData().isEmpty()
+                                    ? null : response.getData().get(0).getBalance());
+                }
+            }
+
         } catch (Exception e) {
             log.error("查询余额失败: {}", e.getMessage());
             log.error("异常详情", e);
@@ -110,6 +134,19 @@ public class SpotBalanceTest {
         }
     }
 
+    /**
+     * 请求服务器时间接口同步一次时钟偏移，签名时间戳随之按服务器时间生成；同步失败时使用本地时钟
+     */
+    private static void syncClock() {
+        try (ApiClient timeClient = new ApiClient(BASE_URL);
+             ClockSync clockSync = new ClockSync(timeClient, TIMESTAMP_SOURCE)) {
+            long offset = clockSync.sync();
+            log.info("时钟同步完成，偏移: {}ms", offset);
+        } catch (HashExApiException | IOException e) {
+            log.warn("时钟同步失败，使用本地时钟签名: {}", e.getMessage());
+        }
+    }
+
     /**
      * 查询现货余额
      * @param httpClient HTTP客户端
@@ -137,7 +174,7 @@ public class SpotBalanceTest {
         HttpGet httpGet = new HttpGet(uri);
 
         // 添加认证头
-        HashexApiUtils.addAuthHeaders(httpGet, ACCESS_KEY, SECRET_KEY, queryParams);
+        HashexApiUtils.addAuthHeaders(httpGet, ACCESS_KEY, SECRET_KEY, queryParams, TIMESTAMP_SOURCE);
 
         // 执行请求
         try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
@@ -158,6 +195,28 @@ public class SpotBalanceTest {
         }
     }
 
+    /**
+     * 并行查询多个币种余额
+     * <p>
+     * 并发数不应超过HTTP客户端的每路由连接上限（HttpClients.createDefault() 为5）
+     *
+     * @param httpClient HTTP客户端
+     * @param coins 币种列表
+     * @param executor 扇出执行器
+     * @return 与输入顺序一致的余额信息
+     * @throws HashExApiException 任一币种查询失败
+     */
+    private static List<ApiResponse<List<BalanceInfo>>> queryBalances(CloseableHttpClient httpClient, List<String> coins,
+                                                                      FanOutExecutor executor) throws HashExApiException {
+        return executor.invokeAll(coins, coin -> {
+            try {
+                return queryBalance(httpClient, coin);
+            } catch (Exception e) {
+                throw new HashExApiException("查询" + coin + "余额失败: " + e.getMessage(), e);
+            }
+        });
+    }
+
     /**
      * API响应基础类
      */
@@ -194,6 +253,7 @@ public class SpotBalanceTest {
     /**
      * 余额信息类
      */
+    @GenerateCodec
     public static class BalanceInfo {
         private String coin;                   // 币种
         private String balance;                // 总余额
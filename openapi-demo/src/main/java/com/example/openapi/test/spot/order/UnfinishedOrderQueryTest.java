@@ -3,7 +3,9 @@ package com.example.openapi.test.spot.order;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,7 +88,7 @@ public class UnfinishedOrderQueryTest {
             queryParams.put("state", null);
 
             // 调用API - 使用正确的API路径(添加/spot/v1前缀)
-            String responseJson = apiClient.sendGetRequest("/spot/v1/u/trade/order/list", queryParams,true);
+            String responseJson = apiClient.sendGetRequest(Endpoint.SPOT_ORDER_LIST, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -351,6 +353,7 @@ public class UnfinishedOrderQueryTest {
     /**
      * 订单数据模型类
      */
+    @GenerateCodec
     public static class OrderVO {
         private String orderId;         // 订单ID
         private String clientOrderId;   // 客户订单ID
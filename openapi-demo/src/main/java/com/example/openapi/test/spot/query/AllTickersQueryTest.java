@@ -1,10 +1,14 @@
 package com.example.openapi.test.spot.query;
 
-import cn.hutool.json.JSONObject;
-import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.codec.JsonArrayView;
+import com.example.openapi.client.codec.JsonObjectView;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
+import com.example.openapi.test.ApiResponseView;
+import com.fasterxml.jackson.core.type.TypeReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,15 +31,9 @@ public class AllTickersQueryTest {
             // 创建空的查询参数Map，因为该API不需要参数
             TreeMap<String, String> queryParams = new TreeMap<>();
 
-            // 调用API，注意添加/spot/v1前缀
-            String responseJson = apiClient.sendGetRequest("/spot/v1/p/quotation/tickers", queryParams,false);
-
-            // 解析响应JSON
-            JSONObject jsonObject = new JSONObject(responseJson);
-
-            // 使用适合实际返回结构的映射
-            ApiResponse<List<TickerVO>> apiResponse = JSONUtil.toBean(jsonObject,
-                    new cn.hutool.core.lang.TypeReference<ApiResponse<List<TickerVO>>>() {}, false);
+            // 调用API，全量行情响应较大，直接从响应流解码，不再先转为字符串
+            ApiResponse<List<TickerVO>> apiResponse = apiClient.getForObject(Endpoint.SPOT_TICKERS,
+                    queryParams, new TypeReference<ApiResponse<List<TickerVO>>>() {});
 
             if (!apiResponse.isSuccess()) {
                 throw new HashExApiException("获取全交易对Ticker数据失败: " + apiResponse.getMsg());
@@ -50,46 +48,62 @@ public class AllTickersQueryTest {
         }
     }
 
+    /**
+     * 获取全交易对的ticker信息，返回响应字节上的惰性视图
+     * <p>
+     * 不创建 TickerVO，元素和字段在访问时才解码，字段名与 {@link TickerVO} 相同。
+     * 只读取少数交易对或少数字段时使用，需要完整对象时用 {@link #getAllTickersData()}。
+     *
+     * @return 所有交易对的Ticker数据视图
+     * @throws HashExApiException 如果API调用失败
+     */
+    public JsonArrayView getAllTickersView() throws HashExApiException {
+        ApiResponseView apiResponse = apiClient.getForObject(Endpoint.SPOT_TICKERS, new TreeMap<>(),
+                ApiResponseView.DECODER);
+
+        if (!apiResponse.isSuccess()) {
+            throw new HashExApiException("获取全交易对Ticker数据失败: " + apiResponse.getMsg());
+        }
+        JsonArrayView tickers = apiResponse.getDataArray();
+        if (tickers == null) {
+            throw new HashExApiException("获取全交易对Ticker数据失败: 响应中没有数据");
+        }
+        return tickers;
+    }
+
     /**
      * 测试获取全交易对的ticker数据
      */
     private void testGetAllTickersData() throws HashExApiException {
         log.info("===== 获取全交易对Ticker数据测试 =====");
 
-        // 获取所有交易对的ticker数据
-        List<TickerVO> tickerList = getAllTickersData();
+        // 获取所有交易对的ticker数据，只解码下面读取到的字段
+        JsonArrayView tickers = getAllTickersView();
 
-        log.info("共获取到 {} 个交易对的行情数据", tickerList.size());
+        log.info("共获取到 {} 个交易对的行情数据", tickers.size());
 
         // 打印前5个交易对的数据作为示例
-        int count = 0;
-        for (TickerVO ticker : tickerList) {
+        for (int i = 0; i < Math.min(5, tickers.size()); i++) {
+            JsonObjectView ticker = tickers.get(i);
             log.info("交易对: {}, 最新价格: {}, 24小时涨跌幅: {}%",
-                    ticker.getS(), ticker.getC(), ticker.getR());
-
-            count++;
-            if (count >= 5) {
-                break;
-            }
+                    ticker.text("s"), ticker.text("c"), ticker.text("r"));
         }
 
         // 如果想查找特定交易对的数据
         log.info("===== 查找特定交易对 =====");
-        tickerList.stream()
-                .filter(ticker -> "BTC_USDT".equals(ticker.getS()))
-                .findFirst()
-                .ifPresent(ticker -> {
-                    log.info("BTC_USDT 详细数据:");
-                    log.info("交易对: {}", ticker.getS());
-                    log.info("当前时间戳: {}", ticker.getT());
-                    log.info("最新价格: {}", ticker.getC());
-                    log.info("开盘价: {}", ticker.getO());
-                    log.info("24小时最高价: {}", ticker.getH());
-                    log.info("24小时最低价: {}", ticker.getL());
-                    log.info("24小时成交量: {}", ticker.getA());
-                    log.info("24小时成交额: {}", ticker.getV());
-                    log.info("24小时涨跌幅: {}%", ticker.getR());
-                });
+        JsonObjectView ticker = tickers.find("s", "BTC_USDT");
+        if (ticker != null) {
+            log.info("BTC_USDT 详细数据:");
+            log.info("交易对: {}", ticker.text("s"));
+            log.info("当前时间戳: {}", ticker.longValue("t"));
+            log.info("最新价格: {}", ticker.text("c"));
+            log.info("开盘价: {}", ticker.text("o"));
+            log.info("24小时最高价: {}", ticker.text("h"));
+            log.info("24小时最低价: {}", ticker.text("l"));
+            log.info("24小时成交量: {}", ticker.text("a"));
+            log.info("24小时成交额: {}", ticker.text("v"));
+            log.info("24小时涨跌幅: {}%", ticker.text("r"));
+        }
     }
 
     public static void main(String[] args) throws HashExApiException {
@@ -102,6 +116,7 @@ public class AllTickersQueryTest {
     /**
      * Ticker数据模型类 - 复用已有的TickerVO类结构
      */
+    @GenerateCodec
     public static class TickerVO {
         private Long t;       // 时间戳
         private String s;     // 交易对
@@ -3,7 +3,9 @@ package com.example.openapi.test.spot.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,7 +63,7 @@ public class DataQueryTest {
             }
 
             // 调用API - 使用正确的API路径
-            String responseJson = apiClient.sendGetRequest("/spot/v1/p/quotation/kline", queryParams,false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.SPOT_KLINE, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -111,6 +113,7 @@ public class DataQueryTest {
     /**
      * K线数据模型类 - 根据实际API返回结构定义
      */
+    @GenerateCodec
     public static class KlineVO {
         private String s;    // 交易对
         private Long t;      // 时间戳
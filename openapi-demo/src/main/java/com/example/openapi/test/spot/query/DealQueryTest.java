@@ -3,7 +3,9 @@ package com.example.openapi.test.spot.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,7 +43,7 @@ public class DealQueryTest {
             queryParams.put("num", num.toString());
 
             // 调用API，添加/spot/v1前缀
-            String responseJson = apiClient.sendGetRequest("/spot/v1/p/quotation/deal", queryParams,false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.SPOT_DEAL, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -92,6 +94,7 @@ public class DealQueryTest {
     /**
      * 成交数据模型类 - 根据实际API返回结构定义
      */
+    @GenerateCodec
     public static class DealVO {
         private Long t;        // 成交时间戳
         private String s;      // 交易对
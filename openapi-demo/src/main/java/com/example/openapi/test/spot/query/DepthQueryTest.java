@@ -3,7 +3,9 @@ package com.example.openapi.test.spot.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,7 +52,7 @@ public class DepthQueryTest {
             queryParams.put("level", level.toString());
 
             // 调用API，添加/spot/v1前缀
-            String responseJson = apiClient.sendGetRequest("/spot/v1/p/quotation/depth", queryParams,false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.SPOT_DEPTH, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -118,6 +120,7 @@ public class DepthQueryTest {
     /**
      * 深度数据模型类 - 根据实际API返回结构定义
      */
+    @GenerateCodec
     public static class DepthVO {
         private Long t;                // 时间戳
         private String s;              // 交易对
@@ -3,19 +3,71 @@ package com.example.openapi.test.spot.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
+import com.example.openapi.client.HashExApiConfig;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.client.cache.TtlResponseCache;
+import com.example.openapi.client.codec.JsonArrayView;
+import com.example.openapi.client.codec.JsonObjectView;
+import com.example.openapi.client.codec.VoCodec;
+import com.example.openapi.client.codec.VoCodecs;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
+import com.example.openapi.test.ApiResponseView;
+import com.example.openapi.utils.SymbolPrecision;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SymbolConfigsQueryTest {
 
     private static final Logger log = LoggerFactory.getLogger(SymbolConfigsQueryTest.class);
     private static ApiClient apiClient;
+    private static final VoCodec<SymbolConfigVO> SYMBOL_CONFIG_CODEC = VoCodecs.get(SymbolConfigVO.class);
+    // 最近一次响应的视图及已查询过的交易对；响应缓存命中时返回同一字符串实例，可直接复用
+    private volatile SymbolConfigIndex symbolConfigIndex;
+
+    /**
+     * 按交易对查询的索引：建立时扫描一遍响应字节得到交易对到元素下标的映射，
+     * 之后命中和未命中都只查一次映射，只解码命中的那一个配置
+     */
+    private static final class SymbolConfigIndex {
+        private final String response;
+        private final JsonArrayView configs;
+        private final Map<String, Integer> positions;
+        private final Map<String, SymbolConfigVO> bySymbol = new ConcurrentHashMap<>();
+
+        private SymbolConfigIndex(String response, JsonArrayView configs) {
+            this.response = response;
+            this.configs = configs;
+            this.positions = configs.indexBy("symbol");
+        }
+
+        private SymbolConfigVO get(String symbol) throws HashExApiException {
+            SymbolConfigVO config = bySymbol.get(symbol);
+            if (config != null) {
+                return config;
+            }
+            Integer position = positions.get(symbol);
+            if (position == null) {
+                return null;
+            }
+            JsonObjectView element = configs.get(position);
+            try {
+                config = element.read(SYMBOL_CONFIG_CODEC);
+            } catch (Exception e) {
+                throw new HashExApiException("解析币种配置时出错: " + e.getMessage(), e);
+            }
+            bySymbol.putIfAbsent(symbol, config);
+            return config;
+        }
+    }
 
     /**
      * 获取币种配置信息
@@ -24,13 +76,31 @@ public class SymbolConfigsQueryTest {
      * @throws HashExApiException 如果API调用失败
      */
     public List<SymbolConfigVO> getSymbolConfigs() throws HashExApiException {
-        try {
-            // 创建查询参数Map (此接口无需参数)
-            TreeMap<String, String> queryParams = new TreeMap<>();
+        return parseSymbolConfigs(fetchSymbolConfigs());
+    }
 
-            // 调用API
-            String responseJson = apiClient.sendGetRequest("/spot/v1/p/symbol/configs", queryParams, false);
+    /**
+     * 获取币种配置信息，返回响应字节上的惰性视图
+     * <p>
+     * 不创建 SymbolConfigVO，元素和字段在访问时才解码，字段名与 {@link SymbolConfigVO} 相同。
+     *
+     * @return 币种配置视图
+     * @throws HashExApiException 如果API调用失败
+     */
+    public JsonArrayView getSymbolConfigsView() throws HashExApiException {
+        return viewSymbolConfigs(fetchSymbolConfigs());
+    }
+
+    private String fetchSymbolConfigs() throws HashExApiException {
+        // 创建查询参数Map (此接口无需参数)
+        TreeMap<String, String> queryParams = new TreeMap<>();
+
+        // 调用API
+        return apiClient.sendGetRequest(Endpoint.SPOT_SYMBOL_CONFIGS, queryParams);
+    }
 
+    private List<SymbolConfigVO> parseSymbolConfigs(String responseJson) throws HashExApiException {
+        try {
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
 
@@ -51,6 +121,23 @@ public class SymbolConfigsQueryTest {
         }
     }
 
+    private JsonArrayView viewSymbolConfigs(String responseJson) throws HashExApiException {
+        ApiResponseView apiResponse;
+        try {
+            apiResponse = ApiResponseView.of(responseJson.getBytes(StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new HashExApiException("获取币种配置时出错: " + e.getMessage(), e);
+        }
+        if (apiResponse.getCode() != 0) {
+            throw new HashExApiException("获取币种配置失败: " + apiResponse.getMsg());
+        }
+        JsonArrayView configs = apiResponse.getDataArray();
+        if (configs == null) {
+            throw new HashExApiException("获取币种配置失败: 响应中没有数据");
+        }
+        return configs;
+    }
+
     /**
      * 根据交易对符号查询特定币种配置
      *
@@ -63,11 +150,13 @@ public class SymbolConfigsQueryTest {
             throw new HashExApiException("交易对符号不能为空");
         }
 
-        List<SymbolConfigVO> configs = getSymbolConfigs();
-        return configs.stream()
-                .filter(config -> symbol.equals(config.getSymbol()))
-                .findFirst()
-                .orElse(null);
+        String responseJson = fetchSymbolConfigs();
+        SymbolConfigIndex index = symbolConfigIndex;
+        if (index == null || index.response != responseJson) {
+            index = new SymbolConfigIndex(responseJson, viewSymbolConfigs(responseJson));
+            symbolConfigIndex = index;
+        }
+        return index.get(symbol);
     }
 
     /**
@@ -76,18 +165,19 @@ public class SymbolConfigsQueryTest {
     private void testGetSymbolConfigs() throws HashExApiException {
         log.info("===== 获取币种配置信息测试 =====");
 
-        List<SymbolConfigVO> configs = getSymbolConfigs();
+        // 只打印前几个配置，使用视图，不解码其余配置
+        JsonArrayView configs = getSymbolConfigsView();
 
         log.info("共获取到 {} 个币种配置", configs.size());
 
         // 打印前几个配置信息
         int displayCount = Math.min(5, configs.size());
         for (int i = 0; i < displayCount; i++) {
-            SymbolConfigVO config = configs.get(i);
+            JsonObjectView config = configs.get(i);
             log.info("交易对: {}, 基础资产: {}, 计价资产: {}, 价格精度: {}, 数量精度: {}, Maker费率: {}, Taker费率: {}",
-                    config.getSymbol(), config.getBaseAsset(), config.getQuoteAsset(),
-                    config.getPricePrecision(), config.getQuantityPrecision(),
-                    config.getMakerFee(), config.getTakerFee());
+                    config.text("symbol"), config.text("baseAsset"), config.text("quoteAsset"),
+                    config.intValue("pricePrecision"), config.intValue("quantityPrecision"),
+                    config.decimalValue("makerFee"), config.decimalValue("takerFee"));
         }
 
         if (configs.size() > displayCount) {
@@ -116,7 +206,10 @@ public class SymbolConfigsQueryTest {
     }
 
     public static void main(String[] args) throws HashExApiException {
-        apiClient = new ApiClient("https://open.mgbx.com");
+        HashExApiConfig config = new HashExApiConfig("https://open.mgbx.com", null, null);
+        // 币种配置变化很少，缓存60秒，重复查询不再下载完整列表
+        config.setResponseCache(TtlResponseCache.defaults());
+        apiClient = new ApiClient(config);
         SymbolConfigsQueryTest test = new SymbolConfigsQueryTest();
 
         test.testGetSymbolConfigs();
@@ -126,6 +219,7 @@ public class SymbolConfigsQueryTest {
     /**
      * 币种配置数据模型类 - 根据实际API返回结构定义
      */
+    @GenerateCodec
     public static class SymbolConfigVO {
         private String baseAsset;           // 基础资产
         private Integer baseAssetPrecision; // 基础资产精度
@@ -178,6 +272,13 @@ public class SymbolConfigsQueryTest {
             this.quantityPrecision = quantityPrecision;
         }
 
+        /**
+         * 价格和数量精度，用于按精度解析和对齐 {@link com.example.openapi.utils.FixedDecimal}
+         */
+        public SymbolPrecision precision() {
+            return SymbolPrecision.of(pricePrecision, quantityPrecision);
+        }
+
         public String getQuoteAsset() {
             return quoteAsset;
         }
@@ -3,6 +3,7 @@ package com.example.openapi.test.spot.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
@@ -29,7 +30,7 @@ public class SystemTimeQueryTest {
             TreeMap<String, String> queryParams = new TreeMap<>();
 
             // 调用API，添加/spot/v1前缀
-            String responseJson = apiClient.sendGetRequest("/spot/v1/p/time", queryParams,false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.SPOT_TIME, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
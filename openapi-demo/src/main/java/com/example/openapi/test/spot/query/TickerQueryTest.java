@@ -3,7 +3,9 @@ package com.example.openapi.test.spot.query;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.example.openapi.client.ApiClient;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.client.HashExApiException;
+import com.example.openapi.codegen.GenerateCodec;
 import com.example.openapi.test.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,7 +36,7 @@ public class TickerQueryTest {
             queryParams.put("symbol", symbol);
 
             // 调用API - 使用正确的API路径(注意添加/spot/v1前缀)
-            String responseJson = apiClient.sendGetRequest("/spot/v1/p/quotation/trend/ticker", queryParams,false);
+            String responseJson = apiClient.sendGetRequest(Endpoint.SPOT_TREND_TICKER, queryParams);
 
             // 解析响应JSON
             JSONObject jsonObject = new JSONObject(responseJson);
@@ -86,6 +88,7 @@ public class TickerQueryTest {
     /**
      * Ticker数据模型类 - 根据实际API返回结构定义
      */
+    @GenerateCodec
     public static class TickerVO {
         private Long t;       // 时间戳
         private String s;     // 交易对
@@ -5,6 +5,7 @@ import cn.hutool.http.HttpRequest;
 import cn.hutool.json.JSONArray;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
+import com.example.openapi.client.Endpoint;
 import com.example.openapi.utils.HashexApiUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.java_websocket.client.WebSocketClient;
@@ -65,7 +66,7 @@ public class WebsocketTest {
      */
     private static String getWebSocketToken() {
         try {
-            String url = HOST + "/spot/v1/u/ws/token";
+            String url = HOST + Endpoint.SPOT_WS_TOKEN.getPath();
             long timestamp = System.currentTimeMillis();
             String nonce = UUID.randomUUID().toString();
 
@@ -0,0 +1,141 @@
+package com.example.openapi.utils;
+
+import org.apache.hc.core5.net.URIBuilder;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 规范化查询参数
+ * <p>
+ * 一次遍历排序后的参数，同时生成签名用的原始字符串（key=value 以 &amp; 连接，不编码）和URL查询串
+ * （按RFC 3986对非保留字符以外的字符做百分号编码，编码结果与 {@link URIBuilder#addParameter} 一致）。
+ * 签名和构造URI共用同一份结果，不再分别遍历参数，也不经过 {@link URIBuilder} 重新解析和编码。
+ */
+public final class CanonicalQuery {
+    private static final CanonicalQuery EMPTY = new CanonicalQuery("", "");
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final String canonical;
+    private final String query;
+
+    private CanonicalQuery(String canonical, String query) {
+        this.canonical = canonical;
+        this.query = query;
+    }
+
+    /**
+     * 由排序后的参数生成
+     *
+     * @param sortedParams 排序后的参数，可为空
+     * @return 规范化查询参数
+     */
+    public static CanonicalQuery of(SortedMap<String, String> sortedParams) {
+        if (sortedParams == null || sortedParams.isEmpty()) {
+            return EMPTY;
+        }
+        StringBuilder canonical = new StringBuilder(sortedParams.size() * 24);
+        StringBuilder query = new StringBuilder(sortedParams.size() * 24);
+        for (Map.Entry<String, String> entry : sortedParams.entrySet()) {
+            if (canonical.length() > 0) {
+                canonical.append('&');
+                query.append('&');
+            }
+            String key = entry.getKey();
+            String value = entry.getValue();
+            canonical.append(key).append('=').append(value);
+            encode(query, key);
+            if (value != null) {
+                query.append('=');
+                encode(query, value);
+            }
+        }
+        return new CanonicalQuery(canonical.toString(), query.toString());
+    }
+
+    /**
+     * 签名原始字符串（不含时间戳），无参数时为空字符串
+     */
+    public String getCanonical() {
+        return canonical;
+    }
+
+    /**
+     * 编码后的查询串（不含 ?），无参数时为空字符串
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * 拼接请求URI
+     * <p>
+     * 端点只含路径安全字符时直接拼接；否则（例如含需要编码的字符）退回 {@link URIBuilder} 处理路径部分。
+     *
+     * @param baseUrl API基础URL
+     * @param endpoint API端点
+     * @return 请求URI
+     * @throws URISyntaxException URI不合法
+     */
+    public URI toUri(String baseUrl, String endpoint) throws URISyntaxException {
+        if (isPlainPath(endpoint)) {
+            String uri = baseUrl + endpoint;
+            return new URI(query.isEmpty() ? uri : uri + '?' + query);
+        }
+        URI base = new URIBuilder(baseUrl + endpoint).build();
+        return query.isEmpty() ? base : new URI(base.toASCIIString() + '?' + query);
+    }
+
+    /**
+     * 判断端点是否只含无需编码的路径字符
+     */
+    public static boolean isPlainPath(String endpoint) {
+        for (int i = 0; i < endpoint.length(); i++) {
+            char c = endpoint.charAt(i);
+            if (c != '/' && !isUnreserved(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static void encode(StringBuilder out, String value) {
+        int n = value.length();
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            if (isUnreserved(c)) {
+                out.append(c);
+            } else if (c < 0x80) {
+                appendEscaped(out, c);
+            } else {
+                // 非ASCII字符按UTF-8编码后逐字节转义
+                for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+                    char ch = (char) (b & 0xff);
+                    if (isUnreserved(ch)) {
+                        out.append(ch);
+                    } else {
+                        appendEscaped(out, b & 0xff);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    private static void appendEscaped(StringBuilder out, int b) {
+        out.append('%').append(HEX[b >>> 4]).append(HEX[b & 0x0f]);
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+}
@@ -0,0 +1,574 @@
+package com.example.openapi.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 定点小数
+ * <p>
+ * 以 long 尾数加小数位数表示价格和数量，值为 mantissa × 10^-scale，小数位数取自交易对的价格/数量精度（见 {@link SymbolPrecision}）。
+ * 不可变，可在盘口、订单和统计之间共享。加减法结果精确，溢出时抛出 {@link ArithmeticException}；
+ * 乘除法按指定小数位数和 {@link RoundingMode} 舍入，中间结果超出 long 范围时退回 {@link BigDecimal} 计算。
+ * <p>
+ * {@link #parseMantissa(char[], int, int, int, RoundingMode)} 直接从字符解析出尾数，不创建任何对象，
+ * 适合逐个读取JSON记号的解码器；{@link #appendTo(StringBuilder)} 格式化时不创建中间字符串。
+ * <p>
+ * 与 {@link BigDecimal} 相同，{@link #equals} 同时比较尾数和小数位数，数值比较使用 {@link #compareTo}。
+ */
+public final class FixedDecimal implements Comparable<FixedDecimal> {
+
+    /** 最大小数位数，10^18 是 long 能表示的最大10的幂 */
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POW10 = new long[MAX_SCALE + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    public static final FixedDecimal ZERO = new FixedDecimal(0, 0);
+
+    private final long mantissa;
+    private final int scale;
+
+    private FixedDecimal(long mantissa, int scale) {
+        this.mantissa = mantissa;
+        this.scale = scale;
+    }
+
+    /**
+     * 由尾数和小数位数创建
+     *
+     * @param mantissa 尾数
+     * @param scale 小数位数，0~18
+     */
+    public static FixedDecimal of(long mantissa, int scale) {
+        checkScale(scale);
+        return new FixedDecimal(mantissa, scale);
+    }
+
+    /**
+     * 由整数创建，小数位数为0
+     */
+    public static FixedDecimal valueOf(long value) {
+        return value == 0 ? ZERO : new FixedDecimal(value, 0);
+    }
+
+    /**
+     * 由 {@link BigDecimal} 按指定小数位数舍入后创建
+     *
+     * @throws ArithmeticException 舍入后超出 long 范围，或 mode 为 UNNECESSARY 而需要舍入
+     */
+    public static FixedDecimal valueOf(BigDecimal value, int scale, RoundingMode mode) {
+        checkScale(scale);
+        return new FixedDecimal(value.setScale(scale, mode).unscaledValue().longValueExact(), scale);
+    }
+
+    /**
+     * 按指定小数位数精确解析，多出的非零小数位视为错误
+     *
+     * @see #parse(CharSequence, int, RoundingMode)
+     */
+    public static FixedDecimal parse(CharSequence text, int scale) {
+        return parse(text, scale, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * 按指定小数位数解析，多出的小数位按 mode 舍入
+     *
+     * @param text 十进制文本，例如 "60123.45"、"-0.001"、"1E-8"
+     * @param scale 小数位数
+     * @param mode 舍入方式
+     * @return 定点小数
+     * @throws NumberFormatException 文本格式错误
+     * @throws ArithmeticException 超出 long 范围，或 mode 为 UNNECESSARY 而需要舍入
+     */
+    public static FixedDecimal parse(CharSequence text, int scale, RoundingMode mode) {
+        return new FixedDecimal(parseMantissa(text, 0, text.length(), scale, mode), scale);
+    }
+
+    /**
+     * 从字符序列的 [start, end) 区间解析尾数，不创建对象
+     *
+     * @see #parseMantissa(char[], int, int, int, RoundingMode)
+     */
+    public static long parseMantissa(CharSequence text, int start, int end, int scale, RoundingMode mode) {
+        checkScale(scale);
+        if (start >= end) {
+            throw new NumberFormatException("空的数字文本");
+        }
+        // 第一遍定位小数点和指数，第二遍按每位数字相对目标小数位数的位置累加
+        int pos = start;
+        boolean negative = false;
+        char first = text.charAt(pos);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            pos++;
+        }
+        int digitsStart = pos;
+        int point = -1;
+        int digitsEnd = end;
+        for (int i = pos; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && point < 0 && digitsEnd == end) {
+                point = i;
+            } else if ((c == 'e' || c == 'E') && digitsEnd == end) {
+                digitsEnd = i;
+            } else if ((c < '0' || c > '9') && (digitsEnd == end || i != digitsEnd + 1 || (c != '-' && c != '+'))) {
+                throw new NumberFormatException("不是十进制数字: " + text.subSequence(start, end));
+            }
+        }
+        int exponent = digitsEnd < end ? parseExponent(text, digitsEnd + 1, end) : 0;
+        int intEnd = point >= 0 ? point : digitsEnd;
+        if (intEnd == digitsStart && (point < 0 || point + 1 == digitsEnd)) {
+            throw new NumberFormatException("不是十进制数字: " + text.subSequence(start, end));
+        }
+        // 以负数累加绝对值，Long.MIN_VALUE 也不会溢出
+        long acc = 0;
+        int roundDigit = 0;
+        boolean sticky = false;
+        // 最后一位数字在目标小数位中的位置，位置不超过 scale 的数字计入尾数
+        int lastPosition = 0;
+        for (int i = digitsStart; i < digitsEnd; i++) {
+            if (i == point) {
+                continue;
+            }
+            int position = (i < intEnd ? i - intEnd + 1 : i - intEnd) - exponent;
+            int digit = text.charAt(i) - '0';
+            lastPosition = position;
+            if (position <= scale) {
+                acc = Math.subtractExact(Math.multiplyExact(acc, 10), digit);
+            } else if (position == scale + 1) {
+                roundDigit = digit;
+            } else if (digit != 0) {
+                sticky = true;
+            }
+        }
+        return finishParse(acc, lastPosition, scale, roundDigit, sticky, negative, mode);
+    }
+
+    /**
+     * 从字符数组的 [offset, offset + length) 区间解析尾数，不创建对象
+     * <p>
+     * 可直接传入 {@code JsonParser.getTextCharacters()} 返回的缓冲区。
+     *
+     * @param chars 字符数组
+     * @param offset 起始下标
+     * @param length 字符数
+     * @param scale 小数位数
+     * @param mode 舍入方式
+     * @return 尾数，值为 尾数 × 10^-scale
+     * @throws NumberFormatException 文本格式错误
+     * @throws ArithmeticException 超出 long 范围，或 mode 为 UNNECESSARY 而需要舍入
+     */
+    public static long parseMantissa(char[] chars, int offset, int length, int scale, RoundingMode mode) {
+        checkScale(scale);
+        int end = offset + length;
+        if (length <= 0) {
+            throw new NumberFormatException("空的数字文本");
+        }
+        int pos = offset;
+        boolean negative = false;
+        char first = chars[pos];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            pos++;
+        }
+        int digitsStart = pos;
+        int point = -1;
+        int digitsEnd = end;
+        for (int i = pos; i < end; i++) {
+            char c = chars[i];
+            if (c == '.' && point < 0 && digitsEnd == end) {
+                point = i;
+            } else if ((c == 'e' || c == 'E') && digitsEnd == end) {
+                digitsEnd = i;
+            } else if ((c < '0' || c > '9') && (digitsEnd == end || i != digitsEnd + 1 || (c != '-' && c != '+'))) {
+                throw new NumberFormatException("不是十进制数字: " + new String(chars, offset, length));
+            }
+        }
+        int exponent = digitsEnd < end ? parseExponent(chars, digitsEnd + 1, end) : 0;
+        int intEnd = point >= 0 ? point : digitsEnd;
+        if (intEnd == digitsStart && (point < 0 || point + 1 == digitsEnd)) {
+            throw new NumberFormatException("不是十进制数字: " + new String(chars, offset, length));
+        }
+        long acc = 0;
+        int roundDigit = 0;
+        boolean sticky = false;
+        int lastPosition = 0;
+        for (int i = digitsStart; i < digitsEnd; i++) {
+            if (i == point) {
+                continue;
+            }
+            int position = (i < intEnd ? i - intEnd + 1 : i - intEnd) - exponent;
+            int digit = chars[i] - '0';
+            lastPosition = position;
+            if (position <= scale) {
+                acc = Math.subtractExact(Math.multiplyExact(acc, 10), digit);
+            } else if (position == scale + 1) {
+                roundDigit = digit;
+            } else if (digit != 0) {
+                sticky = true;
+            }
+        }
+        return finishParse(acc, lastPosition, scale, roundDigit, sticky, negative, mode);
+    }
+
+    private static int parseExponent(CharSequence text, int start, int end) {
+        boolean negative = false;
+        int pos = start;
+        if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negative = text.charAt(pos) == '-';
+            pos++;
+        }
+        if (pos == end || end - pos > 4) {
+            throw new NumberFormatException("指数格式错误: " + text.subSequence(start, end));
+        }
+        int exponent = 0;
+        for (; pos < end; pos++) {
+            exponent = exponent * 10 + (text.charAt(pos) - '0');
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    private static int parseExponent(char[] chars, int start, int end) {
+        boolean negative = false;
+        int pos = start;
+        if (pos < end && (chars[pos] == '-' || chars[pos] == '+')) {
+            negative = chars[pos] == '-';
+            pos++;
+        }
+        if (pos == end || end - pos > 4) {
+            throw new NumberFormatException("指数格式错误: " + new String(chars, start, end - start));
+        }
+        int exponent = 0;
+        for (; pos < end; pos++) {
+            exponent = exponent * 10 + (chars[pos] - '0');
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    private static long finishParse(long acc, int lastPosition, int scale, int roundDigit, boolean sticky,
+                                    boolean negative, RoundingMode mode) {
+        if (lastPosition < scale) {
+            // 末位数字之后补零到目标小数位数，例如 "12" 按2位小数为 1200
+            int shift = scale - lastPosition;
+            if (acc != 0) {
+                if (shift > MAX_SCALE) {
+                    throw new ArithmeticException("超出long范围");
+                }
+                acc = Math.multiplyExact(acc, POW10[shift]);
+            }
+        } else if (roundDigit != 0 || sticky) {
+            int half = roundDigit > 5 || (roundDigit == 5 && sticky) ? 1 : roundDigit == 5 ? 0 : -1;
+            // acc 为绝对值的相反数，奇偶性与绝对值相同
+            if (roundUp(acc, negative, half, mode)) {
+                acc = Math.subtractExact(acc, 1);
+            }
+        }
+        return negative ? acc : Math.negateExact(acc);
+    }
+
+    /**
+     * 舍去部分非零时判断绝对值是否进位
+     *
+     * @param truncated 截断后的绝对值
+     * @param negative 是否为负数
+     * @param half 舍去部分与0.5的比较结果：小于为-1，等于为0，大于为1
+     * @param mode 舍入方式
+     */
+    private static boolean roundUp(long truncated, boolean negative, int half, RoundingMode mode) {
+        switch (mode) {
+            case UP:
+                return true;
+            case DOWN:
+                return false;
+            case CEILING:
+                return !negative;
+            case FLOOR:
+                return negative;
+            case HALF_UP:
+                return half >= 0;
+            case HALF_DOWN:
+                return half > 0;
+            case HALF_EVEN:
+                return half > 0 || (half == 0 && (truncated & 1) != 0);
+            case UNNECESSARY:
+            default:
+                throw new ArithmeticException("需要舍入但舍入方式为UNNECESSARY");
+        }
+    }
+
+    /**
+     * 带舍入的整数除法
+     */
+    private static long divideRounded(long dividend, long divisor, RoundingMode mode) {
+        if (divisor == 0) {
+            throw new ArithmeticException("除数为0");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        boolean negative = (dividend < 0) != (divisor < 0);
+        // 比较 |余数| 与 |除数| - |余数|，避免 2 × 余数 溢出
+        long absRemainder = Math.abs(remainder);
+        long rest = Math.abs(divisor) - absRemainder;
+        int half = Long.compare(absRemainder, rest);
+        if (roundUp(Math.abs(quotient), negative, half, mode)) {
+            return negative ? quotient - 1 : quotient + 1;
+        }
+        return quotient;
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("小数位数必须在0~" + MAX_SCALE + "之间: " + scale);
+        }
+    }
+
+    /**
+     * 尾数放大 10^shift 倍后是否仍在 long 范围内
+     */
+    private static boolean fitsScaled(long value, int shift) {
+        if (shift > MAX_SCALE) {
+            return false;
+        }
+        long limit = Long.MAX_VALUE / POW10[shift];
+        return value <= limit && value >= -limit;
+    }
+
+    public long getMantissa() {
+        return mantissa;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public int signum() {
+        return Long.signum(mantissa);
+    }
+
+    public boolean isZero() {
+        return mantissa == 0;
+    }
+
+    /**
+     * 精确加法，结果小数位数取两者较大值
+     *
+     * @throws ArithmeticException 超出 long 范围
+     */
+    public FixedDecimal add(FixedDecimal other) {
+        if (scale == other.scale) {
+            return new FixedDecimal(Math.addExact(mantissa, other.mantissa), scale);
+        }
+        int resultScale = Math.max(scale, other.scale);
+        if (!fitsScaled(mantissa, resultScale - scale) || !fitsScaled(other.mantissa, resultScale - other.scale)) {
+            // 对齐小数位数时溢出，但结果仍可能在 long 范围内，例如 15 - 9.223372036854775807
+            return valueOf(toBigDecimal().add(other.toBigDecimal()), resultScale, RoundingMode.UNNECESSARY);
+        }
+        return new FixedDecimal(Math.addExact(rescaledMantissa(resultScale), other.rescaledMantissa(resultScale)),
+                resultScale);
+    }
+
+    /**
+     * 精确减法，结果小数位数取两者较大值
+     *
+     * @throws ArithmeticException 超出 long 范围
+     */
+    public FixedDecimal subtract(FixedDecimal other) {
+        if (scale == other.scale) {
+            return new FixedDecimal(Math.subtractExact(mantissa, other.mantissa), scale);
+        }
+        int resultScale = Math.max(scale, other.scale);
+        if (!fitsScaled(mantissa, resultScale - scale) || !fitsScaled(other.mantissa, resultScale - other.scale)) {
+            return valueOf(toBigDecimal().subtract(other.toBigDecimal()), resultScale, RoundingMode.UNNECESSARY);
+        }
+        return new FixedDecimal(Math.subtractExact(rescaledMantissa(resultScale), other.rescaledMantissa(resultScale)),
+                resultScale);
+    }
+
+    /**
+     * 乘以整数，结果精确
+     *
+     * @throws ArithmeticException 超出 long 范围
+     */
+    public FixedDecimal multiply(long factor) {
+        return new FixedDecimal(Math.multiplyExact(mantissa, factor), scale);
+    }
+
+    /**
+     * 乘法，结果按指定小数位数舍入，例如价格 × 数量得到名义价值
+     *
+     * @param other 乘数
+     * @param resultScale 结果小数位数
+     * @param mode 舍入方式
+     * @throws ArithmeticException 结果超出 long 范围，或 mode 为 UNNECESSARY 而需要舍入
+     */
+    public FixedDecimal multiply(FixedDecimal other, int resultScale, RoundingMode mode) {
+        checkScale(resultScale);
+        long high = Math.multiplyHigh(mantissa, other.mantissa);
+        long product = mantissa * other.mantissa;
+        int productScale = scale + other.scale;
+        boolean fits = (high == 0 && product >= 0) || (high == -1 && product < 0);
+        if (fits) {
+            if (resultScale >= productScale) {
+                int shift = resultScale - productScale;
+                return new FixedDecimal(Math.multiplyExact(product, POW10[shift]), resultScale);
+            }
+            if (productScale - resultScale <= MAX_SCALE) {
+                return new FixedDecimal(divideRounded(product, POW10[productScale - resultScale], mode), resultScale);
+            }
+        }
+        return valueOf(toBigDecimal().multiply(other.toBigDecimal()), resultScale, mode);
+    }
+
+    /**
+     * 除法，结果按指定小数位数舍入
+     *
+     * @param divisor 除数
+     * @param resultScale 结果小数位数
+     * @param mode 舍入方式
+     * @throws ArithmeticException 除数为0、结果超出 long 范围，或 mode 为 UNNECESSARY 而需要舍入
+     */
+    public FixedDecimal divide(FixedDecimal divisor, int resultScale, RoundingMode mode) {
+        checkScale(resultScale);
+        if (divisor.mantissa == 0) {
+            throw new ArithmeticException("除数为0");
+        }
+        // 结果尾数 = 被除数尾数 × 10^(resultScale + 除数小数位 - 被除数小数位) / 除数尾数
+        int shift = resultScale + divisor.scale - scale;
+        if (shift >= 0 && fitsScaled(mantissa, shift)) {
+            return new FixedDecimal(divideRounded(mantissa * POW10[shift], divisor.mantissa, mode), resultScale);
+        }
+        if (shift < 0 && fitsScaled(divisor.mantissa, -shift)) {
+            return new FixedDecimal(divideRounded(mantissa, divisor.mantissa * POW10[-shift], mode), resultScale);
+        }
+        return valueOf(toBigDecimal().divide(divisor.toBigDecimal(), resultScale, mode), resultScale, mode);
+    }
+
+    /**
+     * 除以整数，小数位数不变
+     *
+     * @throws ArithmeticException 除数为0，或 mode 为 UNNECESSARY 而需要舍入
+     */
+    public FixedDecimal divide(long divisor, RoundingMode mode) {
+        return new FixedDecimal(divideRounded(mantissa, divisor, mode), scale);
+    }
+
+    /**
+     * 调整小数位数，减少位数时按 mode 舍入，例如按交易对精度对齐下单价格
+     *
+     * @throws ArithmeticException 增加位数时超出 long 范围，或 mode 为 UNNECESSARY 而需要舍入
+     */
+    public FixedDecimal setScale(int newScale, RoundingMode mode) {
+        checkScale(newScale);
+        if (newScale == scale) {
+            return this;
+        }
+        if (newScale > scale) {
+            return new FixedDecimal(Math.multiplyExact(mantissa, POW10[newScale - scale]), newScale);
+        }
+        return new FixedDecimal(divideRounded(mantissa, POW10[scale - newScale], mode), newScale);
+    }
+
+    public FixedDecimal negate() {
+        return new FixedDecimal(Math.negateExact(mantissa), scale);
+    }
+
+    public FixedDecimal abs() {
+        return mantissa < 0 ? negate() : this;
+    }
+
+    public FixedDecimal min(FixedDecimal other) {
+        return compareTo(other) <= 0 ? this : other;
+    }
+
+    public FixedDecimal max(FixedDecimal other) {
+        return compareTo(other) >= 0 ? this : other;
+    }
+
+    private long rescaledMantissa(int targetScale) {
+        return Math.multiplyExact(mantissa, POW10[targetScale - scale]);
+    }
+
+    /**
+     * 按数值比较，小数位数不同但数值相等时返回0
+     */
+    @Override
+    public int compareTo(FixedDecimal other) {
+        if (scale == other.scale) {
+            return Long.compare(mantissa, other.mantissa);
+        }
+        int commonScale = Math.max(scale, other.scale);
+        if (fitsScaled(mantissa, commonScale - scale) && fitsScaled(other.mantissa, commonScale - other.scale)) {
+            return Long.compare(rescaledMantissa(commonScale), other.rescaledMantissa(commonScale));
+        }
+        return toBigDecimal().compareTo(other.toBigDecimal());
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(mantissa, scale);
+    }
+
+    /**
+     * 转换为 double，可能损失精度，仅用于统计展示
+     */
+    public double doubleValue() {
+        return (double) mantissa / POW10[scale];
+    }
+
+    /**
+     * 按小数位数输出全部小数位，不使用科学计数法，不创建中间字符串
+     *
+     * @param sb 输出目标
+     * @return sb
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        // 以负数计算各位数字，Long.MIN_VALUE 也不会溢出
+        long negative = mantissa > 0 ? -mantissa : mantissa;
+        if (mantissa < 0) {
+            sb.append('-');
+        }
+        int digits = 1;
+        for (long v = negative / 10; v != 0; v /= 10) {
+            digits++;
+        }
+        int width = Math.max(digits, scale + 1);
+        for (int p = width - 1; p >= 0; p--) {
+            long digit = p < digits ? -(negative / POW10[p] % 10) : 0;
+            sb.append((char) ('0' + digit));
+            if (p == scale && scale > 0) {
+                sb.append('.');
+            }
+        }
+        return sb;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FixedDecimal)) {
+            return false;
+        }
+        FixedDecimal that = (FixedDecimal) o;
+        return mantissa == that.mantissa && scale == that.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(mantissa) + scale;
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(scale + 21)).toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.openapi.utils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.apache.hc.core5.http.HttpRequest;
+
+/**
+ * Hashex API工具类，提供签名、请求头等功能
+ */
+public class HashexApiUtils {
+
+    private static final TimestampSource TIMESTAMP_SOURCE = new TimestampSource();
+    private static final NonceGenerator NONCE_GENERATOR = new NonceGenerator();
+
+    /**
+     * 生成签名
+     *
+     * @param secretKey 用户的秘密密钥
+     * @param sortedParams 排序后的参数
+     * @return 签名字符串
+     */
+    public static String generateSignature(String secretKey, TreeMap<String, String> sortedParams,
+                                            String timestamp) {
+        try {
+            // 构建原始字符串
+            String rawString = sortedParams.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + entry.getValue())
+                    .collect(Collectors.joining("&"));
+            //增加一个时间戳参数
+            rawString += "&timestamp=" + timestamp;
+            // 使用HMAC-SHA256算法生成签名
+            Mac mac = Mac.getInstance("HmacSHA256");
+            SecretKeySpec secretKeySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+            mac.init(secretKeySpec);
+            byte[] hash = mac.doFinal(rawString.getBytes(StandardCharsets.UTF_8));
+
+            // 转换为十六进制字符串
+            StringBuilder hexString = new StringBuilder();
+            for (byte b : hash) {
+                String hex = Integer.toHexString(0xff & b);
+                if (hex.length() == 1) {
+                    hexString.append('0');
+                }
+                hexString.append(hex);
+            }
+            return hexString.toString();
+        } catch (Exception e) {
+            throw new RuntimeException("生成签名时出错", e);
+        }
+    }
+
+    /**
+     * 生成API请求时间戳
+     * @return 当前时间的毫秒时间戳，按进程共用时间戳来源的偏移校正；该来源不会被自动同步，未设置偏移时即本地时间
+     */
+    public static String generateTimestamp() {
+        return TIMESTAMP_SOURCE.currentTimeString();
+    }
+
+    /**
+     * 按进程共用时间戳来源的偏移校正后的当前时间；该来源不会被自动同步，客户端的时钟同步只更新各自的时间戳来源，
+     * 需要某个客户端同步后的服务器时间时使用 {@link com.example.openapi.client.ClockSync#serverNowMillis()}
+     * @return 当前时间的毫秒时间戳，已按进程共用的偏移校正
+     */
+    public static long serverNowMillis() {
+        return TIMESTAMP_SOURCE.currentTimeMillis();
+    }
+
+    /**
+     * 进程共用的请求时间戳来源，供未指定时间戳来源的静态签名方法和 {@link Signer} 使用
+     * <p>
+     * 任何客户端的时钟同步都不会更新该来源，除非调用方自行设置偏移，否则按本地时钟生成时间戳。
+     */
+    public static TimestampSource getTimestampSource() {
+        return TIMESTAMP_SOURCE;
+    }
+
+    /**
+     * 生成API请求随机数
+     * @return UUID格式的随机数字符串（节点ID + 计数 + 随机数）
+     */
+    public static String generateNonce() {
+        return NONCE_GENERATOR.next();
+    }
+
+    /**
+     * 为请求添加认证头信息，时间戳取自进程共用的时间戳来源
+     * <p>
+     * 该来源不会被自动同步，本地时钟偏差较大时请求可能因时间戳过期被拒绝；
+     * 应改用 {@link #addAuthHeaders(HttpRequest, String, String, TreeMap, TimestampSource)} 并传入已同步的时间戳来源。
+     *
+     * @param httpGet 请求对象
+     * @param accessKey 访问密钥
+     * @param secretKey 秘密密钥
+     * @param queryParams 请求参数
+     */
+    public static void addAuthHeaders(HttpRequest httpGet, String accessKey, String secretKey, TreeMap<String, String> queryParams) {
+        addAuthHeaders(httpGet, accessKey, secretKey, queryParams, TIMESTAMP_SOURCE);
+    }
+
+    /**
+     * 为请求添加认证头信息，同步（classic）和异步请求共用
+     *
+     * @param httpGet 请求对象
+     * @param accessKey 访问密钥
+     * @param secretKey 秘密密钥
+     * @param queryParams 请求参数
+     * @param timestampSource 请求时间戳来源，例如客户端的 {@code getTimestampSource()}，或由
+     *                        {@link com.example.openapi.client.ClockSync} 同步过的来源
+     */
+    public static void addAuthHeaders(HttpRequest httpGet, String accessKey, String secretKey,
+                                      TreeMap<String, String> queryParams, TimestampSource timestampSource) {
+        String timestamp = timestampSource.currentTimeString();
+        String nonce = generateNonce();
+        String signature = generateSignature(secretKey, queryParams, timestamp);
+
+        httpGet.setHeader("X-Access-Key", accessKey);
+        httpGet.setHeader("X-Signature", signature);
+        httpGet.setHeader("X-Request-Timestamp", timestamp);
+        httpGet.setHeader("X-Request-Nonce", nonce);
+    }
+
+}
\ No newline at end of file
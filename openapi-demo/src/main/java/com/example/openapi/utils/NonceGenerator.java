@@ -0,0 +1,79 @@
+package com.example.openapi.utils;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 请求随机数生成器
+ * <p>
+ * 随机数由 节点ID(48位) + 进程内序号(64位) + 随机数(16位) 组成，按UUID的 8-4-4-4-12 格式输出。
+ * 节点ID在进程启动时由 {@link SecureRandom} 生成一次，保证跨进程不重复；进程内序号来自分段原子计数器，
+ * 第 s 段依次发出 s、s+64、s+128……，各段互不重叠且不会回绕，保证进程内不重复，与线程数量和线程寿命无关
+ * （每个任务一个虚拟线程时同样成立）。线程按ID分散到不同的段，各段位于不同缓存行，
+ * 不像 {@link java.util.UUID#randomUUID()} 那样争用共享的 {@link SecureRandom}，也不为每个线程保存状态。
+ */
+public final class NonceGenerator {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    // 相邻两段间隔8个long（64字节），避免伪共享
+    private static final int STRIPE_SPACING = 8;
+
+    private final long nodeId;
+    private final AtomicLongArray counters = new AtomicLongArray(STRIPES * STRIPE_SPACING);
+
+    public NonceGenerator() {
+        this(new SecureRandom().nextLong() & 0xFFFF_FFFF_FFFFL);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param nodeId 节点ID，取低48位
+     */
+    public NonceGenerator(long nodeId) {
+        this.nodeId = nodeId & 0xFFFF_FFFF_FFFFL;
+    }
+
+    /**
+     * 生成随机数
+     *
+     * @return 36位随机数字符串
+     */
+    public String next() {
+        int stripe = (int) mix(Thread.currentThread().getId()) & (STRIPES - 1);
+        long sequence = counters.getAndIncrement(stripe * STRIPE_SPACING) << STRIPE_BITS | stripe;
+        int random = ThreadLocalRandom.current().nextInt() & 0xFFFF;
+        char[] chars = new char[36];
+        hex(chars, 0, nodeId >>> 16, 8);
+        chars[8] = '-';
+        hex(chars, 9, nodeId, 4);
+        chars[13] = '-';
+        hex(chars, 14, sequence >>> 48, 4);
+        chars[18] = '-';
+        hex(chars, 19, sequence >>> 32, 4);
+        chars[23] = '-';
+        hex(chars, 24, sequence << 16 | random, 12);
+        return new String(chars);
+    }
+
+    /**
+     * 打散线程ID，连续创建的线程落在不同的段
+     */
+    private static long mix(long id) {
+        id *= 0x9E37_79B9_7F4A_7C15L;
+        return id ^ (id >>> 32);
+    }
+
+    private static void hex(char[] chars, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX[(int) (value & 0x0f)];
+            value >>>= 4;
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+}
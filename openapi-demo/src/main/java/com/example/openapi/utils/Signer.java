@@ -0,0 +1,250 @@
+package com.example.openapi.utils;
+
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.message.BasicHeader;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 绑定一组访问密钥的请求签名器
+ * <p>
+ * 签名结果与 {@link HashexApiUtils#generateSignature} 一致，区别在于：每个线程持有一个已用密钥初始化的 {@link Mac}，
+ * 原始字符串直接按UTF-8写入线程内复用的字节缓冲区，十六进制编码查表完成，签名过程除结果字符串外不产生临时对象。
+ * 线程安全，同一组密钥在客户端内共享一个实例即可。
+ * <p>
+ * 请求时间戳取自构造时传入的 {@link TimestampSource}，各客户端按自己的时钟同步结果生成时间戳，互不影响。
+ */
+public class Signer {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final byte[] TIMESTAMP_PREFIX = "&timestamp=".getBytes(StandardCharsets.US_ASCII);
+    // 超过该大小的缓冲区不在线程内保留，避免个别大请求长期占用内存
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final String accessKey;
+    // 固定不变的访问密钥请求头，各请求共用
+    private final Header accessKeyHeader;
+    private final Mac prototype;
+    private final TimestampSource timestampSource;
+    private final ThreadLocal<State> state;
+
+    /**
+     * 线程内复用的签名状态
+     */
+    private static final class State {
+        final Mac mac;
+        final byte[] hash;
+        final char[] hex;
+        byte[] buffer = new byte[512];
+        int length;
+
+        State(Mac mac) {
+            this.mac = mac;
+            this.hash = new byte[mac.getMacLength()];
+            this.hex = new char[hash.length * 2];
+        }
+    }
+
+    /**
+     * 构造函数，请求时间戳取自进程共用的 {@link HashexApiUtils#getTimestampSource()}
+     * <p>
+     * 该来源不会被自动同步，按本地时钟生成时间戳；需要按服务器时间签名时使用带时间戳来源的构造函数。
+     *
+     * @param accessKey 访问密钥
+     * @param secretKey 秘密密钥
+     */
+    public Signer(String accessKey, String secretKey) {
+        this(accessKey, secretKey, HashexApiUtils.getTimestampSource());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param accessKey 访问密钥
+     * @param secretKey 秘密密钥
+     * @param timestampSource 请求时间戳来源
+     */
+    public Signer(String accessKey, String secretKey, TimestampSource timestampSource) {
+        if (accessKey == null || secretKey == null) {
+            throw new IllegalArgumentException("访问密钥和秘密密钥不能为空");
+        }
+        this.accessKey = accessKey;
+        this.accessKeyHeader = new BasicHeader("X-Access-Key", accessKey);
+        this.timestampSource = timestampSource;
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("初始化签名器时出错", e);
+        }
+        this.state = ThreadLocal.withInitial(() -> new State(newMac()));
+    }
+
+    /**
+     * 复制已初始化的Mac，省去每个线程重新查找算法实现和初始化密钥
+     */
+    private Mac newMac() {
+        try {
+            synchronized (prototype) {
+                return (Mac) prototype.clone();
+            }
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("当前安全提供者不支持复制Mac实例", e);
+        }
+    }
+
+    public String getAccessKey() {
+        return accessKey;
+    }
+
+    public TimestampSource getTimestampSource() {
+        return timestampSource;
+    }
+
+    /**
+     * 生成签名，原始字符串为按参数名排序的 key=value 以 &amp; 连接，末尾追加 &amp;timestamp=时间戳
+     *
+     * @param sortedParams 排序后的参数
+     * @param timestamp 请求时间戳
+     * @return 小写十六进制签名
+     */
+    public String sign(SortedMap<String, String> sortedParams, String timestamp) {
+        State s = state.get();
+        s.length = 0;
+        boolean first = true;
+        for (Map.Entry<String, String> entry : sortedParams.entrySet()) {
+            if (!first) {
+                append(s, (byte) '&');
+            }
+            append(s, entry.getKey());
+            append(s, (byte) '=');
+            append(s, entry.getValue());
+            first = false;
+        }
+        append(s, TIMESTAMP_PREFIX);
+        append(s, timestamp);
+        return finish(s);
+    }
+
+    /**
+     * 使用已生成的规范化查询参数签名，结果与 {@link #sign(SortedMap, String)} 一致
+     *
+     * @param query 规范化查询参数
+     * @param timestamp 请求时间戳
+     * @return 小写十六进制签名
+     */
+    public String sign(CanonicalQuery query, String timestamp) {
+        State s = state.get();
+        s.length = 0;
+        append(s, query.getCanonical());
+        append(s, TIMESTAMP_PREFIX);
+        append(s, timestamp);
+        return finish(s);
+    }
+
+    private static String finish(State s) {
+        try {
+            s.mac.update(s.buffer, 0, s.length);
+            s.mac.doFinal(s.hash, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("生成签名时出错", e);
+        } finally {
+            if (s.buffer.length > MAX_RETAINED_BUFFER) {
+                s.buffer = new byte[512];
+            }
+        }
+        byte[] hash = s.hash;
+        char[] hex = s.hex;
+        for (int i = 0, j = 0; i < hash.length; i++) {
+            int b = hash[i] & 0xff;
+            hex[j++] = HEX[b >>> 4];
+            hex[j++] = HEX[b & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * 为请求添加认证头信息
+     *
+     * @param request 请求对象
+     * @param queryParams 请求参数
+     */
+    public void addAuthHeaders(HttpRequest request, SortedMap<String, String> queryParams) {
+        String timestamp = timestampSource.currentTimeString();
+        String nonce = HashexApiUtils.generateNonce();
+        String signature = sign(queryParams, timestamp);
+
+        request.setHeader(accessKeyHeader);
+        request.setHeader("X-Signature", signature);
+        request.setHeader("X-Request-Timestamp", timestamp);
+        request.setHeader("X-Request-Nonce", nonce);
+    }
+
+    /**
+     * 为请求添加认证头信息，签名使用已生成的规范化查询参数
+     *
+     * @param request 请求对象
+     * @param query 规范化查询参数
+     */
+    public void addAuthHeaders(HttpRequest request, CanonicalQuery query) {
+        String timestamp = timestampSource.currentTimeString();
+        String nonce = HashexApiUtils.generateNonce();
+        String signature = sign(query, timestamp);
+
+        request.setHeader(accessKeyHeader);
+        request.setHeader("X-Signature", signature);
+        request.setHeader("X-Request-Timestamp", timestamp);
+        request.setHeader("X-Request-Nonce", nonce);
+    }
+
+    private static void ensureCapacity(State s, int extra) {
+        int required = s.length + extra;
+        if (required > s.buffer.length) {
+            s.buffer = Arrays.copyOf(s.buffer, Math.max(required, s.buffer.length * 2));
+        }
+    }
+
+    private static void append(State s, byte b) {
+        ensureCapacity(s, 1);
+        s.buffer[s.length++] = b;
+    }
+
+    private static void append(State s, byte[] bytes) {
+        ensureCapacity(s, bytes.length);
+        System.arraycopy(bytes, 0, s.buffer, s.length, bytes.length);
+        s.length += bytes.length;
+    }
+
+    /**
+     * 按UTF-8写入字符串，ASCII字符直接写入，含非ASCII字符时退回标准编码
+     */
+    private static void append(State s, String value) {
+        if (value == null) {
+            // 与字符串拼接行为一致
+            append(s, "null");
+            return;
+        }
+        int n = value.length();
+        ensureCapacity(s, n);
+        byte[] buffer = s.buffer;
+        int offset = s.length;
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                s.length = offset;
+                append(s, value.substring(i).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            buffer[offset++] = (byte) c;
+        }
+        s.length = offset;
+    }
+}
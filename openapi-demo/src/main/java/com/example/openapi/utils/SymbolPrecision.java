@@ -0,0 +1,102 @@
+package com.example.openapi.utils;
+
+import java.math.RoundingMode;
+
+/**
+ * 交易对的价格和数量精度
+ * <p>
+ * 由币对详情或币对配置中的 pricePrecision/quantityPrecision 创建，按对应小数位数解析和对齐 {@link FixedDecimal}。
+ * 解析行情和订单中的价格、数量时多出的小数位按 HALF_UP 舍入（例如成交均价可能超出价格精度）；
+ * 下单前对齐价格、数量应按业务方向显式指定舍入方式。
+ */
+public final class SymbolPrecision {
+    private final int priceScale;
+    private final int quantityScale;
+
+    public SymbolPrecision(int priceScale, int quantityScale) {
+        if (priceScale < 0 || priceScale > FixedDecimal.MAX_SCALE
+                || quantityScale < 0 || quantityScale > FixedDecimal.MAX_SCALE) {
+            throw new IllegalArgumentException("精度必须在0~" + FixedDecimal.MAX_SCALE + "之间: price="
+                    + priceScale + ", quantity=" + quantityScale);
+        }
+        this.priceScale = priceScale;
+        this.quantityScale = quantityScale;
+    }
+
+    /**
+     * 由接口返回的精度字段创建
+     *
+     * @param pricePrecision 价格精度
+     * @param quantityPrecision 数量精度
+     * @throws IllegalArgumentException 精度缺失或超出范围
+     */
+    public static SymbolPrecision of(Integer pricePrecision, Integer quantityPrecision) {
+        if (pricePrecision == null || quantityPrecision == null) {
+            throw new IllegalArgumentException("交易对缺少精度: price=" + pricePrecision + ", quantity=" + quantityPrecision);
+        }
+        return new SymbolPrecision(pricePrecision, quantityPrecision);
+    }
+
+    public int getPriceScale() {
+        return priceScale;
+    }
+
+    public int getQuantityScale() {
+        return quantityScale;
+    }
+
+    /**
+     * 按价格精度解析
+     */
+    public FixedDecimal price(CharSequence text) {
+        return FixedDecimal.parse(text, priceScale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 按数量精度解析
+     */
+    public FixedDecimal quantity(CharSequence text) {
+        return FixedDecimal.parse(text, quantityScale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 按价格精度从字符数组解析尾数，不创建对象，用于盘口等大批量数据
+     */
+    public long priceMantissa(char[] chars, int offset, int length) {
+        return FixedDecimal.parseMantissa(chars, offset, length, priceScale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 按数量精度从字符数组解析尾数，不创建对象
+     */
+    public long quantityMantissa(char[] chars, int offset, int length) {
+        return FixedDecimal.parseMantissa(chars, offset, length, quantityScale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 将价格对齐到价格精度，例如买单向下、卖单向上取整以免越过盘口
+     */
+    public FixedDecimal roundPrice(FixedDecimal price, RoundingMode mode) {
+        return price.setScale(priceScale, mode);
+    }
+
+    /**
+     * 将数量对齐到数量精度，下单数量通常向下取整以免超出可用余额
+     */
+    public FixedDecimal roundQuantity(FixedDecimal quantity, RoundingMode mode) {
+        return quantity.setScale(quantityScale, mode);
+    }
+
+    /**
+     * 计算名义价值（价格 × 数量），结果保留价格精度与数量精度之和的小数位，超过18位时按 HALF_UP 舍入
+     */
+    public FixedDecimal notional(FixedDecimal price, FixedDecimal quantity) {
+        int scale = Math.min(price.getScale() + quantity.getScale(), FixedDecimal.MAX_SCALE);
+        return price.multiply(quantity, scale, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public String toString() {
+        return "SymbolPrecision{price=" + priceScale + ", quantity=" + quantityScale + '}';
+    }
+}
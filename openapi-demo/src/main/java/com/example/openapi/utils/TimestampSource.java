@@ -0,0 +1,55 @@
+package com.example.openapi.utils;
+
+/**
+ * 请求时间戳来源
+ * <p>
+ * 返回本地时钟加上与服务器的时钟偏移（由时钟同步更新，默认为0），使签名时间戳贴近服务器时间。
+ * 同一毫秒内的多次调用复用同一个时间戳字符串，避免每个请求都重新格式化。
+ */
+public final class TimestampSource {
+
+    private volatile long offsetMillis;
+    private volatile Cached cached = new Cached(Long.MIN_VALUE, "");
+
+    private static final class Cached {
+        final long millis;
+        final String text;
+
+        Cached(long millis, String text) {
+            this.millis = millis;
+            this.text = text;
+        }
+    }
+
+    /**
+     * 当前时间（毫秒），已按时钟偏移校正
+     */
+    public long currentTimeMillis() {
+        return System.currentTimeMillis() + offsetMillis;
+    }
+
+    /**
+     * 当前时间的毫秒时间戳字符串，已按时钟偏移校正
+     */
+    public String currentTimeString() {
+        long now = currentTimeMillis();
+        Cached current = cached;
+        if (current.millis == now) {
+            return current.text;
+        }
+        String text = Long.toString(now);
+        cached = new Cached(now, text);
+        return text;
+    }
+
+    /**
+     * 服务器时间减本地时间（毫秒）
+     */
+    public long getOffsetMillis() {
+        return offsetMillis;
+    }
+
+    public void setOffsetMillis(long offsetMillis) {
+        this.offsetMillis = offsetMillis;
+    }
+}
@@ -1,49 +0,0 @@
-package com.example.openapi.client;
-
-/**
- * HashEx API 配置类
- */
-public class HashExApiConfig {
-    private String baseUrl;
-    private String apiKey;
-    private int connectionTimeout = 10000; // 默认10秒
-    private int readTimeout = 30000; // 默认30秒
-    
-    public HashExApiConfig(String baseUrl, String apiKey) {
-        this.baseUrl = baseUrl;
-        this.apiKey = apiKey;
-    }
-    
-    // Getters and Setters
-    public String getBaseUrl() {
-        return baseUrl;
-    }
-    
-    public void setBaseUrl(String baseUrl) {
-        this.baseUrl = baseUrl;
-    }
-    
-    public String getApiKey() {
-        return apiKey;
-    }
-    
-    public void setApiKey(String apiKey) {
-        this.apiKey = apiKey;
-    }
-    
-    public int getConnectionTimeout() {
-        return connectionTimeout;
-    }
-    
-    public void setConnectionTimeout(int connectionTimeout) {
-        this.connectionTimeout = connectionTimeout;
-    }
-    
-    public int getReadTimeout() {
-        return readTimeout;
-    }
-    
-    public void setReadTimeout(int readTimeout) {
-        this.readTimeout = readTimeout;
-    }
-}
@@ -0,0 +1,17 @@
+package com.example.openapi.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记需要在编译期生成JSON编解码器的VO类
+ * <p>
+ * {@link VoCodecProcessor} 为每个标记的类在同一包下生成 {@code <外部类>_<类名>Codec}，按字段名与JSON字段一一对应，
+ * 通过 setter/getter 读写，不使用反射。类必须有可访问的无参构造器。
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateCodec {
+}
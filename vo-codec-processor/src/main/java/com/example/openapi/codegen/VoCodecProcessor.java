@@ -0,0 +1,499 @@
+package com.example.openapi.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 为 {@link GenerateCodec} 标记的VO生成JSON编解码器
+ * <p>
+ * 每个VO生成一个实现 {@code com.example.openapi.client.codec.VoCodec} 的类：解码时按字段名 switch 直接调用 setter，
+ * 编码时按字段顺序调用 getter 写出，字段类型在编译期确定，运行时不做反射内省。
+ * 支持 String、数值及布尔（含基本类型）、BigDecimal、List 以及其他标记过的VO；其他类型的字段交给Jackson处理。
+ * 同时生成 {@code GeneratedVoCodecs} 汇总全部编解码器，供 {@code VoCodecs} 按类型查找。
+ */
+@SupportedAnnotationTypes("com.example.openapi.codegen.GenerateCodec")
+public class VoCodecProcessor extends AbstractProcessor {
+
+    static final String RUNTIME_PACKAGE = "com.example.openapi.client.codec";
+    static final String REGISTRY_NAME = "GeneratedVoCodecs";
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+    private final List<String> codecNames = new ArrayList<>();
+    private boolean registryWritten;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<? extends Element> annotated = roundEnv.getElementsAnnotatedWith(GenerateCodec.class);
+        if (annotated.isEmpty()) {
+            return false;
+        }
+        if (registryWritten) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "GenerateCodec 只能用于手写的类，不支持在后续处理轮次中新增");
+            return true;
+        }
+        for (TypeElement type : ElementFilter.typesIn(annotated)) {
+            if (validate(type)) {
+                write(type, new CodecSource(type).generate());
+            }
+        }
+        writeRegistry();
+        registryWritten = true;
+        return true;
+    }
+
+    private boolean validate(TypeElement type) {
+        boolean valid = type.getKind() == ElementKind.CLASS
+                && type.getModifiers().contains(Modifier.PUBLIC)
+                && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && (type.getNestingKind() == NestingKind.TOP_LEVEL || type.getModifiers().contains(Modifier.STATIC));
+        if (!valid) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "GenerateCodec 需标记在 public 的非抽象类或静态内部类上", type);
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        messager.printMessage(Diagnostic.Kind.ERROR, "GenerateCodec 标记的类缺少 public 无参构造器", type);
+        return false;
+    }
+
+    private void write(TypeElement type, String source) {
+        String qualifiedName = packageOf(type) + "." + codecSimpleName(type);
+        try {
+            JavaFileObject file = filer.createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+            codecNames.add(qualifiedName);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "生成编解码器失败: " + e.getMessage(), type);
+        }
+    }
+
+    private void writeRegistry() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(RUNTIME_PACKAGE).append(";\n\n");
+        sb.append("/**\n * 编译期生成的全部VO编解码器\n */\n");
+        sb.append("@javax.annotation.processing.Generated(\"").append(VoCodecProcessor.class.getName()).append("\")\n");
+        sb.append("final class ").append(REGISTRY_NAME).append(" {\n\n");
+        sb.append("    static final VoCodec<?>[] CODECS = {\n");
+        for (String codecName : codecNames) {
+            sb.append("            ").append(codecName).append(".INSTANCE,\n");
+        }
+        sb.append("    };\n\n");
+        sb.append("    private ").append(REGISTRY_NAME).append("() {\n    }\n}\n");
+        try {
+            JavaFileObject file = filer.createSourceFile(RUNTIME_PACKAGE + "." + REGISTRY_NAME);
+            try (Writer writer = file.openWriter()) {
+                writer.append(sb);
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "生成编解码器索引失败: " + e.getMessage());
+        }
+    }
+
+    private String packageOf(TypeElement type) {
+        return elements.getPackageOf(type).getQualifiedName().toString();
+    }
+
+    /**
+     * 以外部类名和类名拼接编解码器类名，避免不同外部类中的同名VO冲突，例如 AllTickersQueryTest_TickerVOCodec
+     */
+    static String codecSimpleName(TypeElement type) {
+        Deque<String> names = new ArrayDeque<>();
+        for (Element e = type; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+            names.addFirst(e.getSimpleName().toString());
+        }
+        return String.join("_", names) + "Codec";
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 字段的值类型
+     */
+    private enum Kind {
+        STRING, INTEGER, LONG, BOOLEAN, DOUBLE, DECIMAL, INT, PRIMITIVE_LONG, PRIMITIVE_BOOLEAN, PRIMITIVE_DOUBLE,
+        LIST, CODEC, OTHER
+    }
+
+    /**
+     * VO的一个属性：JSON字段名即Java字段名
+     */
+    private static final class Property {
+        final String name;
+        final ExecutableElement setter;
+        final ExecutableElement getter;
+
+        Property(String name, ExecutableElement setter, ExecutableElement getter) {
+            this.name = name;
+            this.setter = setter;
+            this.getter = getter;
+        }
+    }
+
+    /**
+     * 单个VO的编解码器源码
+     */
+    private final class CodecSource {
+        private final TypeElement type;
+        private final String typeName;
+        private final String codecName;
+        private final List<Property> properties = new ArrayList<>();
+        // 类型源码 -> 辅助方法/常量序号
+        private final Map<String, Integer> listTypes = new LinkedHashMap<>();
+        private final Map<String, Integer> otherTypes = new LinkedHashMap<>();
+        private final StringBuilder helpers = new StringBuilder();
+
+        CodecSource(TypeElement type) {
+            this.type = type;
+            this.typeName = type.getQualifiedName().toString();
+            this.codecName = codecSimpleName(type);
+            collectProperties();
+        }
+
+        private void collectProperties() {
+            List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String name = field.getSimpleName().toString();
+                String cap = capitalize(name);
+                ExecutableElement setter = null;
+                ExecutableElement getter = null;
+                for (ExecutableElement method : methods) {
+                    if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) {
+                        continue;
+                    }
+                    String methodName = method.getSimpleName().toString();
+                    if (methodName.equals("set" + cap) && method.getParameters().size() == 1) {
+                        setter = method;
+                    } else if ((methodName.equals("get" + cap) || methodName.equals("is" + cap))
+                            && method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID) {
+                        getter = method;
+                    }
+                }
+                if (setter != null || getter != null) {
+                    properties.add(new Property(name, setter, getter));
+                }
+            }
+        }
+
+        String generate() {
+            StringBuilder read = new StringBuilder();
+            StringBuilder write = new StringBuilder();
+            for (Property property : properties) {
+                if (property.setter != null) {
+                    TypeMirror valueType = property.setter.getParameters().get(0).asType();
+                    String setter = property.setter.getSimpleName().toString();
+                    read.append("                case \"").append(property.name).append("\":\n");
+                    appendReadStatement(read, "                    ", valueType, setter);
+                    read.append("                    break;\n");
+                }
+                if (property.getter != null) {
+                    String getter = "value." + property.getter.getSimpleName() + "()";
+                    write.append("        generator.writeFieldName(\"").append(property.name).append("\");\n");
+                    appendWriteStatement(write, "        ", property.getter.getReturnType(), getter);
+                }
+            }
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("package ").append(packageOf(type)).append(";\n\n");
+            boolean hasOther = !otherTypes.isEmpty();
+            if (hasOther) {
+                sb.append("import com.example.openapi.client.codec.JsonCodec;\n");
+            }
+            sb.append("import com.example.openapi.client.codec.JsonStreams;\n");
+            sb.append("import com.example.openapi.client.codec.VoCodec;\n");
+            sb.append("import com.fasterxml.jackson.core.JsonGenerator;\n");
+            sb.append("import com.fasterxml.jackson.core.JsonParseException;\n");
+            sb.append("import com.fasterxml.jackson.core.JsonParser;\n");
+            sb.append("import com.fasterxml.jackson.core.JsonToken;\n");
+            if (hasOther) {
+                sb.append("import com.fasterxml.jackson.core.type.TypeReference;\n");
+                sb.append("import com.fasterxml.jackson.databind.JavaType;\n");
+            }
+            sb.append("\nimport java.io.IOException;\n");
+            if (!listTypes.isEmpty()) {
+                sb.append("import java.util.ArrayList;\n");
+                sb.append("import java.util.List;\n");
+            }
+            sb.append('\n');
+            sb.append("/**\n * {@link ").append(typeName).append("} 的JSON编解码器，由 VoCodecProcessor 生成\n */\n");
+            sb.append("@javax.annotation.processing.Generated(\"").append(VoCodecProcessor.class.getName()).append("\")\n");
+            sb.append("public final class ").append(codecName).append(" implements VoCodec<").append(typeName).append("> {\n\n");
+            sb.append("    public static final ").append(codecName).append(" INSTANCE = new ").append(codecName).append("();\n");
+            for (Map.Entry<String, Integer> entry : otherTypes.entrySet()) {
+                sb.append("    private static final JavaType TYPE_").append(entry.getValue())
+                        .append(" = JsonCodec.type(new TypeReference<").append(entry.getKey()).append(">() {});\n");
+            }
+            sb.append("\n    private ").append(codecName).append("() {\n    }\n\n");
+
+            sb.append("    @Override\n");
+            sb.append("    public Class<").append(typeName).append("> type() {\n");
+            sb.append("        return ").append(typeName).append(".class;\n    }\n\n");
+
+            sb.append("    @Override\n");
+            sb.append("    public ").append(typeName).append(" read(JsonParser parser) throws IOException {\n");
+            sb.append("        JsonToken token = parser.currentToken();\n");
+            sb.append("        if (token == JsonToken.VALUE_NULL) {\n            return null;\n        }\n");
+            sb.append("        if (token != JsonToken.START_OBJECT) {\n");
+            sb.append("            throw new JsonParseException(parser, \"期望JSON对象: ")
+                    .append(type.getSimpleName()).append(", 实际为: \" + token);\n        }\n");
+            sb.append("        ").append(typeName).append(" value = new ").append(typeName).append("();\n");
+            sb.append("        String field;\n");
+            sb.append("        while ((field = parser.nextFieldName()) != null) {\n");
+            sb.append("            parser.nextToken();\n");
+            sb.append("            switch (field) {\n");
+            sb.append(read);
+            sb.append("                default:\n                    parser.skipChildren();\n");
+            sb.append("            }\n        }\n        return value;\n    }\n\n");
+
+            sb.append("    @Override\n");
+            sb.append("    public void write(JsonGenerator generator, ").append(typeName).append(" value) throws IOException {\n");
+            sb.append("        if (value == null) {\n            generator.writeNull();\n            return;\n        }\n");
+            sb.append("        generator.writeStartObject();\n");
+            sb.append(write);
+            sb.append("        generator.writeEndObject();\n    }\n");
+            sb.append(helpers);
+            sb.append("}\n");
+            return sb.toString();
+        }
+
+        private Kind kindOf(TypeMirror t) {
+            switch (t.getKind()) {
+                case INT:
+                    return Kind.INT;
+                case LONG:
+                    return Kind.PRIMITIVE_LONG;
+                case BOOLEAN:
+                    return Kind.PRIMITIVE_BOOLEAN;
+                case DOUBLE:
+                    return Kind.PRIMITIVE_DOUBLE;
+                case DECLARED:
+                    break;
+                default:
+                    return Kind.OTHER;
+            }
+            TypeElement element = (TypeElement) types.asElement(t);
+            switch (element.getQualifiedName().toString()) {
+                case "java.lang.String":
+                    return Kind.STRING;
+                case "java.lang.Integer":
+                    return Kind.INTEGER;
+                case "java.lang.Long":
+                    return Kind.LONG;
+                case "java.lang.Boolean":
+                    return Kind.BOOLEAN;
+                case "java.lang.Double":
+                    return Kind.DOUBLE;
+                case "java.math.BigDecimal":
+                    return Kind.DECIMAL;
+                case "java.util.List":
+                    List<? extends TypeMirror> args = ((DeclaredType) t).getTypeArguments();
+                    return args.size() == 1 && kindOf(args.get(0)) != Kind.OTHER
+                            && args.get(0).getKind() == TypeKind.DECLARED ? Kind.LIST : Kind.OTHER;
+                default:
+                    return element.getAnnotation(GenerateCodec.class) != null ? Kind.CODEC : Kind.OTHER;
+            }
+        }
+
+        private String codecOf(TypeMirror t) {
+            TypeElement element = (TypeElement) types.asElement(t);
+            return packageOf(element) + "." + codecSimpleName(element) + ".INSTANCE";
+        }
+
+        private String typeSource(TypeMirror t) {
+            return t.getKind().isPrimitive()
+                    ? types.boxedClass((PrimitiveType) t).getQualifiedName().toString() : t.toString();
+        }
+
+        private void appendReadStatement(StringBuilder sb, String indent, TypeMirror t, String setter) {
+            Kind kind = kindOf(t);
+            String boxedReader;
+            switch (kind) {
+                case INT:
+                    boxedReader = "JsonStreams.intValue(parser)";
+                    break;
+                case PRIMITIVE_LONG:
+                    boxedReader = "JsonStreams.longValue(parser)";
+                    break;
+                case PRIMITIVE_BOOLEAN:
+                    boxedReader = "JsonStreams.boolValue(parser)";
+                    break;
+                case PRIMITIVE_DOUBLE:
+                    boxedReader = "JsonStreams.doubleValue(parser)";
+                    break;
+                default:
+                    sb.append(indent).append("value.").append(setter).append('(').append(readExpression(t)).append(");\n");
+                    return;
+            }
+            // 基本类型字段为null时保留默认值
+            String boxed = typeSource(t);
+            sb.append(indent).append("{\n");
+            sb.append(indent).append("    ").append(boxed).append(" v = ").append(boxedReader).append(";\n");
+            sb.append(indent).append("    if (v != null) {\n");
+            sb.append(indent).append("        value.").append(setter).append("(v);\n");
+            sb.append(indent).append("    }\n");
+            sb.append(indent).append("}\n");
+        }
+
+        private String readExpression(TypeMirror t) {
+            switch (kindOf(t)) {
+                case STRING:
+                    return "JsonStreams.text(parser)";
+                case INTEGER:
+                    return "JsonStreams.intValue(parser)";
+                case LONG:
+                    return "JsonStreams.longValue(parser)";
+                case BOOLEAN:
+                    return "JsonStreams.boolValue(parser)";
+                case DOUBLE:
+                    return "JsonStreams.doubleValue(parser)";
+                case DECIMAL:
+                    return "JsonStreams.decimalValue(parser)";
+                case CODEC:
+                    return codecOf(t) + ".read(parser)";
+                case LIST:
+                    return "readList" + listHelper(t) + "(parser)";
+                default:
+                    return "JsonCodec.reader(TYPE_" + otherType(t) + ").readValue(parser)";
+            }
+        }
+
+        private void appendWriteStatement(StringBuilder sb, String indent, TypeMirror t, String expression) {
+            Kind kind = kindOf(t);
+            switch (kind) {
+                case STRING:
+                    sb.append(indent).append("generator.writeString(").append(expression).append(");\n");
+                    return;
+                case INT:
+                case PRIMITIVE_LONG:
+                case PRIMITIVE_DOUBLE:
+                case DECIMAL:
+                    sb.append(indent).append("generator.writeNumber(").append(expression).append(");\n");
+                    return;
+                case PRIMITIVE_BOOLEAN:
+                    sb.append(indent).append("generator.writeBoolean(").append(expression).append(");\n");
+                    return;
+                case INTEGER:
+                case LONG:
+                case DOUBLE:
+                case BOOLEAN:
+                    String writer = kind == Kind.BOOLEAN ? "writeBoolean" : "writeNumber";
+                    sb.append(indent).append("{\n");
+                    sb.append(indent).append("    ").append(t).append(" v = ").append(expression).append(";\n");
+                    sb.append(indent).append("    if (v == null) {\n");
+                    sb.append(indent).append("        generator.writeNull();\n");
+                    sb.append(indent).append("    } else {\n");
+                    sb.append(indent).append("        generator.").append(writer).append("(v);\n");
+                    sb.append(indent).append("    }\n");
+                    sb.append(indent).append("}\n");
+                    return;
+                case CODEC:
+                    sb.append(indent).append(codecOf(t)).append(".write(generator, ").append(expression).append(");\n");
+                    return;
+                case LIST:
+                    sb.append(indent).append("writeList").append(listHelper(t)).append("(generator, ")
+                            .append(expression).append(");\n");
+                    return;
+                default:
+                    sb.append(indent).append("JsonCodec.mapper().writerFor(TYPE_").append(otherType(t))
+                            .append(").writeValue(generator, ").append(expression).append(");\n");
+            }
+        }
+
+        private int otherType(TypeMirror t) {
+            return otherTypes.computeIfAbsent(typeSource(t), key -> otherTypes.size());
+        }
+
+        /**
+         * 为列表类型生成读写辅助方法，返回方法序号
+         */
+        private int listHelper(TypeMirror listType) {
+            String key = listType.toString();
+            Integer index = listTypes.get(key);
+            if (index != null) {
+                return index;
+            }
+            int n = listTypes.size();
+            listTypes.put(key, n);
+            TypeMirror element = ((DeclaredType) listType).getTypeArguments().get(0);
+            String elementSource = element.toString();
+
+            StringBuilder method = new StringBuilder();
+            method.append("\n    private static List<").append(elementSource).append("> readList").append(n)
+                    .append("(JsonParser parser) throws IOException {\n");
+            method.append("        JsonToken token = parser.currentToken();\n");
+            method.append("        if (token == JsonToken.VALUE_NULL) {\n            return null;\n        }\n");
+            method.append("        if (token != JsonToken.START_ARRAY) {\n");
+            method.append("            throw new JsonParseException(parser, \"期望JSON数组, 实际为: \" + token);\n        }\n");
+            method.append("        List<").append(elementSource).append("> list = new ArrayList<>();\n");
+            method.append("        while (parser.nextToken() != JsonToken.END_ARRAY) {\n");
+            method.append("            list.add(").append(readExpression(element)).append(");\n");
+            method.append("        }\n        return list;\n    }\n");
+
+            method.append("\n    private static void writeList").append(n).append("(JsonGenerator generator, List<")
+                    .append(elementSource).append("> list) throws IOException {\n");
+            method.append("        if (list == null) {\n            generator.writeNull();\n            return;\n        }\n");
+            method.append("        generator.writeStartArray();\n");
+            method.append("        for (").append(elementSource).append(" item : list) {\n");
+            appendWriteStatement(method, "            ", element, "item");
+            method.append("        }\n        generator.writeEndArray();\n    }\n");
+            helpers.append(method);
+            return n;
+        }
+    }
+}